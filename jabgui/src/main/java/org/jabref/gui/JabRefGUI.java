@@ -29,13 +29,16 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.gui.util.WebViewStore;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyRegisterer;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
@@ -137,6 +140,9 @@ public class JabRefGUI extends Application {
         DirectoryMonitor directoryMonitor = new DirectoryMonitor();
         Injector.setModelOrService(DirectoryMonitor.class, directoryMonitor);
 
+        CachingLatexParser latexParser = new CachingLatexParser(Directories.getLatexCitationsIndexDirectory().resolve("citations.mv"));
+        Injector.setModelOrService(CachingLatexParser.class, latexParser);
+
         JabRefGUI.remoteListenerServerManager = new RemoteListenerServerManager();
         Injector.setModelOrService(RemoteListenerServerManager.class, remoteListenerServerManager);
 
@@ -246,6 +252,9 @@ public class JabRefGUI extends Application {
                 event,
                 preferences.getKeyBindingRepository()));
 
+        // Embedding files in the background must not slow down typing
+        scene.addEventFilter(KeyEvent.KEY_TYPED, _ -> aiService.getIngestionService().notifyUserInput());
+
         mainStage.setTitle(JabRefFrame.FRAME_TITLE);
         mainStage.getIcons().addAll(IconTheme.getLogoSetFX());
         mainStage.setScene(scene);
@@ -410,6 +419,11 @@ public class JabRefGUI extends Application {
         LOGGER.trace("Shutting down directoryMonitor");
         DirectoryMonitor directoryMonitor = Injector.instantiateModelOrService(DirectoryMonitor.class);
         directoryMonitor.shutdown();
+        LOGGER.trace("Closing LaTeX citations index");
+        CachingLatexParser latexParser = Injector.instantiateModelOrService(CachingLatexParser.class);
+        latexParser.close();
+        LOGGER.trace("Closing journal abbreviations");
+        Injector.instantiateModelOrService(JournalAbbreviationRepository.class).close();
         LOGGER.trace("Shutting down postgreServer");
         PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
         postgreServer.shutdown();
@@ -78,6 +78,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.BibEntry;
@@ -1030,8 +1031,17 @@ public class LibraryTab extends Tab {
 
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
+            if (fieldChangedEvent.isPartOfChangeBatch()) {
+                // Indexed together with the other changes of the batch
+                return;
+            }
             indexManager.updateEntry(fieldChangedEvent);
         }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            indexManager.updateEntries(entriesChangedEvent);
+        }
     }
 
     public static class DatabaseNotification extends NotificationPane {
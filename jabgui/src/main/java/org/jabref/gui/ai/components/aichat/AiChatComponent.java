@@ -17,6 +17,7 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.StateManager;
 import org.jabref.gui.ai.components.aichat.chathistory.ChatHistoryComponent;
 import org.jabref.gui.ai.components.aichat.chatprompt.ChatPromptComponent;
 import org.jabref.gui.ai.components.util.Loadable;
@@ -81,6 +82,7 @@ public class AiChatComponent extends VBox {
                            BibDatabaseContext bibDatabaseContext,
                            AiPreferences aiPreferences,
                            DialogService dialogService,
+                           StateManager stateManager,
                            TaskExecutor taskExecutor
     ) {
         this.aiService = aiService;
@@ -90,7 +92,7 @@ public class AiChatComponent extends VBox {
         this.dialogService = dialogService;
         this.taskExecutor = taskExecutor;
 
-        this.aiChatLogic = aiService.getAiChatService().makeChat(name, chatHistory, entries, bibDatabaseContext);
+        this.aiChatLogic = aiService.getAiChatService().makeChat(name, chatHistory, entries, bibDatabaseContext, stateManager.getIndexManager(bibDatabaseContext));
 
         aiService.getIngestionService().ingest(name, ListUtil.getLinkedFiles(entries).toList(), bibDatabaseContext);
 
@@ -5,6 +5,7 @@ import javafx.collections.ObservableList;
 import javafx.scene.Node;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.StateManager;
 import org.jabref.gui.ai.components.util.EmbeddingModelGuardedComponent;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.ai.AiPreferences;
@@ -31,6 +32,7 @@ public class AiChatGuardedComponent extends EmbeddingModelGuardedComponent {
     private final ObservableList<BibEntry> entries;
     private final AiService aiService;
     private final DialogService dialogService;
+    private final StateManager stateManager;
     private final AiPreferences aiPreferences;
     private final TaskExecutor taskExecutor;
 
@@ -40,6 +42,7 @@ public class AiChatGuardedComponent extends EmbeddingModelGuardedComponent {
                                   ObservableList<BibEntry> entries,
                                   AiService aiService,
                                   DialogService dialogService,
+                                  StateManager stateManager,
                                   AiPreferences aiPreferences,
                                   ExternalApplicationsPreferences externalApplicationsPreferences,
                                   TaskExecutor taskExecutor
@@ -52,6 +55,7 @@ public class AiChatGuardedComponent extends EmbeddingModelGuardedComponent {
         this.entries = entries;
         this.aiService = aiService;
         this.dialogService = dialogService;
+        this.stateManager = stateManager;
         this.aiPreferences = aiPreferences;
         this.taskExecutor = taskExecutor;
 
@@ -68,6 +72,7 @@ public class AiChatGuardedComponent extends EmbeddingModelGuardedComponent {
                 bibDatabaseContext,
                 aiPreferences,
                 dialogService,
+                stateManager,
                 taskExecutor
         );
     }
@@ -5,6 +5,7 @@ import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.StateManager;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.gui.util.BaseWindow;
 import org.jabref.logic.ai.AiPreferences;
@@ -19,6 +20,7 @@ import dev.langchain4j.data.message.ChatMessage;
 public class AiChatWindow extends BaseWindow {
     private final AiService aiService;
     private final DialogService dialogService;
+    private final StateManager stateManager;
     private final AiPreferences aiPreferences;
     private final ExternalApplicationsPreferences externalApplicationsPreferences;
     private final TaskExecutor taskExecutor;
@@ -28,12 +30,14 @@ public class AiChatWindow extends BaseWindow {
 
     public AiChatWindow(AiService aiService,
                         DialogService dialogService,
+                        StateManager stateManager,
                         AiPreferences aiPreferences,
                         ExternalApplicationsPreferences externalApplicationsPreferences,
                         TaskExecutor taskExecutor
     ) {
         this.aiService = aiService;
         this.dialogService = dialogService;
+        this.stateManager = stateManager;
         this.aiPreferences = aiPreferences;
         this.externalApplicationsPreferences = externalApplicationsPreferences;
         this.taskExecutor = taskExecutor;
@@ -51,6 +55,7 @@ public class AiChatWindow extends BaseWindow {
                                 entries,
                                 aiService,
                                 dialogService,
+                                stateManager,
                                 aiPreferences,
                                 externalApplicationsPreferences,
                                 taskExecutor
@@ -1,6 +1,7 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Comparator;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jabref.logic.bibtex.comparator.EntryComparator;
@@ -17,10 +18,16 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
  */
 public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
 
-    private final BibDatabase database;
+    private final SuggestionIndex<BibEntry> index;
 
     public BibEntrySuggestionProvider(BibDatabase database) {
-        this.database = database;
+        // Entries are mutable, thus they are told apart by identity
+        this.index = new SuggestionIndex<>(
+                database,
+                InternalField.KEY_FIELD::equals,
+                entry -> entry.hasCitationKey() ? Stream.of(entry) : Stream.empty(),
+                entry -> entry.getCitationKey().orElse(""),
+                Equivalence.identity());
     }
 
     @Override
@@ -41,8 +48,13 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
                     .orElse(false);
     }
 
+    @Override
+    Optional<SuggestionIndex<BibEntry>> getIndex() {
+        return Optional.of(index);
+    }
+
     @Override
     public Stream<BibEntry> getSource() {
-        return database.getEntries().parallelStream();
+        return index.getSuggestions();
     }
 }
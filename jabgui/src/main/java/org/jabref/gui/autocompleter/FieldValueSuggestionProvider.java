@@ -1,26 +1,38 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import com.google.common.base.Equivalence;
+
 /**
  * Stores the full content of one field.
  */
 class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        Objects.requireNonNull(field);
+        this.index = new SuggestionIndex<>(
+                database,
+                field::equals,
+                entry -> entry.getField(field).stream(),
+                value -> value,
+                Equivalence.equals());
+    }
+
+    @Override
+    Optional<SuggestionIndex<String>> getIndex() {
+        return Optional.of(index);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return index.getSuggestions();
     }
 }
@@ -7,6 +7,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
@@ -18,6 +19,11 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
         this.repository = repository;
     }
 
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return Streams.concat(super.getMatches(request), repository.getFullNames().stream().filter(candidate -> isMatch(candidate, request)));
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
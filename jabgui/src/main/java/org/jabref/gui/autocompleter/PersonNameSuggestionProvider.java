@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
@@ -23,7 +24,7 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
-    private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(List.of(Objects.requireNonNull(field)), database);
@@ -33,7 +34,12 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         super();
 
         this.fields = Objects.requireNonNull(fields);
-        this.database = database;
+        this.index = new SuggestionIndex<>(
+                database,
+                fields::contains,
+                this::getAuthors,
+                author -> author.getFamilyGiven(false),
+                Equivalence.equals());
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,10 +67,13 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getFamilyGiven(false), request.getUserText());
     }
 
+    @Override
+    Optional<SuggestionIndex<Author>> getIndex() {
+        return Optional.of(index);
+    }
+
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(this::getAuthors);
+        return index.getSuggestions();
     }
 }
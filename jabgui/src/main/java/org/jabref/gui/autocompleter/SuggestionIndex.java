@@ -0,0 +1,225 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.base.Equivalence;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * The suggestions of a {@link SuggestionProvider} for a library, kept up to date with the changes of the library.
+ * <p>
+ * Each suggestion is stored once, together with the number of entries it occurs in.
+ * A sorted map from the lower-cased words of the suggestions finds the suggestions having a word starting with the typed text.
+ * Thus, typing in a field editor does not go through all entries of the library. Only if there are too few of these suggestions, all suggestions are searched.
+ * <p>
+ * The index is built when it is used for the first time. Changes of the library made meanwhile are queued and applied after the build, so that editing does not wait for it.
+ *
+ * @param <T> Type of suggestions
+ */
+class SuggestionIndex<T> {
+
+    private final BibDatabase database;
+    private final Predicate<Field> isIndexedField;
+    private final Function<BibEntry, Stream<T>> suggestionsOfEntry;
+    private final Function<T, String> textOf;
+    private final Equivalence<T> equivalence;
+
+    // Modified by the thread building the index and afterwards only while holding the lock of this index. Reading does not lock, as missing the latest change does not harm a suggestion list.
+    private final Map<BibEntry, List<Equivalence.Wrapper<T>>> suggestionsByEntry = new IdentityHashMap<>();
+    private final Map<Equivalence.Wrapper<T>, IndexedSuggestion> suggestions = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<Equivalence.Wrapper<T>>> suggestionsByWord = new ConcurrentSkipListMap<>();
+    private volatile boolean indexed;
+
+    // Held during the whole build, so that concurrent first uses build the index only once
+    private final Object buildLock = new Object();
+    // Guarded by the lock of this index
+    private boolean indexing;
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+
+    /**
+     * @param isIndexedField     the fields the suggestions are taken from
+     * @param suggestionsOfEntry the suggestions of an entry
+     * @param textOf             the text of a suggestion the typed text is compared with
+     * @param equivalence        the suggestions that are stored once. It must not depend on mutable state, as suggestions of different entries are counted by it.
+     */
+    SuggestionIndex(BibDatabase database,
+                    Predicate<Field> isIndexedField,
+                    Function<BibEntry, Stream<T>> suggestionsOfEntry,
+                    Function<T, String> textOf,
+                    Equivalence<T> equivalence) {
+        this.database = database;
+        this.isIndexedField = isIndexedField;
+        this.suggestionsOfEntry = suggestionsOfEntry;
+        this.textOf = textOf;
+        this.equivalence = equivalence;
+
+        database.registerListener(this);
+    }
+
+    /**
+     * @return all suggestions, each one once
+     */
+    Stream<T> getSuggestions() {
+        ensureIndexed();
+        return suggestions.keySet().stream().map(Equivalence.Wrapper::get);
+    }
+
+    /**
+     * Returns the suggestions having a word that starts with the given text, followed by all suggestions.
+     * The stream is lazy: the suggestions are only searched completely if the caller consumes more suggestions than start with the text.
+     */
+    Stream<T> getCandidates(String text) {
+        ensureIndexed();
+        String prefix = text.toLowerCase(Locale.ROOT);
+        Stream<T> startingWithText = suggestionsByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                                                      .values()
+                                                      .stream()
+                                                      .flatMap(Set::stream)
+                                                      .map(Equivalence.Wrapper::get);
+        return Stream.concat(startingWithText, getSuggestions());
+    }
+
+    private void ensureIndexed() {
+        if (indexed) {
+            return;
+        }
+        synchronized (buildLock) {
+            if (indexed) {
+                return;
+            }
+            synchronized (this) {
+                indexing = true;
+            }
+            database.getEntries().forEach(this::indexEntry);
+            synchronized (this) {
+                // Indexing an entry is idempotent, thus changes of entries the build already saw are applied correctly
+                pendingChanges.forEach(Runnable::run);
+                pendingChanges.clear();
+                indexing = false;
+                indexed = true;
+            }
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        apply(() -> event.getBibEntries().forEach(this::indexEntry));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        apply(() -> event.getBibEntries().forEach(this::removeEntry));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        if (isIndexedField.test(event.getField())) {
+            apply(() -> indexEntry(event.getBibEntry()));
+        }
+    }
+
+    /**
+     * Applies the given change of the library to the index. While the index is built, the change is queued instead. Before the build starts, it is dropped, as the build sees it.
+     */
+    private synchronized void apply(Runnable change) {
+        if (indexed) {
+            change.run();
+        } else if (indexing) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * Replaces the suggestions of the given entry by its current ones. Thus, indexing an entry twice does not count its suggestions twice.
+     */
+    private void indexEntry(BibEntry entry) {
+        removeEntry(entry);
+        List<Equivalence.Wrapper<T>> entrySuggestions = suggestionsOfEntry.apply(entry)
+                                                                           .map(equivalence::wrap)
+                                                                           .distinct()
+                                                                           .toList();
+        if (entrySuggestions.isEmpty()) {
+            return;
+        }
+        suggestionsByEntry.put(entry, entrySuggestions);
+        entrySuggestions.forEach(this::addSuggestion);
+    }
+
+    private void removeEntry(BibEntry entry) {
+        List<Equivalence.Wrapper<T>> entrySuggestions = suggestionsByEntry.remove(entry);
+        if (entrySuggestions != null) {
+            entrySuggestions.forEach(this::removeSuggestion);
+        }
+    }
+
+    private void addSuggestion(Equivalence.Wrapper<T> suggestion) {
+        IndexedSuggestion indexedSuggestion = suggestions.get(suggestion);
+        if (indexedSuggestion != null) {
+            indexedSuggestion.count++;
+            return;
+        }
+        List<String> words = getWords(textOf.apply(suggestion.get()));
+        suggestions.put(suggestion, new IndexedSuggestion(words));
+        for (String word : words) {
+            suggestionsByWord.computeIfAbsent(word, _ -> ConcurrentHashMap.newKeySet()).add(suggestion);
+        }
+    }
+
+    private void removeSuggestion(Equivalence.Wrapper<T> suggestion) {
+        IndexedSuggestion indexedSuggestion = suggestions.get(suggestion);
+        if (indexedSuggestion == null || --indexedSuggestion.count > 0) {
+            return;
+        }
+        suggestions.remove(suggestion);
+        // The words are the ones of the time the suggestion was added, in case the suggestion changed since (e.g., the citation key of an entry)
+        for (String word : indexedSuggestion.words) {
+            Set<Equivalence.Wrapper<T>> suggestionsWithWord = suggestionsByWord.get(word);
+            if (suggestionsWithWord != null) {
+                suggestionsWithWord.remove(suggestion);
+                if (suggestionsWithWord.isEmpty()) {
+                    suggestionsByWord.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the whole text and its single words, lower-cased
+     */
+    private static List<String> getWords(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        return Stream.concat(Stream.of(lowerCaseText), StringUtil.getStringAsWords(lowerCaseText).stream())
+                     .filter(word -> !word.isEmpty())
+                     .distinct()
+                     .toList();
+    }
+
+    private static class IndexedSuggestion {
+        private final List<String> words;
+        // Number of entries having this suggestion
+        private int count = 1;
+
+        IndexedSuggestion(List<String> words) {
+            this.words = words;
+        }
+    }
+}
@@ -29,6 +29,7 @@ package org.jabref.gui.autocompleter;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,13 +47,12 @@ public abstract class SuggestionProvider<T> {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return getMatches(request).map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                                      .distinct()
+                                      .limit(10)
+                                      .map(Equivalence.Wrapper::get)
+                                      .sorted(comparator)
+                                      .collect(Collectors.toList());
         } else {
             return List.of();
         }
@@ -80,5 +80,22 @@ public abstract class SuggestionProvider<T> {
      */
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
+    /**
+     * Get the candidates matching the request. A candidate may occur several times.
+     * Only the first few distinct candidates are consumed, thus the most relevant ones should come first.
+     */
+    protected Stream<T> getMatches(ISuggestionRequest request) {
+        Stream<T> candidates = getIndex().map(index -> index.getCandidates(request.getUserText()))
+                                         .orElseGet(this::getSource);
+        return candidates.filter(candidate -> isMatch(candidate, request));
+    }
+
+    /**
+     * @return the index of the suggestions of the library, if this provider keeps one. Then, the candidates of a request are looked up in the index instead of going through all suggestions.
+     */
+    Optional<SuggestionIndex<T>> getIndex() {
+        return Optional.empty();
+    }
+
     public abstract Stream<T> getSource();
 }
@@ -1,6 +1,8 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
@@ -8,9 +10,13 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Creates the suggestion providers of a library. There is one provider per field, so that the {@link SuggestionIndex} of a field is built and kept up to date once, no matter how many field editors use it.
+ */
 public class SuggestionProviders {
 
     private final boolean isEmpty;
+    private final Map<Field, SuggestionProvider<?>> providers = new ConcurrentHashMap<>();
     private BibDatabase database;
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
@@ -31,6 +37,10 @@ public class SuggestionProviders {
             return new EmptySuggestionProvider();
         }
 
+        return providers.computeIfAbsent(field, this::createForField);
+    }
+
+    private SuggestionProvider<?> createForField(Field field) {
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
             return new PersonNameSuggestionProvider(field, database);
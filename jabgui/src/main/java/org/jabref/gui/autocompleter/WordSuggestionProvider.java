@@ -1,28 +1,38 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import com.google.common.base.Equivalence;
+
 /**
  * Stores all words in the given field.
  */
 public class WordSuggestionProvider extends StringSuggestionProvider {
 
-    private final Field field;
-    private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
-        this.field = Objects.requireNonNull(field);
-        this.database = database;
+        Objects.requireNonNull(field);
+        this.index = new SuggestionIndex<>(
+                database,
+                field::equals,
+                entry -> entry.getFieldAsWords(field).stream(),
+                word -> word,
+                Equivalence.equals());
+    }
+
+    @Override
+    Optional<SuggestionIndex<String>> getIndex() {
+        return Optional.of(index);
     }
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
-                       .parallelStream()
-                       .flatMap(entry -> entry.getFieldAsWords(field).stream());
+        return index.getSuggestions();
     }
 }
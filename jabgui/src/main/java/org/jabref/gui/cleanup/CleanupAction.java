@@ -25,6 +25,7 @@ import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -153,9 +154,12 @@ public class CleanupAction extends SimpleCommand {
         // undo granularity is on set of all entries
         NamedCompound ce = new NamedCompound(Localization.lang("Clean up entries"));
 
-        for (BibEntry entry : List.copyOf(stateManager.getSelectedEntries())) {
-            if (doCleanup(databaseContext, cleanupPreferences, entry, ce)) {
-                modifiedEntriesCount++;
+        // Listeners get the changes of all entries at once
+        try (BibDatabase.ChangeBatch _ = databaseContext.getDatabase().startChangeBatch()) {
+            for (BibEntry entry : List.copyOf(stateManager.getSelectedEntries())) {
+                if (doCleanup(databaseContext, cleanupPreferences, entry, ce)) {
+                    modifiedEntriesCount++;
+                }
             }
         }
 
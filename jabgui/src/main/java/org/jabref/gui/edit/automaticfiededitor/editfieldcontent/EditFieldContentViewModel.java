@@ -32,6 +32,7 @@ import de.saxsys.mvvmfx.utils.validation.Validator;
 public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabViewModel {
     public static final int TAB_INDEX = 0;
 
+    private final BibDatabase database;
     private final List<BibEntry> selectedEntries;
 
     private final StringProperty fieldValue = new SimpleStringProperty("");
@@ -45,6 +46,7 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
 
     public EditFieldContentViewModel(BibDatabase database, List<BibEntry> selectedEntries, StateManager stateManager) {
         super(database, stateManager);
+        this.database = database;
         this.selectedEntries = new ArrayList<>(selectedEntries);
 
         fieldValidator = new FunctionBasedValidator<>(selectedField, field -> {
@@ -70,12 +72,14 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
     public void clearSelectedField() {
         NamedCompound clearFieldEdit = new NamedCompound("CLEAR_SELECTED_FIELD");
         int affectedEntriesCount = 0;
-        for (BibEntry entry : selectedEntries) {
-            Optional<String> oldFieldValue = entry.getField(selectedField.get());
-            if (oldFieldValue.isPresent()) {
-                entry.clearField(selectedField.get())
-                        .ifPresent(fieldChange -> clearFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
-                affectedEntriesCount++;
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            for (BibEntry entry : selectedEntries) {
+                Optional<String> oldFieldValue = entry.getField(selectedField.get());
+                if (oldFieldValue.isPresent()) {
+                    entry.clearField(selectedField.get())
+                            .ifPresent(fieldChange -> clearFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
+                    affectedEntriesCount++;
+                }
             }
         }
 
@@ -93,14 +97,16 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
         NamedCompound setFieldEdit = new NamedCompound("CHANGE_SELECTED_FIELD");
         String toSetFieldValue = fieldValue.getValue();
         int affectedEntriesCount = 0;
-        for (BibEntry entry : selectedEntries) {
-            Optional<String> oldFieldValue = entry.getField(selectedField.get());
-            if (oldFieldValue.isEmpty() || overwriteFieldContent.get()) {
-                entry.setField(selectedField.get(), toSetFieldValue)
-                     .ifPresent(fieldChange -> setFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
-                fieldValue.set("");
-                // TODO: increment affected entries only when UndoableFieldChange.isPresent()
-                affectedEntriesCount++;
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            for (BibEntry entry : selectedEntries) {
+                Optional<String> oldFieldValue = entry.getField(selectedField.get());
+                if (oldFieldValue.isEmpty() || overwriteFieldContent.get()) {
+                    entry.setField(selectedField.get(), toSetFieldValue)
+                         .ifPresent(fieldChange -> setFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
+                    fieldValue.set("");
+                    // TODO: increment affected entries only when UndoableFieldChange.isPresent()
+                    affectedEntriesCount++;
+                }
             }
         }
 
@@ -118,17 +124,19 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
         NamedCompound appendToFieldEdit = new NamedCompound("APPEND_TO_SELECTED_FIELD");
         String toAppendFieldValue = fieldValue.getValue();
         int affectedEntriesCount = 0;
-        for (BibEntry entry : selectedEntries) {
-            Optional<String> oldFieldValue = entry.getField(selectedField.get());
-            // Append button should be disabled if 'overwriteNonEmptyFields' is false
-            if (overwriteFieldContent.get()) {
-                String newFieldValue = oldFieldValue.orElse("").concat(toAppendFieldValue);
-
-                entry.setField(selectedField.get(), newFieldValue)
-                        .ifPresent(fieldChange -> appendToFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
-
-                fieldValue.set("");
-                affectedEntriesCount++;
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            for (BibEntry entry : selectedEntries) {
+                Optional<String> oldFieldValue = entry.getField(selectedField.get());
+                // Append button should be disabled if 'overwriteNonEmptyFields' is false
+                if (overwriteFieldContent.get()) {
+                    String newFieldValue = oldFieldValue.orElse("").concat(toAppendFieldValue);
+
+                    entry.setField(selectedField.get(), newFieldValue)
+                            .ifPresent(fieldChange -> appendToFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
+
+                    fieldValue.set("");
+                    affectedEntriesCount++;
+                }
             }
         }
 
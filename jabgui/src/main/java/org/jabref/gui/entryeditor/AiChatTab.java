@@ -137,6 +137,7 @@ public class AiChatTab extends EntryEditorTab {
                 FXCollections.observableArrayList(new ArrayList<>(List.of(entry))),
                 aiService,
                 dialogService,
+                stateManager,
                 aiPreferences,
                 externalApplicationsPreferences,
                 taskExecutor
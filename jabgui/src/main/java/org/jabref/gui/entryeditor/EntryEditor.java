@@ -61,6 +61,7 @@ import org.jabref.logic.importer.EntryBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.importer.fileformat.PdfMergeMetadataImporter;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.entry.BibEntry;
@@ -113,6 +114,7 @@ public class EntryEditor extends BorderPane implements PreviewControls {
     @Inject private ThemeManager themeManager;
     @Inject private FileUpdateMonitor fileMonitor;
     @Inject private DirectoryMonitor directoryMonitor;
+    @Inject private CachingLatexParser latexParser;
     @Inject private CountingUndoManager undoManager;
     @Inject private BibEntryTypesManager bibEntryTypesManager;
     @Inject private KeyBindingRepository keyBindingRepository;
@@ -335,7 +337,7 @@ public class EntryEditor extends BorderPane implements PreviewControls {
                 keyBindingRepository,
                 stateManager);
         tabs.add(sourceTab);
-        tabs.add(new LatexCitationsTab(preferences, dialogService, stateManager, directoryMonitor));
+        tabs.add(new LatexCitationsTab(preferences, dialogService, stateManager, directoryMonitor, latexParser));
         tabs.add(new FulltextSearchResultsTab(stateManager, preferences, dialogService, taskExecutor));
         tabs.add(new AiSummaryTab(aiService, dialogService, stateManager, preferences));
         tabs.add(new AiChatTab(aiService, dialogService, preferences, stateManager, taskExecutor));
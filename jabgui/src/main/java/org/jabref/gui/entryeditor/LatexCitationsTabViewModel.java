@@ -3,7 +3,9 @@ package org.jabref.gui.entryeditor;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.beans.property.BooleanProperty;
@@ -30,7 +32,7 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.DirectoryMonitor;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexParser;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -68,7 +70,7 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
     private final StringProperty searchError = new SimpleStringProperty("");
     private final BooleanProperty updateStatusOnCreate = new SimpleBooleanProperty(false);
 
-    private final DefaultLatexParser latexParser;
+    private final LatexParser latexParser;
     private final LatexParserResults latexFiles;
     private final DirectoryMonitor directoryMonitor;
     private final FileAlterationListener listener;
@@ -79,12 +81,13 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
     public LatexCitationsTabViewModel(GuiPreferences preferences,
                                       DialogService dialogService,
-                                      DirectoryMonitor directoryMonitor) {
+                                      DirectoryMonitor directoryMonitor,
+                                      LatexParser latexParser) {
         this.preferences = preferences;
         this.dialogService = dialogService;
         this.directoryMonitor = directoryMonitor;
 
-        this.latexParser = new DefaultLatexParser();
+        this.latexParser = latexParser;
         this.latexFiles = new LatexParserResults();
         this.listener = new CitationsAlterationListener();
 
@@ -194,7 +197,12 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         return preferences.getEntryEditorPreferences().shouldShowLatexCitationsTab();
     }
 
+    /**
+     * Collects the created and changed files of a check cycle and parses them together (in parallel) at the end of the cycle
+     */
     private class CitationsAlterationListener implements FileAlterationListener {
+        private final List<Path> filesToParse = new ArrayList<>();
+
         @Override
         public void onStart(FileAlterationObserver observer) {
             if (!updateStatusOnCreate.get()) {
@@ -204,6 +212,22 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
         @Override
         public void onStop(FileAlterationObserver observer) {
+            if (!filesToParse.isEmpty()) {
+                LatexParserResults results = latexParser.parse(List.copyOf(filesToParse));
+                filesToParse.clear();
+                latexFiles.addAll(results);
+
+                Optional<String> citationKey = currentEntry.getCitationKey();
+                if (citationKey.isPresent()) {
+                    Collection<Citation> citations = results.getCitationsByKey(citationKey.get());
+                    UiTaskExecutor.runInJavaFXThread(() -> citationList.addAll(citations));
+                }
+
+                if (updateStatusOnCreate.get()) {
+                    updateStatus();
+                }
+            }
+
             if (!updateStatusOnCreate.get()) {
                 updateStatusOnCreate.set(true);
                 updateStatus();
@@ -212,24 +236,15 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
         @Override
         public void onFileCreate(File file) {
-            Path path = file.toPath();
-            LatexParserResult result = latexParser.parse(path).get();
-            latexFiles.add(path, result);
-
-            Optional<String> citationKey = currentEntry.getCitationKey();
-            if (citationKey.isPresent()) {
-                Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
-                UiTaskExecutor.runInJavaFXThread(() -> citationList.addAll(citations));
-            }
-
-            if (updateStatusOnCreate.get()) {
-                updateStatus();
-            }
+            filesToParse.add(file.toPath());
         }
 
         @Override
         public void onFileDelete(File file) {
             LatexParserResult result = latexFiles.remove(file.toPath());
+            if (result == null) {
+                return;
+            }
 
             Optional<String> citationKey = currentEntry.getCitationKey();
             if (citationKey.isPresent()) {
@@ -243,7 +258,6 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         public void onFileChange(File file) {
             onFileDelete(file);
             onFileCreate(file);
-            updateStatus();
         }
 
         @Override
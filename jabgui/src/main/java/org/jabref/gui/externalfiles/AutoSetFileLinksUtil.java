@@ -14,6 +14,7 @@ import org.jabref.gui.externalfiletype.UnknownExternalFileType;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectorySnapshot;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -71,11 +72,21 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, BiConsumer<LinkedFile, BibEntry> onAddLinkedFile) {
         LinkFilesResult result = new LinkFilesResult();
 
+        // The directories are read only once for all entries
+        DirectorySnapshot directorySnapshot = null;
+        try {
+            directorySnapshot = DirectorySnapshot.of(directories);
+        } catch (IOException e) {
+            result.addFileException(e);
+            LOGGER.error("Problem reading the file directories", e);
+        }
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences, directorySnapshot);
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = findAssociatedNotLinkedFiles(entry, fileFinder);
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -92,6 +103,10 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
+        return findAssociatedNotLinkedFiles(entry, FileFinders.constructFromConfiguration(autoLinkPreferences));
+    }
+
+    private List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry, FileFinder fileFinder) throws IOException {
         List<LinkedFile> linkedFiles = new ArrayList<>();
 
         List<String> extensions = externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
@@ -99,7 +114,6 @@ public class AutoSetFileLinksUtil {
         LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
         // Run the search operation
-        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
         List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
 
         // Collect the found files that are not yet linked
@@ -1,18 +1,16 @@
 package org.jabref.gui.externalfiles;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
-
-import javafx.scene.control.CheckBoxTreeItem;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 
 import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.logic.FilePreferences;
@@ -27,6 +25,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Util class for searching files on the file system which are not linked to a provided {@link BibDatabase}.
+ * <p>
+ * The directories are crawled in parallel. Each subdirectory of the search directory is reported to {@link #onSubtreeFound(Consumer)} as soon as it is crawled completely, so that results can be shown before the whole tree is walked.
  */
 public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
@@ -38,6 +38,8 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     private final ExternalFileSorter sorter;
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private Consumer<FileNodeViewModel> onSubtreeFound = _ -> {
+    };
 
     public UnlinkedFilesCrawler(Path directory, Filter<Path> fileFilter, DateRange dateFilter, ExternalFileSorter sorter, BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         this.directory = directory;
@@ -48,6 +50,14 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         this.filePreferences = filePreferences;
     }
 
+    /**
+     * @param onSubtreeFound called from a background thread for each subdirectory of the search directory which contains unlinked files, as soon as it is crawled completely
+     */
+    public UnlinkedFilesCrawler onSubtreeFound(Consumer<FileNodeViewModel> onSubtreeFound) {
+        this.onSubtreeFound = onSubtreeFound;
+        return this;
+    }
+
     @Override
     public FileNodeViewModel call() throws IOException {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
@@ -57,16 +67,9 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     /**
      * Searches recursively all files in the specified directory. <br>
      * <br>
-     * All files matched by the given {@link UnlinkedPDFFileFilter} are taken into the resulting tree. <br>
-     * <br>
-     * The result will be a tree structure of nodes of the type {@link CheckBoxTreeItem}. <br>
-     * <br>
-     * The user objects that are attached to the nodes is the {@link FileNodeViewModel}, which wraps the {@link
-     * File}-Object. <br>
+     * All files matched by the given {@link UnlinkedPDFFileFilter} and not ignored by a <code>.gitignore</code> are taken into the resulting tree. <br>
      * <br>
-     * For ensuring the capability to cancel the work of this recursive method, the first position in the integer array
-     * 'state' must be set to 1, to keep the recursion running. When the states value changes, the method will resolve
-     * its recursion and return what it has saved so far.
+     * The subdirectories are searched in parallel. If the task is cancelled, the search stops and returns what it has found so far.
      * <br>
      * The files are filtered according to the {@link DateRange} filter value
      * and then sorted according to the {@link ExternalFileSorter} value.
@@ -82,62 +85,111 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
         }
 
-        FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
-
-        // Map from isDirectory (true/false) to full path
-        // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
-        // Filters:
-        //   1. UnlinkedPDFFileFilter
-        //   2. GitIgnoreFilter
-        ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
-        Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, filters).spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+        long startTime = System.currentTimeMillis();
+        FileNodeViewModel result = ForkJoinPool.commonPool().invoke(new DirectoryCrawl(directory, 0, unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory)));
+        LOGGER.debug("Searching unlinked files in {} took {} ms", directory, System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private static boolean accept(Filter<Path> filter, Path path) {
+        try {
+            return filter.accept(path);
         } catch (IOException e) {
-            LOGGER.error("Error while searching files", e);
-            return fileNodeViewModelForCurrentDirectory;
+            LOGGER.error("Could not apply filter", e);
+            return true;
         }
-        List<Path> subDirectories = directoryAndFilePartition.get(true);
-        List<Path> files = directoryAndFilePartition.get(false);
+    }
 
-        // at this point, only unlinked PDFs AND unignored files are contained
+    /**
+     * Crawls a single directory and forks a crawl for each of its subdirectories
+     */
+    private class DirectoryCrawl extends RecursiveTask<FileNodeViewModel> {
+        private final Path directory;
+        private final int depth;
+        private final UnlinkedPDFFileFilter unlinkedPDFFileFilter;
+        private final GitIgnoreFileFilter gitIgnoreFileFilter;
+
+        DirectoryCrawl(Path directory, int depth, UnlinkedPDFFileFilter unlinkedPDFFileFilter, GitIgnoreFileFilter gitIgnoreFileFilter) {
+            this.directory = directory;
+            this.depth = depth;
+            this.unlinkedPDFFileFilter = unlinkedPDFFileFilter;
+            this.gitIgnoreFileFilter = gitIgnoreFileFilter;
+        }
 
-        // initially, we find no files at all
-        int fileCountOfSubdirectories = 0;
+        @Override
+        protected FileNodeViewModel compute() {
+            FileNodeViewModel fileNodeViewModelForCurrentDirectory = new FileNodeViewModel(directory);
+            if (UnlinkedFilesCrawler.this.isCancelled()) {
+                return fileNodeViewModelForCurrentDirectory;
+            }
 
-        // now we crawl into the found subdirectories first (!)
-        for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
-            if (!subRoot.getChildren().isEmpty()) {
-                fileCountOfSubdirectories += subRoot.getFileCount();
-                fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+            // Result: Contains only files not matching the filter (i.e., PDFs not linked and files not ignored)
+            List<DirectoryCrawl> subDirectoryCrawls = new ArrayList<>();
+            List<Path> files = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path path : stream) {
+                    if (UnlinkedFilesCrawler.this.isCancelled()) {
+                        return fileNodeViewModelForCurrentDirectory;
+                    }
+                    if (!accept(gitIgnoreFileFilter, path)) {
+                        continue;
+                    }
+                    if (Files.isDirectory(path)) {
+                        subDirectoryCrawls.add(new DirectoryCrawl(path, depth + 1, unlinkedPDFFileFilter, getGitIgnoreFileFilter(path)));
+                    } else if (accept(unlinkedPDFFileFilter, path)) {
+                        files.add(path);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.error("Error while searching files", e);
+                return fileNodeViewModelForCurrentDirectory;
             }
-        }
-        // now we have the data of all subdirectories
-        // it is stored in fileNodeViewModelForCurrentDirectory.getChildren()
 
-        // now we handle the files in the current directory
+            // the subdirectories are crawled in the background while we handle the files in the current directory
+            subDirectoryCrawls.forEach(ForkJoinTask::fork);
 
-        // filter files according to last edited date.
-        // Note that we do not use the "StreamSupport.stream" filtering functionality, because refactoring the code to that would lead to more code
-        List<Path> resultingFiles = new ArrayList<>();
-        for (Path path : files) {
-            if (FileFilterUtils.filterByDate(path, dateFilter)) {
-                resultingFiles.add(path);
+            // filter files according to last edited date.
+            List<Path> resultingFiles = new ArrayList<>();
+            for (Path path : files) {
+                if (FileFilterUtils.filterByDate(path, dateFilter)) {
+                    resultingFiles.add(path);
+                }
+            }
+
+            // sort files according to last edited date.
+            resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+
+            int fileCountOfSubdirectories = 0;
+            for (DirectoryCrawl subDirectoryCrawl : subDirectoryCrawls) {
+                FileNodeViewModel subRoot = subDirectoryCrawl.join();
+                if (!subRoot.getChildren().isEmpty()) {
+                    fileCountOfSubdirectories += subRoot.getFileCount();
+                    fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
+                }
             }
-        }
 
-        // sort files according to last edited date.
-        resultingFiles = FileFilterUtils.sortByDate(resultingFiles, sorter);
+            // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
+            fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
 
-        // the count of all files is the count of the found files in current directory plus the count of all files in the subdirectories
-        fileNodeViewModelForCurrentDirectory.setFileCount(resultingFiles.size() + fileCountOfSubdirectories);
+            // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
+            fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
+                                                                                    .map(FileNodeViewModel::new)
+                                                                                    .toList());
 
-        // create and add FileNodeViewModel to the FileNodeViewModel for the current directory
-        fileNodeViewModelForCurrentDirectory.getChildren().addAll(resultingFiles.stream()
-                .map(FileNodeViewModel::new)
-                .collect(Collectors.toList()));
+            if ((depth == 1) && !fileNodeViewModelForCurrentDirectory.getChildren().isEmpty() && !UnlinkedFilesCrawler.this.isCancelled()) {
+                onSubtreeFound.accept(fileNodeViewModelForCurrentDirectory);
+            }
+            return fileNodeViewModelForCurrentDirectory;
+        }
 
-        return fileNodeViewModelForCurrentDirectory;
+        /**
+         * A subdirectory without own <code>.gitignore</code> uses the same one as its parent, thus the parent's filter can be reused without reading the file again.
+         */
+        private GitIgnoreFileFilter getGitIgnoreFileFilter(Path subDirectory) {
+            if (Files.exists(subDirectory.resolve(".gitignore"))) {
+                return new GitIgnoreFileFilter(subDirectory);
+            }
+            return gitIgnoreFileFilter;
+        }
     }
 }
@@ -34,6 +34,7 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.gui.util.FileNodeViewModel;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.externalfiles.DateRange;
 import org.jabref.logic.externalfiles.ExternalFileSorter;
 import org.jabref.logic.l10n.Localization;
@@ -126,13 +127,19 @@ public class UnlinkedFilesDialogViewModel {
         progressValueProperty.unbind();
         progressTextProperty.unbind();
 
+        // Shows the subdirectories while they are found. It is replaced by the complete tree as soon as the search has finished.
+        FileNodeViewModel partialTreeRoot = new FileNodeViewModel(directory);
         findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, selectedDateFilter, selectedSortFilter, bibDatabase, preferences.getFilePreferences())
+                .onSubtreeFound(subtree -> UiTaskExecutor.runInJavaFXThread(() -> {
+                    partialTreeRoot.setFileCount(partialTreeRoot.getFileCount() + subtree.getFileCount());
+                    partialTreeRoot.getChildren().add(subtree);
+                }))
                 .onRunning(() -> {
                     progressValueProperty.set(ProgressIndicator.INDETERMINATE_PROGRESS);
                     progressTextProperty.setValue(Localization.lang("Searching file system..."));
                     progressTextProperty.bind(findUnlinkedFilesTask.messageProperty());
                     taskActiveProperty.setValue(true);
-                    treeRootProperty.setValue(Optional.empty());
+                    treeRootProperty.setValue(Optional.of(partialTreeRoot));
                 })
                 .onFinished(() -> {
                     progressValueProperty.set(0);
@@ -33,6 +33,7 @@ import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AllEntriesGroup;
@@ -126,6 +127,7 @@ public class GroupNodeViewModel {
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
 
         this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        this.databaseContext.getDatabase().registerListener(new ChangeBatchListener());
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, GuiPreferences preferences) {
@@ -253,7 +255,7 @@ public class GroupNodeViewModel {
     /**
      * Gets invoked if an entry in the current database changes.
      *
-     * @implNote Search groups are updated in {@link SearchIndexListener}.
+     * @implNote Search groups are updated in {@link SearchIndexListener}. The entries changed in a change batch of the database are updated in {@link ChangeBatchListener}.
      */
     private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
         if (groupNode.getGroup() instanceof SearchGroup) {
@@ -263,15 +265,10 @@ public class GroupNodeViewModel {
             if (change.wasPermutated()) {
                 // Nothing to do, as permutation doesn't change matched entries
             } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
+                if (databaseContext.getDatabase().isDeliveringChangeBatch()) {
+                    continue;
                 }
+                updateMatches(change.getList().subList(change.getFrom(), change.getTo()));
             } else {
                 for (BibEntry removedEntry : change.getRemoved()) {
                     // ADR-0038
@@ -287,6 +284,18 @@ public class GroupNodeViewModel {
         }
     }
 
+    private void updateMatches(List<? extends BibEntry> changedEntries) {
+        for (BibEntry changedEntry : changedEntries) {
+            if (groupNode.matches(changedEntry)) {
+                // ADR-0038
+                matchedEntries.add(changedEntry.getId());
+            } else {
+                // ADR-0038
+                matchedEntries.remove(changedEntry.getId());
+            }
+        }
+    }
+
     private void refreshGroup() {
         UiTaskExecutor.runInJavaFXThread(() -> {
             updateMatchedEntries(); // Update the entries matched by the group
@@ -506,6 +515,19 @@ public class GroupNodeViewModel {
         };
     }
 
+    /**
+     * Updates the matched entries once for all entries changed in a change batch of the database, see {@link org.jabref.model.database.BibDatabase#startChangeBatch()}
+     */
+    class ChangeBatchListener {
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            if (groupNode.getGroup() instanceof SearchGroup) {
+                return;
+            }
+            updateMatches(event.getBibEntries());
+        }
+    }
+
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
@@ -414,6 +414,7 @@ public class GroupTreeViewModel extends AbstractViewModel {
             AiChatWindow aiChatWindow = new AiChatWindow(
                     aiService,
                     dialogService,
+                    stateManager,
                     preferences.getAiPreferences(),
                     preferences.getExternalApplicationsPreferences(),
                     taskExecutor
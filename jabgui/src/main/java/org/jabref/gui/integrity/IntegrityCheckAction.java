@@ -1,10 +1,9 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -18,7 +17,6 @@ import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
@@ -58,18 +56,10 @@ public class IntegrityCheckAction extends SimpleCommand {
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-                return result;
+                int numberOfEntries = database.getDatabase().getEntries().size();
+                // The entries are checked in parallel, thus the progress is reported from several threads
+                AtomicInteger checkedEntries = new AtomicInteger();
+                return check.check(_ -> updateProgress(checkedEntries.incrementAndGet(), numberOfEntries), this::isCancelled);
             }
         };
         task.setOnSucceeded(value -> {
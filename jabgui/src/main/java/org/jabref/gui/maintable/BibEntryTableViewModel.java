@@ -38,14 +38,20 @@ import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyBinding;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
 
+/**
+ * The view model of a row of the main table.
+ * <p>
+ * A view model is created for every entry of the library, but only the rows in view show it.
+ * Therefore, the bindings for the cells are created when a cell requests them, and released by {@link #releaseBindings()} when the row is scrolled out of view.
+ */
 public class BibEntryTableViewModel {
     private final BibEntry entry;
     private final ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter;
     private final Map<OrFields, ObservableValue<String>> fieldValues = new HashMap<>();
     private final Map<SpecialField, OptionalBinding<SpecialFieldValueViewModel>> specialFieldValues = new HashMap<>();
-    private final EasyBinding<List<LinkedFile>> linkedFiles;
-    private final EasyBinding<Map<Field, String>> linkedIdentifiers;
-    private final Binding<List<AbstractGroup>> matchedGroups;
+    private EasyBinding<List<LinkedFile>> linkedFiles;
+    private EasyBinding<Map<Field, String>> linkedIdentifiers;
+    private Binding<List<AbstractGroup>> matchedGroups;
     private final BibDatabaseContext bibDatabaseContext;
     private final BooleanProperty hasFullTextResults = new SimpleBooleanProperty(false);
     private final BooleanProperty isMatchedBySearch = new SimpleBooleanProperty(true);
@@ -58,10 +64,6 @@ public class BibEntryTableViewModel {
         this.entry = entry;
         this.bibDatabaseContext = bibDatabaseContext;
         this.fieldValueFormatter = fieldValueFormatter;
-
-        this.linkedFiles = getField(StandardField.FILE).mapOpt(FileFieldParser::parse).orElseOpt(List.of());
-        this.linkedIdentifiers = createLinkedIdentifiersBinding(entry);
-        this.matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
     }
 
     private static EasyBinding<Map<Field, String>> createLinkedIdentifiersBinding(BibEntry entry) {
@@ -102,17 +104,40 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<List<LinkedFile>> getLinkedFiles() {
+        if (linkedFiles == null) {
+            linkedFiles = getField(StandardField.FILE).mapOpt(FileFieldParser::parse).orElseOpt(List.of());
+        }
         return linkedFiles;
     }
 
     public ObservableValue<Map<Field, String>> getLinkedIdentifiers() {
+        if (linkedIdentifiers == null) {
+            linkedIdentifiers = createLinkedIdentifiersBinding(entry);
+        }
         return linkedIdentifiers;
     }
 
     public ObservableValue<List<AbstractGroup>> getMatchedGroups() {
+        if (matchedGroups == null) {
+            matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
+        }
         return matchedGroups;
     }
 
+    /**
+     * Forgets the bindings created for the cells, so that they can be garbage collected. They are created again when a cell requests them.
+     * <p>
+     * The bindings are not disposed, as a cell may still show them: the table also lays out rows for measuring only.
+     * Their dependencies observe them weakly, thus they are collected as soon as no cell uses them anymore.
+     */
+    public void releaseBindings() {
+        linkedFiles = null;
+        linkedIdentifiers = null;
+        matchedGroups = null;
+        fieldValues.clear();
+        specialFieldValues.clear();
+    }
+
     public ObservableValue<Optional<SpecialFieldValueViewModel>> getSpecialField(SpecialField field) {
         OptionalBinding<SpecialFieldValueViewModel> value = specialFieldValues.get(field);
         // Fetch possibly updated value from BibEntry entry
@@ -3,6 +3,7 @@ package org.jabref.gui.maintable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -57,10 +58,13 @@ import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DragDrop;
 import org.jabref.gui.util.ViewModelTableRowFactory;
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.comparator.FieldComparator;
 import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -68,6 +72,7 @@ import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
@@ -173,6 +178,7 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
                 .setOnDragOver(this::handleOnDragOver)
                 .setOnDragExited(this::handleOnDragExited)
                 .setOnMouseDragEntered(this::handleOnDragEntered)
+                .withOnItemReleased(BibEntryTableViewModel::releaseBindings)
                 .install(this);
 
         this.getSortOrder().clear();
@@ -253,6 +259,10 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
                 })
         );
 
+        // Saving in the order of the table or in the save order of the library compares the sort keys of the entries. These are computed in the background, as soon as the order is known.
+        this.getSortOrder().addListener((ListChangeListener<TableColumn<BibEntryTableViewModel, ?>>) _ -> precomputeSortKeys());
+        precomputeSortKeys();
+
         // Store visual state
         new PersistenceVisualStateTable(this, mainTablePreferences.getColumnPreferences()).addListeners();
 
@@ -272,6 +282,26 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
         new MainTableHeaderContextMenu(this, mainTableColumnFactory, tabContainer, dialogService).show(true);
     }
 
+    /**
+     * Computes the sort keys for saving in the order of the table and in the save order of the library
+     */
+    private void precomputeSortKeys() {
+        List<SaveOrder.SortCriterion> tableSortCriteria = getSortOrder().stream()
+                                                                        .filter(MainTableColumn.class::isInstance)
+                                                                        .map(column -> ((MainTableColumn<?>) column).getModel())
+                                                                        .flatMap(columnModel -> columnModel.getSortCriteria().stream())
+                                                                        .toList();
+        List<FieldComparator> comparators = new ArrayList<>(BibDatabaseWriter.getSaveFieldComparators(new SaveOrder(SaveOrder.OrderType.SPECIFIED, tableSortCriteria)));
+        database.getMetaData().getSaveOrder()
+                .filter(saveOrder -> saveOrder.getOrderType() == SaveOrder.OrderType.SPECIFIED)
+                .map(BibDatabaseWriter::getSaveFieldComparators)
+                .ifPresent(comparators::addAll);
+
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        BackgroundTask.wrap(() -> database.getSortKeyCache().precompute(entries, comparators))
+                      .executeWith(taskExecutor);
+    }
+
     /**
      * This is called, if a user starts typing some characters into the keyboard with focus on main table. The {@link MainTable} will scroll to the cell with the same starting column value and typed string
      * If the user presses any other special key as well, e.g. alt or shift we don't jump
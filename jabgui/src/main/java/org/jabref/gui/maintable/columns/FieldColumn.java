@@ -7,6 +7,7 @@ import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.MainTableColumnModel;
 import org.jabref.gui.maintable.MainTableTooltip;
 import org.jabref.gui.util.ValueTableCellFactory;
+import org.jabref.gui.util.comparator.CollationKeyComparator;
 import org.jabref.gui.util.comparator.NumericFieldComparator;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -36,6 +37,7 @@ public class FieldColumn extends MainTableColumn<String> {
                 .graphicTooltip(this::createTooltip)
                 .install(this);
 
+        this.setComparator(new CollationKeyComparator());
         if (fields.hasExactlyOne()) {
             // comparator can't parse more than one value
             Field field = fields.getFields().stream().collect(MoreCollectors.onlyElement());
@@ -2,6 +2,7 @@ package org.jabref.gui.preferences.ai;
 
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -50,6 +51,12 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
     @FXML private IntegerInputField documentSplitterOverlapSizeTextField;
     @FXML private IntegerInputField ragMaxResultsCountTextField;
     @FXML private TextField ragMinScoreTextField;
+    @FXML private IntegerInputField embeddingBatchSizeTextField;
+    @FXML private IntegerInputField maxConcurrentRequestsTextField;
+    @FXML private CheckBox ragFullTextPreFilterCheckbox;
+    @FXML private IntegerInputField ragPreFilterMinFilesTextField;
+    @FXML private IntegerInputField ragPreFilterMaxPagesTextField;
+    @FXML private IntegerInputField ragPreFilterMaxFilesTextField;
 
     @FXML private TextArea systemMessageTextArea;
     @FXML private TextArea userMessageTextArea;
@@ -170,6 +177,48 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
         ragMinScoreTextField.textProperty().bindBidirectional(viewModel.ragMinScoreProperty());
         ragMinScoreTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
 
+        embeddingBatchSizeTextField.valueProperty().addListener((observable, oldValue, newValue) ->
+            viewModel.embeddingBatchSizeProperty().set(newValue == null ? 0 : newValue));
+
+        viewModel.embeddingBatchSizeProperty().addListener((observable, oldValue, newValue) ->
+            embeddingBatchSizeTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue()));
+
+        embeddingBatchSizeTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
+        maxConcurrentRequestsTextField.valueProperty().addListener((observable, oldValue, newValue) ->
+            viewModel.maxConcurrentRequestsProperty().set(newValue == null ? 0 : newValue));
+
+        viewModel.maxConcurrentRequestsProperty().addListener((observable, oldValue, newValue) ->
+            maxConcurrentRequestsTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue()));
+
+        maxConcurrentRequestsTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
+        ragFullTextPreFilterCheckbox.selectedProperty().bindBidirectional(viewModel.ragFullTextPreFilterProperty());
+        ragFullTextPreFilterCheckbox.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
+        ragPreFilterMinFilesTextField.valueProperty().addListener((observable, oldValue, newValue) ->
+            viewModel.ragPreFilterMinFilesProperty().set(newValue == null ? 0 : newValue));
+
+        viewModel.ragPreFilterMinFilesProperty().addListener((observable, oldValue, newValue) ->
+            ragPreFilterMinFilesTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue()));
+
+        ragPreFilterMaxPagesTextField.valueProperty().addListener((observable, oldValue, newValue) ->
+            viewModel.ragPreFilterMaxPagesProperty().set(newValue == null ? 0 : newValue));
+
+        viewModel.ragPreFilterMaxPagesProperty().addListener((observable, oldValue, newValue) ->
+            ragPreFilterMaxPagesTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue()));
+
+        ragPreFilterMaxFilesTextField.valueProperty().addListener((observable, oldValue, newValue) ->
+            viewModel.ragPreFilterMaxFilesProperty().set(newValue == null ? 0 : newValue));
+
+        viewModel.ragPreFilterMaxFilesProperty().addListener((observable, oldValue, newValue) ->
+            ragPreFilterMaxFilesTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue()));
+
+        BooleanBinding disablePreFilterSettings = viewModel.disableExpertSettingsProperty().or(viewModel.ragFullTextPreFilterProperty().not());
+        ragPreFilterMinFilesTextField.disableProperty().bind(disablePreFilterSettings);
+        ragPreFilterMaxPagesTextField.disableProperty().bind(disablePreFilterSettings);
+        ragPreFilterMaxFilesTextField.disableProperty().bind(disablePreFilterSettings);
+
         Platform.runLater(() -> {
             visualizer.initVisualization(viewModel.getApiTokenValidationStatus(), apiKeyTextField);
             visualizer.initVisualization(viewModel.getChatModelValidationStatus(), chatModelComboBox);
@@ -183,6 +232,11 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
             visualizer.initVisualization(viewModel.getRagMaxResultsCountValidationStatus(), ragMaxResultsCountTextField);
             visualizer.initVisualization(viewModel.getRagMinScoreTypeValidationStatus(), ragMinScoreTextField);
             visualizer.initVisualization(viewModel.getRagMinScoreRangeValidationStatus(), ragMinScoreTextField);
+            visualizer.initVisualization(viewModel.getEmbeddingBatchSizeValidationStatus(), embeddingBatchSizeTextField);
+            visualizer.initVisualization(viewModel.getMaxConcurrentRequestsValidationStatus(), maxConcurrentRequestsTextField);
+            visualizer.initVisualization(viewModel.getRagPreFilterMinFilesValidationStatus(), ragPreFilterMinFilesTextField);
+            visualizer.initVisualization(viewModel.getRagPreFilterMaxPagesValidationStatus(), ragPreFilterMaxPagesTextField);
+            visualizer.initVisualization(viewModel.getRagPreFilterMaxFilesValidationStatus(), ragPreFilterMaxFilesTextField);
         });
 
         systemMessageTextArea.textProperty().bindBidirectional(viewModel.getTemplateSources().get(AiTemplate.CHATTING_SYSTEM_MESSAGE));
@@ -95,6 +95,12 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     private final IntegerProperty documentSplitterOverlapSize = new SimpleIntegerProperty();
     private final IntegerProperty ragMaxResultsCount = new SimpleIntegerProperty();
     private final StringProperty ragMinScore = new SimpleStringProperty();
+    private final IntegerProperty embeddingBatchSize = new SimpleIntegerProperty();
+    private final IntegerProperty maxConcurrentRequests = new SimpleIntegerProperty();
+    private final BooleanProperty ragFullTextPreFilter = new SimpleBooleanProperty();
+    private final IntegerProperty ragPreFilterMinFiles = new SimpleIntegerProperty();
+    private final IntegerProperty ragPreFilterMaxPages = new SimpleIntegerProperty();
+    private final IntegerProperty ragPreFilterMaxFiles = new SimpleIntegerProperty();
 
     private final BooleanProperty disableBasicSettings = new SimpleBooleanProperty(true);
     private final BooleanProperty disableExpertSettings = new SimpleBooleanProperty(true);
@@ -113,6 +119,11 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     private final Validator ragMaxResultsCountValidator;
     private final Validator ragMinScoreTypeValidator;
     private final Validator ragMinScoreRangeValidator;
+    private final Validator embeddingBatchSizeValidator;
+    private final Validator maxConcurrentRequestsValidator;
+    private final Validator ragPreFilterMinFilesValidator;
+    private final Validator ragPreFilterMaxPagesValidator;
+    private final Validator ragPreFilterMaxFilesValidator;
 
     public AiTabViewModel(CliPreferences preferences) {
         this.oldLocale = Locale.getDefault();
@@ -132,6 +143,7 @@ public class AiTabViewModel implements PreferenceTabViewModel {
             List<String> models = AiDefaultPreferences.getAvailableModels(newValue);
 
             disableApiBaseUrl.set(newValue == AiProvider.HUGGING_FACE || newValue == AiProvider.GEMINI);
+            maxConcurrentRequests.set(AiDefaultPreferences.MAX_CONCURRENT_REQUESTS.get(newValue));
 
             // When we setAll on Hugging Face, models are empty, and currentChatModel become null.
             // It becomes null because currentChatModel is bound to combobox, and this combobox becomes empty.
@@ -294,6 +306,31 @@ public class AiTabViewModel implements PreferenceTabViewModel {
                 ragMinScore,
                 minScore -> LocalizedNumbers.stringToDouble(minScore).map(s -> s > 0 && s < 1).orElse(false),
                 ValidationMessage.error(Localization.lang("RAG minimum score must be greater than 0 and less than 1")));
+
+        this.embeddingBatchSizeValidator = new FunctionBasedValidator<>(
+                embeddingBatchSize,
+                size -> size.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Embedding batch size must be greater than 0")));
+
+        this.maxConcurrentRequestsValidator = new FunctionBasedValidator<>(
+                maxConcurrentRequests,
+                count -> count.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Maximum concurrent requests must be greater than 0")));
+
+        this.ragPreFilterMinFilesValidator = new FunctionBasedValidator<>(
+                ragPreFilterMinFiles,
+                count -> count.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Full-text pre-filter minimum files must be greater than 0")));
+
+        this.ragPreFilterMaxPagesValidator = new FunctionBasedValidator<>(
+                ragPreFilterMaxPages,
+                count -> count.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Full-text pre-filter maximum pages must be greater than 0")));
+
+        this.ragPreFilterMaxFilesValidator = new FunctionBasedValidator<>(
+                ragPreFilterMaxFiles,
+                count -> count.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Full-text pre-filter maximum files must be greater than 0")));
     }
 
     @Override
@@ -335,6 +372,12 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         documentSplitterOverlapSize.setValue(aiPreferences.getDocumentSplitterOverlapSize());
         ragMaxResultsCount.setValue(aiPreferences.getRagMaxResultsCount());
         ragMinScore.setValue(LocalizedNumbers.doubleToString(aiPreferences.getRagMinScore()));
+        embeddingBatchSize.setValue(aiPreferences.getEmbeddingBatchSize());
+        maxConcurrentRequests.setValue(aiPreferences.getMaxConcurrentRequests());
+        ragFullTextPreFilter.setValue(aiPreferences.getRagFullTextPreFilter());
+        ragPreFilterMinFiles.setValue(aiPreferences.getRagPreFilterMinFiles());
+        ragPreFilterMaxPages.setValue(aiPreferences.getRagPreFilterMaxPages());
+        ragPreFilterMaxFiles.setValue(aiPreferences.getRagPreFilterMaxFiles());
     }
 
     @Override
@@ -379,6 +422,12 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         aiPreferences.setDocumentSplitterOverlapSize(documentSplitterOverlapSize.get());
         aiPreferences.setRagMaxResultsCount(ragMaxResultsCount.get());
         aiPreferences.setRagMinScore(LocalizedNumbers.stringToDouble(oldLocale, ragMinScore.get()).get());
+        aiPreferences.setEmbeddingBatchSize(embeddingBatchSize.get());
+        aiPreferences.setMaxConcurrentRequests(maxConcurrentRequests.get());
+        aiPreferences.setRagFullTextPreFilter(ragFullTextPreFilter.get());
+        aiPreferences.setRagPreFilterMinFiles(ragPreFilterMinFiles.get());
+        aiPreferences.setRagPreFilterMaxPages(ragPreFilterMaxPages.get());
+        aiPreferences.setRagPreFilterMaxFiles(ragPreFilterMaxFiles.get());
     }
 
     public void resetExpertSettings() {
@@ -392,6 +441,12 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         documentSplitterOverlapSize.set(AiDefaultPreferences.DOCUMENT_SPLITTER_OVERLAP);
         ragMaxResultsCount.set(AiDefaultPreferences.RAG_MAX_RESULTS_COUNT);
         ragMinScore.set(LocalizedNumbers.doubleToString(AiDefaultPreferences.RAG_MIN_SCORE));
+        embeddingBatchSize.set(AiDefaultPreferences.EMBEDDING_BATCH_SIZE);
+        maxConcurrentRequests.set(AiDefaultPreferences.MAX_CONCURRENT_REQUESTS.get(selectedAiProvider.get()));
+        ragFullTextPreFilter.set(AiDefaultPreferences.RAG_FULL_TEXT_PRE_FILTER);
+        ragPreFilterMinFiles.set(AiDefaultPreferences.RAG_PRE_FILTER_MIN_FILES);
+        ragPreFilterMaxPages.set(AiDefaultPreferences.RAG_PRE_FILTER_MAX_PAGES);
+        ragPreFilterMaxFiles.set(AiDefaultPreferences.RAG_PRE_FILTER_MAX_FILES);
     }
 
     public void resetTemplates() {
@@ -432,7 +487,12 @@ public class AiTabViewModel implements PreferenceTabViewModel {
                 documentSplitterOverlapSizeValidator,
                 ragMaxResultsCountValidator,
                 ragMinScoreTypeValidator,
-                ragMinScoreRangeValidator
+                ragMinScoreRangeValidator,
+                embeddingBatchSizeValidator,
+                maxConcurrentRequestsValidator,
+                ragPreFilterMinFilesValidator,
+                ragPreFilterMaxPagesValidator,
+                ragPreFilterMaxFilesValidator
         );
 
         return validators.stream().map(Validator::getValidationStatus).allMatch(ValidationStatus::isValid);
@@ -526,6 +586,30 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         return ragMinScore;
     }
 
+    public IntegerProperty embeddingBatchSizeProperty() {
+        return embeddingBatchSize;
+    }
+
+    public IntegerProperty maxConcurrentRequestsProperty() {
+        return maxConcurrentRequests;
+    }
+
+    public BooleanProperty ragFullTextPreFilterProperty() {
+        return ragFullTextPreFilter;
+    }
+
+    public IntegerProperty ragPreFilterMinFilesProperty() {
+        return ragPreFilterMinFiles;
+    }
+
+    public IntegerProperty ragPreFilterMaxPagesProperty() {
+        return ragPreFilterMaxPages;
+    }
+
+    public IntegerProperty ragPreFilterMaxFilesProperty() {
+        return ragPreFilterMaxFiles;
+    }
+
     public BooleanProperty disableBasicSettingsProperty() {
         return disableBasicSettings;
     }
@@ -581,4 +665,24 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     public ValidationStatus getRagMinScoreRangeValidationStatus() {
         return ragMinScoreRangeValidator.getValidationStatus();
     }
+
+    public ValidationStatus getEmbeddingBatchSizeValidationStatus() {
+        return embeddingBatchSizeValidator.getValidationStatus();
+    }
+
+    public ValidationStatus getMaxConcurrentRequestsValidationStatus() {
+        return maxConcurrentRequestsValidator.getValidationStatus();
+    }
+
+    public ValidationStatus getRagPreFilterMinFilesValidationStatus() {
+        return ragPreFilterMinFilesValidator.getValidationStatus();
+    }
+
+    public ValidationStatus getRagPreFilterMaxPagesValidationStatus() {
+        return ragPreFilterMaxPagesValidator.getValidationStatus();
+    }
+
+    public ValidationStatus getRagPreFilterMaxFilesValidationStatus() {
+        return ragPreFilterMaxFilesValidator.getValidationStatus();
+    }
 }
@@ -341,9 +341,14 @@ public class JournalAbbreviationsTabViewModel implements PreferenceTabViewModel
                         shouldWriteLists = false;
                     }
                 })
-                .onSuccess(success -> Injector.setModelOrService(
-                        JournalAbbreviationRepository.class,
-                        JournalAbbreviationLoader.loadRepository(abbreviationsPreferences)))
+                .onSuccess(success -> {
+                    JournalAbbreviationRepository previousRepository = Injector.instantiateModelOrService(JournalAbbreviationRepository.class);
+                    Injector.setModelOrService(
+                            JournalAbbreviationRepository.class,
+                            JournalAbbreviationLoader.loadRepository(abbreviationsPreferences));
+                    // The built-in list stays open, because the new repository shares it with the previous one
+                    previousRepository.close();
+                })
                 .onFailure(exception -> LOGGER.error("Failed to store journal preferences.", exception))
                 .executeWith(taskExecutor);
     }
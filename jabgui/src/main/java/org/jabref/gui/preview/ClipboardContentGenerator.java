@@ -7,6 +7,7 @@ import java.util.List;
 
 import javafx.scene.input.ClipboardContent;
 
+import org.jabref.logic.bst.BstPreviewLayout;
 import org.jabref.logic.citationstyle.CitationStyleGenerator;
 import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
 import org.jabref.logic.citationstyle.CitationStylePreviewLayout;
@@ -69,6 +70,8 @@ public class ClipboardContentGenerator {
                     outputFormat,
                     bibDatabaseContext,
                     Injector.instantiateModelOrService(BibEntryTypesManager.class));
+        } else if (previewLayout instanceof BstPreviewLayout bstPreviewLayout) {
+            return bstPreviewLayout.generatePreviews(selectedEntries, bibDatabaseContext);
         } else {
             return generateTextBasedPreviewLayoutCitations(selectedEntries, bibDatabaseContext);
         }
@@ -200,11 +200,13 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
             return;
         }
 
-        Number.serialExportNumber = 1; // Set entry number in case that is included in the preview layout.
-
         final BibEntry theEntry = entry;
         BackgroundTask
-                .wrap(() -> layout.generatePreview(theEntry, databaseContext))
+                .wrap(() -> {
+                    // Set entry number in case that is included in the preview layout. The number is kept per thread.
+                    Number.setSerialExportNumber(1);
+                    return layout.generatePreview(theEntry, databaseContext);
+                })
                 .onSuccess(this::setPreviewText)
                 .onFailure(exception -> {
                     LOGGER.error("Error while generating citation style", exception);
@@ -38,6 +38,20 @@ public class Highlighter {
     private static final String REGEXP_POSITIONS = "SELECT * FROM regexp_positions(?, ?)";
     private static Connection connection;
 
+    /**
+     * Highlighting is skipped while the Postgres server is still starting, so that the UI is not blocked.
+     */
+    private static boolean isServerReady() {
+        if (connection == null) {
+            PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
+            if (!postgreServer.isReady()) {
+                return false;
+            }
+            connection = postgreServer.getConnection();
+        }
+        return connection != null;
+    }
+
     public static String highlightHtml(String htmlText, SearchQuery searchQuery) {
         Optional<String> searchTermsPattern = buildSearchPattern(searchQuery);
         if (searchTermsPattern.isEmpty()) {
@@ -67,8 +81,8 @@ public class Highlighter {
     }
 
     private static String highlightNode(String text, String searchPattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
+        if (!isServerReady()) {
+            return text;
         }
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_MARK)) {
@@ -87,8 +101,8 @@ public class Highlighter {
     }
 
     public static List<Range> findMatchPositions(String text, String pattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
+        if (!isServerReady()) {
+            return List.of();
         }
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_POSITIONS)) {
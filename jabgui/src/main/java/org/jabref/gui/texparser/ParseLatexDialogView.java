@@ -19,6 +19,7 @@ import org.jabref.gui.util.RecursiveTreeItem;
 import org.jabref.gui.util.ViewModelTreeCellFactory;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -46,6 +47,7 @@ public class ParseLatexDialogView extends BaseDialog<Void> {
     @Inject private CliPreferences preferences;
     @Inject private FileUpdateMonitor fileMonitor;
     @Inject private ThemeManager themeManager;
+    @Inject private CachingLatexParser latexParser;
     private ParseLatexDialogViewModel viewModel;
 
     public ParseLatexDialogView(BibDatabaseContext databaseContext) {
@@ -66,7 +68,7 @@ public class ParseLatexDialogView extends BaseDialog<Void> {
 
     @FXML
     private void initialize() {
-        viewModel = new ParseLatexDialogViewModel(databaseContext, dialogService, taskExecutor, preferences, fileMonitor);
+        viewModel = new ParseLatexDialogViewModel(databaseContext, dialogService, taskExecutor, preferences, fileMonitor, latexParser);
 
         fileTreeView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         fileTreeView.showRootProperty().bindBidirectional(viewModel.successfulSearchProperty());
@@ -1,49 +1,361 @@
 package org.jabref.gui.util;
 
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jabref.logic.util.io.DirectoryWatcher;
+
 import org.apache.commons.io.monitor.FileAlterationListener;
 import org.apache.commons.io.monitor.FileAlterationMonitor;
 import org.apache.commons.io.monitor.FileAlterationObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Notifies {@link FileAlterationListener}s about changes in directory trees.
+ * <p>
+ * The directories are watched using the {@link WatchService} of the file system, thus unchanged trees do not cost anything.
+ * Changes are collected for {@link #COALESCE_DELAY} ms and then reported in one check cycle (from {@link FileAlterationListener#onStart} to {@link FileAlterationListener#onStop}).
+ * Multiple changes of the same file within that time are merged (e.g., a file created and modified is only reported as created).
+ * As with a {@link FileAlterationObserver}, the files already existing when a directory is added are reported as created in the first check cycle.
+ * <p>
+ * Only if a directory cannot be watched (e.g., because the file system does not support it), it is polled every {@link #POLL_INTERVAL} ms.
+ */
 public class DirectoryMonitor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryMonitor.class);
     private static final int POLL_INTERVAL = 1000;
+    private static final int COALESCE_DELAY = 200;
 
-    private final FileAlterationMonitor monitor;
+    private final FileAlterationMonitor pollingMonitor;
+    private final Map<FileAlterationObserver, WatchedDirectory> watchedDirectories = new ConcurrentHashMap<>();
+    // A single thread notifies the listeners, thus they are never called concurrently (as with the polling monitor)
+    private final ScheduledExecutorService notifier;
+    private boolean pollingStarted;
 
     public DirectoryMonitor() {
-        monitor = new FileAlterationMonitor(POLL_INTERVAL);
-        start();
+        pollingMonitor = new FileAlterationMonitor(POLL_INTERVAL);
+        notifier = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DirectoryMonitor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public void addObserver(FileAlterationObserver observer, FileAlterationListener listener) {
-        if (observer != null) {
-            observer.addListener(listener);
-            monitor.addObserver(observer);
+        if (observer == null) {
+            return;
+        }
+        observer.addListener(listener);
+
+        WatchedDirectory watchedDirectory = new WatchedDirectory(observer);
+        try {
+            watchedDirectory.start();
+            watchedDirectories.put(observer, watchedDirectory);
+        } catch (IOException e) {
+            LOGGER.debug("Cannot watch {}, falling back to polling", observer.getDirectory(), e);
+            pollingMonitor.addObserver(observer);
+            startPolling();
         }
     }
 
     public void removeObserver(FileAlterationObserver observer) {
-        if (observer != null) {
-            monitor.removeObserver(observer);
+        if (observer == null) {
+            return;
+        }
+        WatchedDirectory watchedDirectory = watchedDirectories.remove(observer);
+        if (watchedDirectory != null) {
+            watchedDirectory.close();
+        } else {
+            pollingMonitor.removeObserver(observer);
         }
     }
 
-    public void start() {
+    private synchronized void startPolling() {
+        if (pollingStarted) {
+            return;
+        }
         try {
-            monitor.start();
+            pollingMonitor.start();
+            pollingStarted = true;
         } catch (Exception e) {
             LOGGER.error("Error starting directory monitor", e);
         }
     }
 
-    public void shutdown() {
-        try {
-            monitor.stop();
-        } catch (Exception e) {
-            LOGGER.error("Error stopping directory monitor", e);
+    public synchronized void shutdown() {
+        watchedDirectories.values().forEach(WatchedDirectory::close);
+        watchedDirectories.clear();
+        notifier.shutdownNow();
+        if (pollingStarted) {
+            try {
+                pollingMonitor.stop();
+            } catch (Exception e) {
+                LOGGER.error("Error stopping directory monitor", e);
+            }
+            pollingStarted = false;
+        }
+    }
+
+    enum Change {
+        FILE_CREATED,
+        FILE_CHANGED,
+        FILE_DELETED,
+        DIRECTORY_CREATED,
+        DIRECTORY_DELETED;
+
+        /**
+         * @return the change equivalent to this change followed by the next one, <code>null</code> if both cancel each other out
+         */
+        Change followedBy(Change next) {
+            return switch (this) {
+                case FILE_CREATED ->
+                        switch (next) {
+                            case FILE_CHANGED -> FILE_CREATED;
+                            case FILE_DELETED -> null;
+                            default -> next;
+                        };
+                case FILE_DELETED ->
+                        next == FILE_CREATED ? FILE_CHANGED : next;
+                case DIRECTORY_CREATED ->
+                        next == DIRECTORY_DELETED ? null : next;
+                default -> next;
+            };
+        }
+    }
+
+    /**
+     * Translates the events of a {@link DirectoryWatcher} into the callbacks of the listeners of an observer.
+     * It remembers the reported files to tell creations from modifications and to report the files of deleted directories.
+     */
+    private class WatchedDirectory implements DirectoryWatcher.Listener {
+        private final FileAlterationObserver observer;
+        private final Path root;
+        private final FileFilter fileFilter;
+
+        // Guarded by itself, filled by the watcher thread
+        private final Map<Path, Change> pendingChanges = new LinkedHashMap<>();
+        private boolean rescanRequested;
+        private ScheduledFuture<?> scheduledNotification;
+
+        // Only used by the notifier thread
+        private final Set<Path> knownFiles = new HashSet<>();
+
+        private volatile DirectoryWatcher watcher;
+        private volatile boolean closed;
+
+        WatchedDirectory(FileAlterationObserver observer) {
+            this.observer = observer;
+            this.root = observer.getDirectory().toPath();
+            this.fileFilter = observer.getFileFilter();
+        }
+
+        void start() throws IOException {
+            // Watch first, so that no change happening during the initial scan is missed
+            watcher = DirectoryWatcher.watch(root, this);
+            notifier.execute(() -> notifyListeners(() -> reportTree(root)));
+        }
+
+        void close() {
+            closed = true;
+            if (watcher != null) {
+                watcher.close();
+            }
+        }
+
+        @Override
+        public void onFileCreated(Path file) {
+            addChange(file, Change.FILE_CREATED);
+        }
+
+        @Override
+        public void onFileChanged(Path file) {
+            addChange(file, Change.FILE_CHANGED);
+        }
+
+        @Override
+        public void onFileDeleted(Path file) {
+            addChange(file, Change.FILE_DELETED);
+        }
+
+        @Override
+        public void onDirectoryCreated(Path directory) {
+            addChange(directory, Change.DIRECTORY_CREATED);
+        }
+
+        @Override
+        public void onDirectoryDeleted(Path directory) {
+            addChange(directory, Change.DIRECTORY_DELETED);
+        }
+
+        @Override
+        public void onOverflow() {
+            synchronized (pendingChanges) {
+                pendingChanges.clear();
+                rescanRequested = true;
+                scheduleNotification();
+            }
+        }
+
+        private void addChange(Path path, Change change) {
+            synchronized (pendingChanges) {
+                pendingChanges.merge(path, change, Change::followedBy);
+                scheduleNotification();
+            }
+        }
+
+        private void scheduleNotification() {
+            if (scheduledNotification == null) {
+                scheduledNotification = notifier.schedule(this::reportChanges, COALESCE_DELAY, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void reportChanges() {
+            Map<Path, Change> changes;
+            boolean rescan;
+            synchronized (pendingChanges) {
+                changes = new LinkedHashMap<>(pendingChanges);
+                pendingChanges.clear();
+                rescan = rescanRequested;
+                rescanRequested = false;
+                scheduledNotification = null;
+            }
+
+            notifyListeners(() -> {
+                if (rescan) {
+                    rescan();
+                }
+                changes.forEach(this::reportChange);
+            });
+        }
+
+        private void reportChange(Path path, Change change) {
+            switch (change) {
+                case FILE_CREATED, FILE_CHANGED -> {
+                    if (isAccepted(path) && Files.exists(path)) {
+                        if (knownFiles.add(path)) {
+                            forEachListener(listener -> listener.onFileCreate(path.toFile()));
+                        } else {
+                            forEachListener(listener -> listener.onFileChange(path.toFile()));
+                        }
+                    }
+                }
+                case FILE_DELETED -> {
+                    if (knownFiles.remove(path)) {
+                        forEachListener(listener -> listener.onFileDelete(path.toFile()));
+                    }
+                }
+                case DIRECTORY_CREATED -> {
+                    if (isAccepted(path)) {
+                        forEachListener(listener -> listener.onDirectoryCreate(path.toFile()));
+                        // The files of a directory moved into the tree are not reported by the watcher
+                        reportTree(path);
+                    }
+                }
+                case DIRECTORY_DELETED -> {
+                    List<Path> deletedFiles = knownFiles.stream().filter(file -> file.startsWith(path)).toList();
+                    for (Path file : deletedFiles) {
+                        knownFiles.remove(file);
+                        forEachListener(listener -> listener.onFileDelete(file.toFile()));
+                    }
+                    if (isAccepted(path)) {
+                        forEachListener(listener -> listener.onDirectoryDelete(path.toFile()));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reports all files and subdirectories below the given directory which have not been reported before
+         */
+        private void reportTree(Path directory) {
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        if (dir.equals(directory)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        if (!isAccepted(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        forEachListener(listener -> listener.onDirectoryCreate(dir.toFile()));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (isAccepted(file) && knownFiles.add(file)) {
+                            forEachListener(listener -> listener.onFileCreate(file.toFile()));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        LOGGER.debug("Could not read {}", file, exc);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                LOGGER.warn("Could not read directory {}", directory, e);
+            }
+        }
+
+        /**
+         * Called if changes were lost. Reports the files deleted meanwhile and the new ones.
+         */
+        private void rescan() {
+            List<Path> deletedFiles = knownFiles.stream().filter(file -> !Files.exists(file)).toList();
+            for (Path file : deletedFiles) {
+                knownFiles.remove(file);
+                forEachListener(listener -> listener.onFileDelete(file.toFile()));
+            }
+            reportTree(root);
+        }
+
+        private boolean isAccepted(Path path) {
+            return (fileFilter == null) || fileFilter.accept(path.toFile());
+        }
+
+        /**
+         * Wraps the given notifications in one check cycle of the observer
+         */
+        private void notifyListeners(Runnable notifications) {
+            if (closed) {
+                return;
+            }
+            try {
+                forEachListener(listener -> listener.onStart(observer));
+                notifications.run();
+                forEachListener(listener -> listener.onStop(observer));
+            } catch (RuntimeException e) {
+                LOGGER.error("Error while notifying about changes in {}", root, e);
+            }
+        }
+
+        private void forEachListener(Consumer<FileAlterationListener> notification) {
+            if (closed) {
+                return;
+            }
+            observer.getListeners().forEach(notification);
         }
     }
 }
@@ -3,6 +3,7 @@ package org.jabref.gui.util;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javafx.beans.value.ObservableValue;
@@ -41,6 +42,7 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
     private TriConsumer<TableRow<S>, S, ? super DragEvent> toOnDragOver;
     private TriConsumer<TableRow<S>, S, ? super MouseDragEvent> toOnMouseDragEntered;
     private Callback<S, String> toTooltip;
+    private Consumer<S> onItemReleased;
     private final Map<PseudoClass, Callback<S, ObservableValue<Boolean>>> pseudoClasses = new HashMap<>();
 
     public ViewModelTableRowFactory<S> withOnMouseClickedEvent(BiConsumer<S, ? super MouseEvent> onMouseClickedEvent) {
@@ -109,6 +111,14 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
         return this;
     }
 
+    /**
+     * @param onItemReleased called with the item a row showed before it shows another item or none, e.g., because it was scrolled out of view
+     */
+    public ViewModelTableRowFactory<S> withOnItemReleased(Consumer<S> onItemReleased) {
+        this.onItemReleased = onItemReleased;
+        return this;
+    }
+
     public ViewModelTableRowFactory<S> withPseudoClass(PseudoClass pseudoClass, Callback<S, ObservableValue<Boolean>> toCondition) {
         this.pseudoClasses.putIfAbsent(pseudoClass, toCondition);
         return this;
@@ -119,8 +129,13 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
         TableRow<S> row = new TableRow<>() {
             @Override
             protected void updateItem(S item, boolean empty) {
+                S previousItem = getItem();
                 super.updateItem(item, empty);
 
+                if ((onItemReleased != null) && (previousItem != null) && (previousItem != getItem())) {
+                    onItemReleased.accept(previousItem);
+                }
+
                 if (empty || getItem() == null) {
                     pseudoClasses.forEach((pseudoClass, toCondition) -> pseudoClassStateChanged(pseudoClass, false));
                 } else {
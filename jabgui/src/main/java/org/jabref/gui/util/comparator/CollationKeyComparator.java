@@ -0,0 +1,37 @@
+package org.jabref.gui.util.comparator;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Compares texts as the default comparator of a table column does, i.e., by the collator of the current locale, but compares precomputed collation keys.
+ * <p>
+ * The default comparator creates a collator for each comparison and compares the texts character by character.
+ * Here, the collation key of each text is computed once and kept as long as the text is. The text is the value of a cell, which is
+ * replaced as soon as the field changes. Thus, the key of a changed field is computed anew, and the old one is dropped with the old value.
+ */
+public class CollationKeyComparator implements Comparator<String> {
+
+    private final Collator collator = Collator.getInstance();
+    private final Map<String, CollationKey> collationKeys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public int compare(String val1, String val2) {
+        if ((val1 == null) && (val2 == null)) {
+            return 0;
+        } else if (val1 == null) {
+            return -1;
+        } else if (val2 == null) {
+            return 1;
+        }
+        return getCollationKey(val1).compareTo(getCollationKey(val2));
+    }
+
+    private CollationKey getCollationKey(String value) {
+        return collationKeys.computeIfAbsent(value, collator::getCollationKey);
+    }
+}
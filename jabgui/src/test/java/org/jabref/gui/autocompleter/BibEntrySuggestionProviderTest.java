@@ -111,4 +111,17 @@ class BibEntrySuggestionProviderTest {
         Collection<BibEntry> result = autoCompleter.provideSuggestions(getRequest("k"));
         assertEquals(List.of(entry), result);
     }
+
+    @Test
+    void completeAfterChangingKeyReturnsEntryForNewKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("oldKey");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("old"));
+
+        entry.setCitationKey("newKey");
+
+        assertEquals(List.of(), autoCompleter.provideSuggestions(getRequest("old")));
+        assertEquals(List.of(entry), autoCompleter.provideSuggestions(getRequest("new")));
+    }
 }
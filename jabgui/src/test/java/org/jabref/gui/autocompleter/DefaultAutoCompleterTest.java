@@ -147,4 +147,33 @@ class DefaultAutoCompleterTest {
         Collection<String> result = autoCompleter.provideSuggestions(getRequest("lue"));
         assertEquals(List.of("value"), result);
     }
+
+    @Test
+    void completeAfterChangingFieldReturnsNewWord() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "test value");
+        database.insertEntry(entry);
+        autoCompleter.provideSuggestions(getRequest("val"));
+
+        entry.setField(StandardField.TITLE, "test valid");
+
+        Collection<String> result = autoCompleter.provideSuggestions(getRequest("val"));
+        assertEquals(List.of("valid"), result);
+    }
+
+    @Test
+    void completeAfterRemovingEntryReturnsWordsOfOtherEntries() {
+        BibEntry entryOne = new BibEntry();
+        entryOne.setField(StandardField.TITLE, "test value");
+        database.insertEntry(entryOne);
+        BibEntry entryTwo = new BibEntry();
+        entryTwo.setField(StandardField.TITLE, "test valid");
+        database.insertEntry(entryTwo);
+        autoCompleter.provideSuggestions(getRequest("test"));
+
+        database.removeEntry(entryOne);
+
+        assertEquals(List.of("test"), autoCompleter.provideSuggestions(getRequest("test")));
+        assertEquals(List.of("valid"), autoCompleter.provideSuggestions(getRequest("val")));
+    }
 }
@@ -3,6 +3,8 @@ package org.jabref.gui.externalfiles;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
@@ -68,4 +70,37 @@ class UnlinkedFilesCrawlerTest {
             assertEquals(fileNodeViewModel.getFileCount(), count - 1);
         }
     }
+
+    @Test
+    void searchDirectoryReportsSubdirectoriesOfSearchDirectory(@TempDir Path testRoot) throws IOException {
+        Path nestedDir = Files.createDirectories(testRoot.resolve("a/b"));
+        Path otherDir = Files.createDirectories(testRoot.resolve("c"));
+        Files.createFile(nestedDir.resolve("first.pdf"));
+        Files.createFile(otherDir.resolve("second.pdf"));
+        Files.createFile(testRoot.resolve("third.pdf"));
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+        Set<Path> reportedSubtrees = ConcurrentHashMap.newKeySet();
+
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class))
+                .onSubtreeFound(subtree -> reportedSubtrees.add(subtree.getPath()));
+        FileNodeViewModel fileNodeViewModel = unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter);
+
+        assertEquals(3, fileNodeViewModel.getFileCount());
+        assertEquals(Set.of(testRoot.resolve("a"), otherDir), reportedSubtrees);
+    }
+
+    @Test
+    void cancelledSearchReturnsEmptyTree(@TempDir Path testRoot) throws IOException {
+        Files.createFile(testRoot.resolve("unlinkedPdf.pdf"));
+
+        UnlinkedPDFFileFilter unlinkedPDFFileFilter = mock(UnlinkedPDFFileFilter.class);
+        when(unlinkedPDFFileFilter.accept(any(Path.class))).thenReturn(true);
+
+        UnlinkedFilesCrawler unlinkedFilesCrawler = new UnlinkedFilesCrawler(testRoot, unlinkedPDFFileFilter, DateRange.ALL_TIME, ExternalFileSorter.DEFAULT, mock(BibDatabaseContext.class), mock(FilePreferences.class));
+        unlinkedFilesCrawler.cancel();
+
+        assertEquals(new FileNodeViewModel(testRoot), unlinkedFilesCrawler.searchDirectory(testRoot, unlinkedPDFFileFilter));
+    }
 }
@@ -12,6 +12,7 @@ import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DroppingMouseLocation;
 import org.jabref.logic.util.CurrentThreadTaskExecutor;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -176,6 +177,19 @@ class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(StandardField.GROUPS).get());
     }
 
+    @Test
+    void entriesChangedInChangeBatchAreMatchedWhenBatchEnds() {
+        BibEntry entry = new BibEntry();
+        databaseContext.getDatabase().insertEntry(entry);
+
+        try (BibDatabase.ChangeBatch _ = databaseContext.getDatabase().startChangeBatch()) {
+            entry.setField(StandardField.TITLE, "search");
+            assertEquals(0, viewModel.getHits().get());
+        }
+
+        assertEquals(1, viewModel.getHits().get());
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), preferences);
     }
@@ -0,0 +1,118 @@
+package org.jabref.gui.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.gui.util.DirectoryMonitor.Change;
+
+import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.apache.commons.io.monitor.FileAlterationObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryMonitorTest {
+
+    private static final int TIMEOUT = 10;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    // The files reported as existing, i.e., created and not deleted afterwards
+    private final Set<String> files = ConcurrentHashMap.newKeySet();
+    private volatile Expectation expectation;
+    private DirectoryMonitor directoryMonitor;
+
+    @BeforeEach
+    void setUp() {
+        directoryMonitor = new DirectoryMonitor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        directoryMonitor.shutdown();
+    }
+
+    @Test
+    void reportsExistingAndChangedFiles(@TempDir Path directory) throws IOException, InterruptedException {
+        Path existingFile = Files.writeString(directory.resolve("existing.tex"), "existing");
+        CountDownLatch existingFileReported = expectFiles(Set.of("existing.tex"));
+        directoryMonitor.addObserver(new FileAlterationObserver(directory.toFile()), new RecordingListener());
+
+        assertTrue(existingFileReported.await(TIMEOUT, TimeUnit.SECONDS));
+
+        CountDownLatch changesReported = expectFiles(Set.of("new.tex"));
+        Path newFile = Files.writeString(directory.resolve("new.tex"), "new");
+        Files.writeString(newFile, "modified");
+        Files.delete(existingFile);
+
+        assertTrue(changesReported.await(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(1, events.stream().filter("create new.tex"::equals).count());
+    }
+
+    @Test
+    void changesOfCreatedFileAreReportedAsCreation() {
+        assertEquals(Change.FILE_CREATED, Change.FILE_CREATED.followedBy(Change.FILE_CHANGED));
+    }
+
+    @Test
+    void fileCreatedAndDeletedIsNotReported() {
+        assertNull(Change.FILE_CREATED.followedBy(Change.FILE_DELETED));
+        assertNull(Change.DIRECTORY_CREATED.followedBy(Change.DIRECTORY_DELETED));
+    }
+
+    @Test
+    void fileDeletedAndCreatedIsReportedAsChange() {
+        assertEquals(Change.FILE_CHANGED, Change.FILE_DELETED.followedBy(Change.FILE_CREATED));
+    }
+
+    /**
+     * @return a latch counted down as soon as a check cycle ends with exactly the given files reported as existing
+     */
+    private CountDownLatch expectFiles(Set<String> fileNames) {
+        Expectation newExpectation = new Expectation(fileNames, new CountDownLatch(1));
+        expectation = newExpectation;
+        return newExpectation.reported();
+    }
+
+    private record Expectation(Set<String> files, CountDownLatch reported) {
+    }
+
+    private class RecordingListener extends FileAlterationListenerAdaptor {
+        @Override
+        public void onStop(FileAlterationObserver observer) {
+            Expectation current = expectation;
+            if (files.equals(current.files())) {
+                current.reported().countDown();
+            }
+        }
+
+        @Override
+        public void onFileCreate(File file) {
+            events.add("create " + file.getName());
+            files.add(file.getName());
+        }
+
+        @Override
+        public void onFileChange(File file) {
+            events.add("change " + file.getName());
+        }
+
+        @Override
+        public void onFileDelete(File file) {
+            events.add("delete " + file.getName());
+            files.remove(file.getName());
+        }
+    }
+}
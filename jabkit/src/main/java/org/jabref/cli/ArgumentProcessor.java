@@ -47,7 +47,6 @@ import org.jabref.logic.quality.consistency.BibliographyConsistencyCheckResultCs
 import org.jabref.logic.quality.consistency.BibliographyConsistencyCheckResultTxtWriter;
 import org.jabref.logic.quality.consistency.BibliographyConsistencyCheckResultWriter;
 import org.jabref.logic.search.DatabaseSearcher;
-import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.search.SearchPreferences;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
 import org.jabref.logic.util.CurrentThreadTaskExecutor;
@@ -213,6 +212,12 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if (cli.isStream()) {
+            // The streamed library is never loaded completely, thus the options working on loaded libraries are not available
+            stream(cli.getStream());
+            return;
+        }
+
         List<ParserResult> loaded = importAndOpenFiles();
 
         if (cli.isFetcherEngine()) {
@@ -278,6 +283,42 @@ public class ArgumentProcessor {
         }
     }
 
+    /**
+     * Streams a library through the operations requested on the command line (filtering, citation key generation, and cleanup)
+     *
+     * @param streamArguments Format: <code>inputFile,outputFile</code>
+     */
+    private void stream(String streamArguments) {
+        String[] data = streamArguments.split(",");
+        if (data.length != 2) {
+            System.err.println(Localization.lang("Expected syntax for --stream='<input file>,<output file>'"));
+            return;
+        }
+
+        StreamingPipeline pipeline = new StreamingPipeline(cliPreferences, entryTypesManager);
+        if (cli.isStreamFilter()) {
+            pipeline.withFilter(new SearchQuery(cli.getStreamFilter(), cliPreferences.getSearchPreferences().getSearchFlags()));
+        }
+        if (cli.isGenerateCitationKeys()) {
+            pipeline.withCitationKeyGeneration();
+        }
+        if (cli.isStreamCleanup()) {
+            pipeline.withCleanup(cliPreferences.getCleanupPreferences());
+        }
+
+        Path output = Path.of(data[1]);
+        try {
+            StreamingPipeline.Statistics statistics = pipeline.run(Path.of(data[0]), output);
+            System.out.println(Localization.lang("Streamed %0 of %1 entries to %2",
+                    String.valueOf(statistics.writtenEntries()),
+                    String.valueOf(statistics.processedEntries()),
+                    output.toString()));
+        } catch (IOException ex) {
+            LOGGER.error("Error streaming '{}'", data[0], ex);
+            System.err.println(Localization.lang("Could not save file.") + "\n" + ex.getLocalizedMessage());
+        }
+    }
+
     private void checkConsistency(CliPreferences cliPreferences,
                                   BibEntryTypesManager entryTypesManager) {
         Optional<String> fileName = Optional.ofNullable(cli.getCheckConsistency());
@@ -498,14 +539,8 @@ public class ArgumentProcessor {
         SearchPreferences searchPreferences = cliPreferences.getSearchPreferences();
         SearchQuery query = new SearchQuery(searchTerm, searchPreferences.getSearchFlags());
 
-        List<BibEntry> matches;
-        try {
-            // extract current thread task executor from indexManager
-            matches = new DatabaseSearcher(query, databaseContext, new CurrentThreadTaskExecutor(), cliPreferences, Injector.instantiateModelOrService(PostgreServer.class)).getMatches();
-        } catch (IOException e) {
-            LOGGER.error("Error occurred when searching", e);
-            return false;
-        }
+        // The bib fields are searched in memory, thus no Postgres server is started
+        List<BibEntry> matches = DatabaseSearcher.forSingleQuery(query, databaseContext, new CurrentThreadTaskExecutor(), cliPreferences).getMatches();
 
         // export matches
         if (!matches.isEmpty()) {
@@ -21,7 +21,6 @@ import org.jabref.logic.preferences.JabRefCliPreferences;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
-import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -80,9 +79,6 @@ public class JabKit {
             Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
             Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
 
-            PostgreServer postgreServer = new PostgreServer();
-            Injector.setModelOrService(PostgreServer.class, postgreServer);
-
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
 
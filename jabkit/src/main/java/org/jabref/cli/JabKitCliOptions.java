@@ -145,6 +145,26 @@ public class JabKitCliOptions {
         return commandLine.getOptionValue("exportMatches");
     }
 
+    public boolean isStream() {
+        return commandLine.hasOption("stream");
+    }
+
+    public String getStream() {
+        return commandLine.getOptionValue("stream");
+    }
+
+    public boolean isStreamFilter() {
+        return commandLine.hasOption("filter");
+    }
+
+    public String getStreamFilter() {
+        return commandLine.getOptionValue("filter");
+    }
+
+    public boolean isStreamCleanup() {
+        return commandLine.hasOption("cleanup");
+    }
+
     public boolean isGenerateCitationKeys() {
         return commandLine.hasOption("generateCitationKeys");
     }
@@ -306,6 +326,24 @@ public class JabKitCliOptions {
                 .argName("FORMAT")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("stream")
+                .desc("%s: '%s'".formatted(Localization.lang("Process a BibTeX file entry by entry without loading it completely"), "--stream dump.bib,out.bib --filter author=Newton -g"))
+                .hasArg()
+                .argName("FILE,FILE")
+                .build());
+
+        options.addOption(Option
+                .builder()
+                .longOpt("filter")
+                .desc(Localization.lang("Only keep the entries matching the query (used with --stream)"))
+                .hasArg()
+                .argName("QUERY")
+                .build());
+
+        options.addOption(null, "cleanup", false, Localization.lang("Clean up the entries using the cleanup preferences (used with --stream)"));
+
         options.addOption(Option
                 .builder("porcelain")
                 .longOpt("porcelain")
@@ -0,0 +1,187 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.cleanup.CleanupPreferences;
+import org.jabref.logic.cleanup.CleanupWorker;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.exporter.StreamingBibtexDatabaseWriter;
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.indexing.BibFieldValues;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a BibTeX library entry by entry: each entry is parsed, passed through the configured operations, and written to the output right away.
+ * Thus, the memory needed does not depend on the size of the library, which makes it possible to process huge dumps.
+ * <p>
+ * As the complete library is never in memory, some operations behave differently than on a loaded library:
+ * <ul>
+ *     <li>Generated citation keys are not made unique, because the entries written before are not known anymore.</li>
+ *     <li>Key patterns and save actions stored in the metadata of the library are not used, because the metadata is stored at the end of the file. The global preferences are used instead.</li>
+ *     <li>The output is always written in BibTeX format, because the other exporters need all entries at once.</li>
+ * </ul>
+ */
+public class StreamingPipeline {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingPipeline.class);
+
+    private final CliPreferences preferences;
+    private final BibEntryTypesManager entryTypesManager;
+    // Each operation is created once per run for the library being streamed. The created predicate returns false if the entry should be dropped.
+    private final List<Function<BibDatabaseContext, Predicate<BibEntry>>> operations = new ArrayList<>();
+
+    public StreamingPipeline(CliPreferences preferences, BibEntryTypesManager entryTypesManager) {
+        this.preferences = preferences;
+        this.entryTypesManager = entryTypesManager;
+    }
+
+    /**
+     * Only passes entries matching the given query. Full-text search is not supported, because it requires an index.
+     */
+    public StreamingPipeline withFilter(SearchQuery searchQuery) {
+        Predicate<BibFieldValues> predicate = searchQuery.isValid()
+                                              ? SearchQueryConversion.searchToPredicate(searchQuery)
+                                              : values -> false;
+        Character keywordSeparator = preferences.getBibEntryPreferences().getKeywordSeparator();
+        operations.add(databaseContext -> entry -> predicate.test(BibFieldValues.of(entry, databaseContext.getDatabase(), keywordSeparator)));
+        return this;
+    }
+
+    public StreamingPipeline withCitationKeyGeneration() {
+        operations.add(databaseContext -> {
+            CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
+            return entry -> {
+                keyGenerator.generateAndSetKey(entry);
+                return true;
+            };
+        });
+        return this;
+    }
+
+    /**
+     * Cleans up each entry. The cleanup also covers the conversion between BibTeX and biblatex, if activated in the given preset.
+     */
+    public StreamingPipeline withCleanup(CleanupPreferences cleanupPreset) {
+        operations.add(databaseContext -> {
+            CleanupWorker cleanupWorker = new CleanupWorker(databaseContext, preferences.getFilePreferences(), preferences.getTimestampPreferences());
+            return entry -> {
+                cleanupWorker.cleanup(cleanupPreset, entry);
+                return true;
+            };
+        });
+        return this;
+    }
+
+    /**
+     * Streams all entries of the input library through the pipeline into the output library.
+     */
+    public Statistics run(Path input, Path output) throws IOException {
+        long startTime = System.currentTimeMillis();
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+        BibDatabaseMode mode = preferences.getLibraryPreferences().getDefaultBibDatabaseMode();
+
+        Statistics statistics;
+        try (Reader reader = Importer.getReader(input);
+             AtomicFileWriter fileWriter = new AtomicFileWriter(output, StandardCharsets.UTF_8)) {
+            StreamingBibtexDatabaseWriter databaseWriter = new StreamingBibtexDatabaseWriter(
+                    new BibWriter(fileWriter, OS.NEWLINE),
+                    saveConfiguration,
+                    preferences.getFieldPreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    entryTypesManager);
+            EntryProcessor entryProcessor = new EntryProcessor(input, mode, databaseWriter);
+
+            ParserResult parserResult;
+            try {
+                parserResult = parser.parse(reader, entryProcessor);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            parserResult.getDatabaseContext().setDatabasePath(input);
+            databaseWriter.finish(parserResult.getDatabaseContext());
+
+            if (parserResult.hasWarnings()) {
+                LOGGER.warn("Warnings while streaming {}: {}", input, parserResult.getErrorMessage());
+            }
+            statistics = new Statistics(entryProcessor.processedEntries, entryProcessor.writtenEntries);
+        }
+        LOGGER.debug("Streaming {} entries from {} to {} took {} ms", statistics.processedEntries(), input, output, System.currentTimeMillis() - startTime);
+        return statistics;
+    }
+
+    /**
+     * @param processedEntries number of entries read from the input
+     * @param writtenEntries   number of entries written to the output
+     */
+    public record Statistics(long processedEntries, long writtenEntries) {
+    }
+
+    private class EntryProcessor implements BiConsumer<BibEntry, BibDatabase> {
+        private final Path input;
+        private final BibDatabaseMode mode;
+        private final StreamingBibtexDatabaseWriter databaseWriter;
+        private List<Predicate<BibEntry>> entryOperations;
+        private long processedEntries;
+        private long writtenEntries;
+
+        EntryProcessor(Path input, BibDatabaseMode mode, StreamingBibtexDatabaseWriter databaseWriter) {
+            this.input = input;
+            this.mode = mode;
+            this.databaseWriter = databaseWriter;
+        }
+
+        @Override
+        public void accept(BibEntry entry, BibDatabase database) {
+            if (entryOperations == null) {
+                // The database holds the strings and the preamble parsed so far, but no entries
+                BibDatabaseContext databaseContext = new BibDatabaseContext(database, new MetaData(), input);
+                entryOperations = operations.stream().map(operation -> operation.apply(databaseContext)).toList();
+            }
+            processedEntries++;
+
+            if (entry.isEmpty()) {
+                return;
+            }
+            for (Predicate<BibEntry> operation : entryOperations) {
+                if (!operation.test(entry)) {
+                    return;
+                }
+            }
+
+            try {
+                databaseWriter.writeEntry(entry, database, mode);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            writtenEntries++;
+        }
+    }
+}
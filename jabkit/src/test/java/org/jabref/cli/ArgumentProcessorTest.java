@@ -115,6 +115,36 @@ class ArgumentProcessorTest {
         BibEntryAssert.assertEquals(expectedEntries, outputBib, bibtexImporter);
     }
 
+    @Test
+    void streamMatches(@TempDir Path tempDir) throws URISyntaxException, IOException, ParseException {
+        Path originBib = Path.of(Objects.requireNonNull(ArgumentProcessorTest.class.getResource("origin.bib")).toURI());
+        String originBibFile = originBib.toAbsolutePath().toString();
+
+        Path expectedBib = Path.of(
+                Objects.requireNonNull(ArgumentProcessorTest.class.getResource("ArgumentProcessorTestExportMatches.bib"))
+                       .toURI()
+        );
+
+        BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+        List<BibEntry> expectedEntries = bibtexImporter.importDatabase(expectedBib).getDatabase().getEntries();
+
+        Path outputBib = tempDir.resolve("output.bib").toAbsolutePath();
+        String outputBibFile = outputBib.toAbsolutePath().toString();
+
+        List<String> args = List.of("-n", "--stream", originBibFile + "," + outputBibFile, "--filter", "author=Einstein");
+
+        ArgumentProcessor processor = new ArgumentProcessor(
+                args.toArray(String[]::new),
+                Mode.INITIAL_START,
+                preferences,
+                mock(FileUpdateMonitor.class),
+                entryTypesManager);
+        processor.processArguments();
+
+        assertTrue(Files.exists(outputBib));
+        BibEntryAssert.assertEquals(expectedEntries, outputBib, bibtexImporter);
+    }
+
     @Test
     void convertBibtexToTableRefsAsBib(@TempDir Path tempDir) throws URISyntaxException, ParseException {
         Path originBib = Path.of(Objects.requireNonNull(ArgumentProcessorTest.class.getResource("origin.bib")).toURI());
@@ -223,6 +223,9 @@ dependencies {
     testImplementation("org.testfx:testfx-core:4.0.16-alpha")
     testImplementation("org.testfx:testfx-junit5:4.0.16-alpha")
 
+    // Measures the memory footprint of entries in BibEntryFootprintBenchmark
+    "jmh"("org.openjdk.jol:jol-core:0.17")
+
     "xjc"("org.glassfish.jaxb:jaxb-xjc:$jaxbVersion")
     "xjc"("org.glassfish.jaxb:jaxb-runtime:$jaxbVersion")
 }
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Random;
 
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bst.BstPreviewLayout;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
@@ -51,6 +52,8 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private String ieeetranBibliography;
+    private String apalikeBibliography;
 
     @Setup
     public void init() throws IOException {
@@ -74,6 +77,53 @@ public class Benchmarks {
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        // Output of IEEEtran.bst
+        ieeetranBibliography = """
+                % Generated by IEEEtran.bst, version: 1.14 (2015/08/26)
+                \\begin{thebibliography}{1}
+                \\providecommand{\\url}[1]{#1}
+                \\csname url@samestyle\\endcsname
+                \\providecommand{\\newblock}{\\relax}
+                \\providecommand{\\bibinfo}[2]{#2}
+                \\providecommand{\\BIBentrySTDinterwordspacing}{\\spaceskip=0pt\\relax}
+                \\providecommand{\\BIBentryALTinterwordstretchfactor}{4}
+                \\providecommand{\\BIBentryALTinterwordspacing}{\\spaceskip=\\fontdimen2\\font plus
+                \\BIBentryALTinterwordstretchfactor\\fontdimen3\\font minus \\fontdimen4\\font\\relax}
+                \\providecommand{\\BIBforeignlanguage}[2]{{%
+                \\expandafter\\ifx\\csname l@#1\\endcsname\\relax
+                \\typeout{** WARNING: IEEEtran.bst: No hyphenation pattern has been}%
+                \\typeout{** loaded for the language `#1'. Using the pattern for}%
+                \\typeout{** the default language instead.}%
+                \\else
+                \\language=\\csname l@#1\\endcsname
+                \\fi
+                #2}}
+                \\providecommand{\\BIBdecl}{\\relax}
+                \\BIBdecl
+
+                \\bibitem{Smith2016}
+                \\BIBentryALTinterwordspacing
+                B.~Smith, B.~Jones, and J.~Williams, ``Title of the test entry,''
+                  \\emph{BibTeX Journal}, vol.~34, no.~3, pp. 45--67, July 2016. [Online].
+                  Available: \\url{https://github.com/JabRef}
+                \\BIBentrySTDinterwordspacing
+
+                \\end{thebibliography}
+                """;
+        // Output of apalike.bst
+        apalikeBibliography = """
+                \\begin{thebibliography}{}
+
+                \\bibitem[Crowston et~al., 2005]{canh05}
+                Crowston, K., Annabi, H., Howison, J., and Masango, C. (2005).
+                \\newblock Effective work practices for floss development: A model and
+                  propositions.
+                \\newblock In {\\em Hawaii International Conference On System Sciences
+                  (HICSS)}.
+
+                \\end{thebibliography}
+                """;
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -140,6 +190,16 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    @Benchmark
+    public String bstPreviewOfIeeetranBibliography() {
+        return BstPreviewLayout.toPreview(ieeetranBibliography);
+    }
+
+    @Benchmark
+    public String bstPreviewOfApalikeBibliography() {
+        return BstPreviewLayout.toPreview(apalikeBibliography);
+    }
+
     @Benchmark
     public boolean keywordGroupContains() {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false, ',', false);
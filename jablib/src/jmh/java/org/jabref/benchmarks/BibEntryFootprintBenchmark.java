@@ -0,0 +1,84 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the memory a library needs per entry, and the time to create and read entries.
+ * <p>
+ * The footprint is measured with JOL and printed after each trial. It includes everything reachable from the library, i.e., also field values.
+ * If {@code observed} is set, the JavaFX observables of each entry are created, as the main table does for the entries it shows.
+ */
+@State(Scope.Benchmark)
+public class BibEntryFootprintBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 10_000;
+
+    @Param({"false", "true"})
+    private boolean observed;
+
+    private BibDatabase database;
+
+    @Setup
+    public void init() {
+        database = createLibrary();
+    }
+
+    @Benchmark
+    public BibDatabase createLibrary() {
+        BibDatabase library = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB " + i)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 100))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 75)))
+                    .withField(StandardField.VOLUME, String.valueOf(i % 50))
+                    .withField(StandardField.PAGES, i + "--" + (i + 10))
+                    .withField(StandardField.DOI, "10.1000/" + i)
+                    .withField(StandardField.KEYWORDS, "testkeyword, other keyword")
+                    .withField(new UnknownField("custom"), "value " + i);
+            if (observed) {
+                entry.getObservables();
+            }
+            library.insertEntry(entry);
+        }
+        return library;
+    }
+
+    @Benchmark
+    public long readFields() {
+        long length = 0;
+        for (BibEntry entry : database.getEntries()) {
+            length += entry.getField(StandardField.TITLE).map(String::length).orElse(0);
+            length += entry.getCitationKey().map(String::length).orElse(0);
+        }
+        return length;
+    }
+
+    @TearDown
+    public void printFootprint() {
+        long bytes = GraphLayout.parseInstance(database).totalSize();
+        System.out.printf("%nFootprint of a library of %d entries (observed: %b): %d bytes, %d bytes per entry%n",
+                NUMBER_OF_ENTRIES, observed, bytes, bytes / NUMBER_OF_ENTRIES);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -46,7 +47,7 @@ public class JournalListMvGenerator {
                      fileName(journalListMvFile.toString()).
                      compressHigh().
                      open()) {
-            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
             stream.forEach(Unchecked.consumer(path -> {
                 String fileName = path.getFileName().toString();
                 System.out.print("Checking ");
@@ -70,6 +71,13 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Lookup maps, so that the repository does not need to build them at startup
+            JournalAbbreviationRepository.fillLookupMaps(
+                    fullToAbbreviation,
+                    store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP_NAME),
+                    store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP_NAME),
+                    store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP_NAME));
         }
     }
 }
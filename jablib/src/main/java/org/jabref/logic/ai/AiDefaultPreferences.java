@@ -78,9 +78,25 @@ public class AiDefaultPreferences {
     public static final int DOCUMENT_SPLITTER_OVERLAP = 100;
     public static final int RAG_MAX_RESULTS_COUNT = 10;
     public static final double RAG_MIN_SCORE = 0.3;
+    public static final int EMBEDDING_BATCH_SIZE = 32;
+
+    // Retrieval narrows the files of a chat by their full-text relevance before comparing embeddings, if a chat has at least this many files
+    public static final boolean RAG_FULL_TEXT_PRE_FILTER = true;
+    public static final int RAG_PRE_FILTER_MIN_FILES = 20;
+    public static final int RAG_PRE_FILTER_MAX_PAGES = 100;
+    public static final int RAG_PRE_FILTER_MAX_FILES = 20;
 
     public static final int FALLBACK_CONTEXT_WINDOW_SIZE = 8196;
 
+    // GPT4All answers one request after another. Local OpenAI-compatible servers (e.g., llama.cpp, vLLM) and the hosted APIs handle several at once.
+    public static final Map<AiProvider, Integer> MAX_CONCURRENT_REQUESTS = Map.of(
+            AiProvider.OPEN_AI, 4,
+            AiProvider.MISTRAL_AI, 4,
+            AiProvider.GEMINI, 4,
+            AiProvider.HUGGING_FACE, 2,
+            AiProvider.GPT4ALL, 1
+    );
+
     public static final Map<AiTemplate, String> TEMPLATES = Map.of(
             AiTemplate.CHATTING_SYSTEM_MESSAGE, """
                     You are an AI assistant that analyses research papers. You answer questions about papers.
@@ -60,6 +60,12 @@ public class AiPreferences {
     private final IntegerProperty documentSplitterOverlapSize;
     private final IntegerProperty ragMaxResultsCount;
     private final DoubleProperty ragMinScore;
+    private final IntegerProperty embeddingBatchSize;
+    private final IntegerProperty maxConcurrentRequests;
+    private final BooleanProperty ragFullTextPreFilter;
+    private final IntegerProperty ragPreFilterMinFiles;
+    private final IntegerProperty ragPreFilterMaxPages;
+    private final IntegerProperty ragPreFilterMaxFiles;
 
     private final Map<AiTemplate, StringProperty> templates;
 
@@ -88,6 +94,12 @@ public class AiPreferences {
                          int documentSplitterOverlapSize,
                          int ragMaxResultsCount,
                          double ragMinScore,
+                         int embeddingBatchSize,
+                         int maxConcurrentRequests,
+                         boolean ragFullTextPreFilter,
+                         int ragPreFilterMinFiles,
+                         int ragPreFilterMaxPages,
+                         int ragPreFilterMaxFiles,
                          Map<AiTemplate, String> templates
     ) {
         this.enableAi = new SimpleBooleanProperty(enableAi);
@@ -118,6 +130,12 @@ public class AiPreferences {
         this.documentSplitterOverlapSize = new SimpleIntegerProperty(documentSplitterOverlapSize);
         this.ragMaxResultsCount = new SimpleIntegerProperty(ragMaxResultsCount);
         this.ragMinScore = new SimpleDoubleProperty(ragMinScore);
+        this.embeddingBatchSize = new SimpleIntegerProperty(embeddingBatchSize);
+        this.maxConcurrentRequests = new SimpleIntegerProperty(maxConcurrentRequests);
+        this.ragFullTextPreFilter = new SimpleBooleanProperty(ragFullTextPreFilter);
+        this.ragPreFilterMinFiles = new SimpleIntegerProperty(ragPreFilterMinFiles);
+        this.ragPreFilterMaxPages = new SimpleIntegerProperty(ragPreFilterMaxPages);
+        this.ragPreFilterMaxFiles = new SimpleIntegerProperty(ragPreFilterMaxFiles);
 
         this.templates = Map.of(
                 AiTemplate.CHATTING_SYSTEM_MESSAGE, new SimpleStringProperty(templates.get(AiTemplate.CHATTING_SYSTEM_MESSAGE)),
@@ -469,6 +487,25 @@ public class AiPreferences {
         this.ragMinScore.set(ragMinScore);
     }
 
+    public IntegerProperty embeddingBatchSizeProperty() {
+        return embeddingBatchSize;
+    }
+
+    /**
+     * @return the number of texts the local embedding model processes at once
+     */
+    public int getEmbeddingBatchSize() {
+        if (getCustomizeExpertSettings()) {
+            return embeddingBatchSize.get();
+        } else {
+            return AiDefaultPreferences.EMBEDDING_BATCH_SIZE;
+        }
+    }
+
+    public void setEmbeddingBatchSize(int embeddingBatchSize) {
+        this.embeddingBatchSize.set(embeddingBatchSize);
+    }
+
     /**
      * Listen to changes of preferences that are related to embeddings generation.
      *
@@ -529,6 +566,101 @@ public class AiPreferences {
         };
     }
 
+    public IntegerProperty maxConcurrentRequestsProperty() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return the number of requests that may be sent to the selected AI provider at the same time
+     */
+    public int getMaxConcurrentRequests() {
+        if (getCustomizeExpertSettings()) {
+            return maxConcurrentRequests.get();
+        } else {
+            return AiDefaultPreferences.MAX_CONCURRENT_REQUESTS.get(aiProvider.get());
+        }
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests.set(maxConcurrentRequests);
+    }
+
+    public BooleanProperty ragFullTextPreFilterProperty() {
+        return ragFullTextPreFilter;
+    }
+
+    /**
+     * @return whether the files of a chat are narrowed by the full-text index before their embeddings are compared with the question
+     */
+    public boolean getRagFullTextPreFilter() {
+        if (getCustomizeExpertSettings()) {
+            return ragFullTextPreFilter.get();
+        } else {
+            return AiDefaultPreferences.RAG_FULL_TEXT_PRE_FILTER;
+        }
+    }
+
+    public void setRagFullTextPreFilter(boolean ragFullTextPreFilter) {
+        this.ragFullTextPreFilter.set(ragFullTextPreFilter);
+    }
+
+    public IntegerProperty ragPreFilterMinFilesProperty() {
+        return ragPreFilterMinFiles;
+    }
+
+    /**
+     * @return the number of files a chat needs to have for the full-text pre-filter to be applied
+     */
+    public int getRagPreFilterMinFiles() {
+        if (getCustomizeExpertSettings()) {
+            return ragPreFilterMinFiles.get();
+        } else {
+            return AiDefaultPreferences.RAG_PRE_FILTER_MIN_FILES;
+        }
+    }
+
+    public void setRagPreFilterMinFiles(int ragPreFilterMinFiles) {
+        this.ragPreFilterMinFiles.set(ragPreFilterMinFiles);
+    }
+
+    public IntegerProperty ragPreFilterMaxPagesProperty() {
+        return ragPreFilterMaxPages;
+    }
+
+    /**
+     * @return the number of best matching pages the full-text pre-filter ranks the files by
+     */
+    public int getRagPreFilterMaxPages() {
+        if (getCustomizeExpertSettings()) {
+            return ragPreFilterMaxPages.get();
+        } else {
+            return AiDefaultPreferences.RAG_PRE_FILTER_MAX_PAGES;
+        }
+    }
+
+    public void setRagPreFilterMaxPages(int ragPreFilterMaxPages) {
+        this.ragPreFilterMaxPages.set(ragPreFilterMaxPages);
+    }
+
+    public IntegerProperty ragPreFilterMaxFilesProperty() {
+        return ragPreFilterMaxFiles;
+    }
+
+    /**
+     * @return the number of best ranked files the full-text pre-filter keeps
+     */
+    public int getRagPreFilterMaxFiles() {
+        if (getCustomizeExpertSettings()) {
+            return ragPreFilterMaxFiles.get();
+        } else {
+            return AiDefaultPreferences.RAG_PRE_FILTER_MAX_FILES;
+        }
+    }
+
+    public void setRagPreFilterMaxFiles(int ragPreFilterMaxFiles) {
+        this.ragPreFilterMaxFiles.set(ragPreFilterMaxFiles);
+    }
+
     public String getSelectedApiBaseUrl() {
         if (customizeExpertSettings.get()) {
             return switch (aiProvider.get()) {
@@ -22,18 +22,10 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
-import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.TokenWindowChatMemory;
 import dev.langchain4j.model.chat.ChatLanguageModel;
-import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
-import dev.langchain4j.store.embedding.EmbeddingMatch;
-import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
-import dev.langchain4j.store.embedding.EmbeddingSearchResult;
-import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.filter.Filter;
-import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,8 +34,7 @@ public class AiChatLogic {
 
     private final AiPreferences aiPreferences;
     private final ChatLanguageModel chatLanguageModel;
-    private final EmbeddingModel embeddingModel;
-    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final ExcerptRetriever excerptRetriever;
     private final TemplatesService templatesService;
 
     private final ObservableList<ChatMessage> chatHistory;
@@ -53,12 +44,11 @@ public class AiChatLogic {
 
     private ChatMemory chatMemory;
 
-    private Optional<Filter> filter = Optional.empty();
+    private List<String> links = List.of();
 
     public AiChatLogic(AiPreferences aiPreferences,
                        ChatLanguageModel chatLanguageModel,
-                       EmbeddingModel embeddingModel,
-                       EmbeddingStore<TextSegment> embeddingStore,
+                       ExcerptRetriever excerptRetriever,
                        TemplatesService templatesService,
                        StringProperty name,
                        ObservableList<ChatMessage> chatHistory,
@@ -67,15 +57,14 @@ public class AiChatLogic {
     ) {
         this.aiPreferences = aiPreferences;
         this.chatLanguageModel = chatLanguageModel;
-        this.embeddingModel = embeddingModel;
-        this.embeddingStore = embeddingStore;
+        this.excerptRetriever = excerptRetriever;
         this.templatesService = templatesService;
         this.chatHistory = chatHistory;
         this.entries = entries;
         this.name = name;
         this.bibDatabaseContext = bibDatabaseContext;
 
-        this.entries.addListener((ListChangeListener<BibEntry>) change -> rebuildFilter());
+        this.entries.addListener((ListChangeListener<BibEntry>) change -> rebuildLinks());
 
         setupListeningToPreferencesChanges();
         rebuildFull(chatHistory);
@@ -92,7 +81,7 @@ public class AiChatLogic {
 
     private void rebuildFull(List<ChatMessage> chatMessages) {
         rebuildChatMemory(chatMessages);
-        rebuildFilter();
+        rebuildLinks();
     }
 
     private void rebuildChatMemory(List<ChatMessage> chatMessages) {
@@ -106,20 +95,8 @@ public class AiChatLogic {
         setSystemMessage(templatesService.makeChattingSystemMessage(entries));
     }
 
-    private void rebuildFilter() {
-        List<LinkedFile> linkedFiles = ListUtil.getLinkedFiles(entries).toList();
-
-        if (linkedFiles.isEmpty()) {
-            filter = Optional.empty();
-        } else {
-            filter = Optional.of(MetadataFilterBuilder
-                    .metadataKey(FileEmbeddingsManager.LINK_METADATA_KEY)
-                    .isIn(linkedFiles
-                            .stream()
-                            .map(LinkedFile::getLink)
-                            .toList()
-                    ));
-        }
+    private void rebuildLinks() {
+        links = ListUtil.getLinkedFiles(entries).map(LinkedFile::getLink).distinct().toList();
     }
 
     private void setSystemMessage(String systemMessage) {
@@ -136,20 +113,9 @@ public class AiChatLogic {
                 name.get(),
                 message.singleText());
 
-        EmbeddingSearchRequest embeddingSearchRequest = EmbeddingSearchRequest
-                .builder()
-                .maxResults(aiPreferences.getRagMaxResultsCount())
-                .minScore(aiPreferences.getRagMinScore())
-                .filter(filter.orElse(null))
-                .queryEmbedding(embeddingModel.embed(message.singleText()).content())
-                .build();
-
-        EmbeddingSearchResult<TextSegment> embeddingSearchResult = embeddingStore.search(embeddingSearchRequest);
-
-        List<PaperExcerpt> excerpts = embeddingSearchResult
-                .matches()
+        List<PaperExcerpt> excerpts = excerptRetriever
+                .retrieve(message.singleText(), links)
                 .stream()
-                .map(EmbeddingMatch::embedded)
                 .map(textSegment -> {
                     String link = textSegment.metadata().getString(FileEmbeddingsManager.LINK_METADATA_KEY);
 
@@ -1,10 +1,13 @@
 package org.jabref.logic.ai.chatting;
 
+import java.util.Optional;
+
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 
 import org.jabref.logic.ai.AiPreferences;
 import org.jabref.logic.ai.templates.TemplatesService;
+import org.jabref.logic.search.IndexManager;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -38,13 +41,13 @@ public class AiChatService {
             StringProperty name,
             ObservableList<ChatMessage> chatHistory,
             ObservableList<BibEntry> entries,
-            BibDatabaseContext bibDatabaseContext
+            BibDatabaseContext bibDatabaseContext,
+            Optional<IndexManager> indexManager
     ) {
         return new AiChatLogic(
                 aiPreferences,
                 chatLanguageModel,
-                embeddingModel,
-                embeddingStore,
+                new ExcerptRetriever(aiPreferences, embeddingModel, embeddingStore, indexManager),
                 templatesService,
                 name,
                 chatHistory,
@@ -0,0 +1,119 @@
+package org.jabref.logic.ai.chatting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.ingestion.FileEmbeddingsManager;
+import org.jabref.logic.search.IndexManager;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds the text segments of the linked files of a chat that are most relevant for a question.
+ * <p>
+ * Retrieval has two stages. First, the full-text index of the library ranks the files by the BM25 score of their pages for the words of the question,
+ * and only the best ranked files are kept. Second, the embeddings of the segments of these files are compared with the embedding of the question.
+ * Thus, a question in a chat over hundreds of papers is not compared with the segments of all of them.
+ * <p>
+ * The first stage is skipped when it is turned off in the expert settings, for chats with few files, when the full-text index is not available, and when it does not find any of the words.
+ * Files that are not in the full-text index yet cannot be ranked, so they are always kept.
+ */
+public class ExcerptRetriever {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExcerptRetriever.class);
+
+    private final AiPreferences aiPreferences;
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Optional<IndexManager> indexManager;
+
+    public ExcerptRetriever(AiPreferences aiPreferences,
+                            EmbeddingModel embeddingModel,
+                            EmbeddingStore<TextSegment> embeddingStore,
+                            Optional<IndexManager> indexManager) {
+        this.aiPreferences = aiPreferences;
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.indexManager = indexManager;
+    }
+
+    /**
+     * @param links the links of the files to search in. If empty, all stored segments are searched.
+     */
+    public List<TextSegment> retrieve(String question, List<String> links) {
+        long startTime = System.nanoTime();
+        List<String> candidateLinks = preFilter(question, links);
+        long preFilterTime = System.nanoTime();
+
+        Embedding questionEmbedding = embeddingModel.embed(question).content();
+        long embeddingTime = System.nanoTime();
+
+        EmbeddingSearchRequest embeddingSearchRequest = EmbeddingSearchRequest
+                .builder()
+                .maxResults(aiPreferences.getRagMaxResultsCount())
+                .minScore(aiPreferences.getRagMinScore())
+                .filter(makeFilter(candidateLinks).orElse(null))
+                .queryEmbedding(questionEmbedding)
+                .build();
+
+        List<TextSegment> segments = embeddingStore.search(embeddingSearchRequest)
+                                                   .matches()
+                                                   .stream()
+                                                   .map(EmbeddingMatch::embedded)
+                                                   .toList();
+        long endTime = System.nanoTime();
+
+        LOGGER.debug("Retrieved {} segments from {} of {} files in {} ms (full-text pre-filter: {} ms, question embedding: {} ms, vector search: {} ms)",
+                segments.size(),
+                candidateLinks.size(),
+                links.size(),
+                TimeUnit.NANOSECONDS.toMillis(endTime - startTime),
+                TimeUnit.NANOSECONDS.toMillis(preFilterTime - startTime),
+                TimeUnit.NANOSECONDS.toMillis(embeddingTime - preFilterTime),
+                TimeUnit.NANOSECONDS.toMillis(endTime - embeddingTime));
+
+        return segments;
+    }
+
+    private List<String> preFilter(String question, List<String> links) {
+        if (!aiPreferences.getRagFullTextPreFilter() || links.size() < aiPreferences.getRagPreFilterMinFiles() || indexManager.isEmpty()) {
+            return links;
+        }
+
+        List<String> rankedLinks = indexManager.get()
+                                               .findMostRelevantFiles(question, links, aiPreferences.getRagPreFilterMaxPages())
+                                               .orElse(List.of());
+        if (rankedLinks.isEmpty()) {
+            // The question may use other words than the papers, e.g., synonyms. Then, only the embeddings can tell.
+            return links;
+        }
+
+        List<String> candidateLinks = new ArrayList<>(rankedLinks.subList(0, Math.min(rankedLinks.size(), aiPreferences.getRagPreFilterMaxFiles())));
+        Set<String> indexedLinks = indexManager.get().findIndexedFiles(links);
+        links.stream()
+             .filter(link -> !indexedLinks.contains(link))
+             .forEach(candidateLinks::add);
+        return candidateLinks;
+    }
+
+    private static Optional<Filter> makeFilter(List<String> links) {
+        if (links.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(MetadataFilterBuilder
+                .metadataKey(FileEmbeddingsManager.LINK_METADATA_KEY)
+                .isIn(links));
+    }
+}
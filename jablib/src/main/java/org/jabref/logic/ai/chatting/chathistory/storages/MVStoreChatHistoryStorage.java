@@ -2,7 +2,7 @@ package org.jabref.logic.ai.chatting.chathistory.storages;
 
 import java.io.Serializable;
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -12,18 +12,33 @@ import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.NotificationService;
 
+import com.google.common.annotations.VisibleForTesting;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
-import kotlin.ranges.IntRange;
+import org.h2.mvstore.Cursor;
+import org.h2.mvstore.MVMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Stores the messages of all chats in a single map.
+ * <p>
+ * The key of a message consists of the library path, the type of the chat (entry or group), the citation key or group name, and the number of the message in the chat.
+ * As the keys are sorted, the messages of a chat are stored next to each other.
+ */
 public class MVStoreChatHistoryStorage extends MVStoreBase implements ChatHistoryStorage {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreChatHistoryStorage.class);
+
     private static final String ENTRY_CHAT_HISTORY_PREFIX = "entry";
     private static final String GROUP_CHAT_HISTORY_PREFIX = "group";
+    private static final String MESSAGES_MAP_NAME = "messages";
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final MVMap<String, ChatHistoryRecord> messagesMap;
 
-    private record ChatHistoryRecord(String className, String content) implements Serializable {
+    @VisibleForTesting
+    record ChatHistoryRecord(String className, String content) implements Serializable {
         private static final Logger LOGGER = LoggerFactory.getLogger(ChatHistoryRecord.class);
 
         public static ChatHistoryRecord fromLangchainMessage(ChatMessage chatMessage) {
@@ -67,56 +82,155 @@ public class MVStoreChatHistoryStorage extends MVStoreBase implements ChatHistor
 
     public MVStoreChatHistoryStorage(Path path, NotificationService dialogService) {
         super(path, dialogService);
+
+        this.messagesMap = mvStore.openMap(MESSAGES_MAP_NAME);
+        migrateChatHistoryMaps();
+    }
+
+    /**
+     * Earlier versions stored each chat history in a map of its own, named {@code bibDatabasePath + "-" + type + "-" + name}.
+     * <p>
+     * The name can only be split if the type occurs once in it. Otherwise, the library path or the citation key or group name contains it as well.
+     * Such a map is left in place and migrated as soon as its chat is opened, since the library path is known then.
+     */
+    private void migrateChatHistoryMaps() {
+        List<String> oldMapNames = mvStore.getMapNames().stream()
+                                          .filter(mapName -> !MESSAGES_MAP_NAME.equals(mapName))
+                                          .toList();
+        boolean migrated = false;
+        for (String oldMapName : oldMapNames) {
+            List<Map.Entry<String, Integer>> typePositions = findTypePositions(oldMapName);
+            if (typePositions.isEmpty()) {
+                LOGGER.warn("Skipping unknown map {} in chat history storage", oldMapName);
+                continue;
+            }
+            if (typePositions.size() > 1) {
+                LOGGER.debug("Migrating chat history map {} when its chat is opened, because its name is ambiguous", oldMapName);
+                continue;
+            }
+
+            int position = typePositions.getFirst().getValue();
+            String type = typePositions.getFirst().getKey();
+            migrateChatHistoryMap(oldMapName, getPrefix(oldMapName.substring(0, position), type, oldMapName.substring(position + type.length() + 2)));
+            migrated = true;
+        }
+        if (migrated) {
+            mvStore.commit();
+        }
+    }
+
+    /**
+     * @return the positions of all occurrences of {@code "-" + type + "-"} in the given map name, together with the type
+     */
+    private static List<Map.Entry<String, Integer>> findTypePositions(String oldMapName) {
+        List<Map.Entry<String, Integer>> typePositions = new ArrayList<>();
+        for (String type : List.of(ENTRY_CHAT_HISTORY_PREFIX, GROUP_CHAT_HISTORY_PREFIX)) {
+            int position = oldMapName.indexOf("-" + type + "-");
+            while (position > 0) {
+                typePositions.add(Map.entry(type, position));
+                position = oldMapName.indexOf("-" + type + "-", position + 1);
+            }
+        }
+        return typePositions;
+    }
+
+    private void migrateChatHistoryMap(String oldMapName, String prefix) {
+        Map<Integer, ChatHistoryRecord> oldMap = mvStore.openMap(oldMapName);
+        List<ChatHistoryRecord> records = oldMap.entrySet().stream()
+                                                .sorted(Map.Entry.comparingByKey())
+                                                .map(Map.Entry::getValue)
+                                                .toList();
+        writeRecords(prefix, records);
+        mvStore.removeMap(oldMapName);
+    }
+
+    /**
+     * @return the prefix of the messages of the given chat, after migrating a map of this chat left by {@link #migrateChatHistoryMaps()}
+     */
+    private synchronized String getMigratedPrefix(Path bibDatabasePath, String type, String name) {
+        String prefix = getPrefix(bibDatabasePath.toString(), type, name);
+        String oldMapName = bibDatabasePath + "-" + type + "-" + name;
+        if (mvStore.hasMap(oldMapName)) {
+            migrateChatHistoryMap(oldMapName, prefix);
+            mvStore.commit();
+        }
+        return prefix;
     }
 
     @Override
     public List<ChatMessage> loadMessagesForEntry(Path bibDatabasePath, String citationKey) {
-        return loadMessagesFromMap(getMapForEntry(bibDatabasePath, citationKey));
+        return loadMessages(getMigratedPrefix(bibDatabasePath, ENTRY_CHAT_HISTORY_PREFIX, citationKey));
     }
 
     @Override
     public void storeMessagesForEntry(Path bibDatabasePath, String citationKey, List<ChatMessage> messages) {
-        storeMessagesForMap(getMapForEntry(bibDatabasePath, citationKey), messages);
+        storeMessages(getMigratedPrefix(bibDatabasePath, ENTRY_CHAT_HISTORY_PREFIX, citationKey), messages);
     }
 
     @Override
     public List<ChatMessage> loadMessagesForGroup(Path bibDatabasePath, String name) {
-        return loadMessagesFromMap(getMapForGroup(bibDatabasePath, name));
+        return loadMessages(getMigratedPrefix(bibDatabasePath, GROUP_CHAT_HISTORY_PREFIX, name));
     }
 
     @Override
     public void storeMessagesForGroup(Path bibDatabasePath, String name, List<ChatMessage> messages) {
-        storeMessagesForMap(getMapForGroup(bibDatabasePath, name), messages);
+        storeMessages(getMigratedPrefix(bibDatabasePath, GROUP_CHAT_HISTORY_PREFIX, name), messages);
     }
 
-    private List<ChatMessage> loadMessagesFromMap(Map<Integer, ChatHistoryRecord> map) {
-        return map
-                .entrySet()
-                // We need to check all keys, because upon deletion, there can be "holes" in the integer.
-                .stream()
-                .sorted(Comparator.comparingInt(Map.Entry::getKey))
-                .map(entry -> entry.getValue().toLangchainMessage())
-                .toList();
+    private List<ChatMessage> loadMessages(String prefix) {
+        return loadRecords(prefix).stream().map(ChatHistoryRecord::toLangchainMessage).toList();
     }
 
-    private void storeMessagesForMap(Map<Integer, ChatHistoryRecord> map, List<ChatMessage> messages) {
-        map.clear();
+    /**
+     * Usually, messages are only added to a chat. Then, only the new messages are written.
+     */
+    private void storeMessages(String prefix, List<ChatMessage> messages) {
+        List<ChatHistoryRecord> records = messages.stream().map(ChatHistoryRecord::fromLangchainMessage).toList();
+        List<ChatHistoryRecord> storedRecords = loadRecords(prefix);
 
-        new IntRange(0, messages.size() - 1).forEach(i ->
-                map.put(i, ChatHistoryRecord.fromLangchainMessage(messages.get(i)))
-        );
+        if ((storedRecords.size() <= records.size()) && storedRecords.equals(records.subList(0, storedRecords.size()))) {
+            for (int i = storedRecords.size(); i < records.size(); i++) {
+                messagesMap.put(getKey(prefix, i), records.get(i));
+            }
+        } else {
+            writeRecords(prefix, records);
+        }
     }
 
-    private Map<Integer, ChatHistoryRecord> getMapForEntry(Path bibDatabasePath, String citationKey) {
-        return getMap(bibDatabasePath, ENTRY_CHAT_HISTORY_PREFIX, citationKey);
+    private List<ChatHistoryRecord> loadRecords(String prefix) {
+        List<ChatHistoryRecord> records = new ArrayList<>();
+        Cursor<String, ChatHistoryRecord> cursor = messagesMap.cursor(prefix);
+        while (cursor.hasNext() && cursor.next().startsWith(prefix)) {
+            records.add(cursor.getValue());
+        }
+        return records;
+    }
+
+    private void writeRecords(String prefix, List<ChatHistoryRecord> records) {
+        List<String> oldKeys = new ArrayList<>();
+        Cursor<String, ChatHistoryRecord> cursor = messagesMap.cursor(prefix);
+        while (cursor.hasNext() && cursor.next().startsWith(prefix)) {
+            oldKeys.add(cursor.getKey());
+        }
+        oldKeys.forEach(messagesMap::remove);
+
+        for (int i = 0; i < records.size(); i++) {
+            messagesMap.put(getKey(prefix, i), records.get(i));
+        }
     }
 
-    private Map<Integer, ChatHistoryRecord> getMapForGroup(Path bibDatabasePath, String name) {
-        return getMap(bibDatabasePath, GROUP_CHAT_HISTORY_PREFIX, name);
+    /**
+     * All messages of a chat share this prefix. The separator does not occur in paths, citation keys, and group names.
+     */
+    private static String getPrefix(String bibDatabasePath, String type, String name) {
+        return bibDatabasePath + KEY_SEPARATOR + type + KEY_SEPARATOR + name + KEY_SEPARATOR;
     }
 
-    private Map<Integer, ChatHistoryRecord> getMap(Path bibDatabasePath, String type, String name) {
-        return mvStore.openMap(bibDatabasePath + "-" + type + "-" + name);
+    /**
+     * The sequence number is padded, so that the keys are sorted in the order of the messages
+     */
+    private static String getKey(String prefix, int sequenceNumber) {
+        return prefix + "%010d".formatted(sequenceNumber);
     }
 
     @Override
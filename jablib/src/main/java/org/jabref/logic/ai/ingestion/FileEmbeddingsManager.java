@@ -56,12 +56,12 @@ public class FileEmbeddingsManager {
         aiPreferences.addListenerToEmbeddingsParametersChange(embeddingStore::removeAll);
     }
 
-    public void addDocument(String link, Document document, long modificationTimeInSeconds, IntegerProperty workDone, IntegerProperty workMax) throws InterruptedException {
+    public void addDocument(String link, Document document, long modificationTimeInSeconds, long sizeInBytes, IntegerProperty workDone, IntegerProperty workMax) throws InterruptedException {
         document.metadata().put(LINK_METADATA_KEY, link);
         lowLevelIngestor.ingestDocument(document, shutdownSignal, workDone, workMax);
 
         if (!shutdownSignal.get()) {
-            fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds);
+            fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds, sizeInBytes);
         }
     }
 
@@ -78,6 +78,10 @@ public class FileEmbeddingsManager {
         return fullyIngestedDocumentsTracker.getIngestedDocumentModificationTimeInSeconds(link);
     }
 
+    public Optional<Long> getIngestedDocumentSizeInBytes(String link) {
+        return fullyIngestedDocumentsTracker.getIngestedDocumentSizeInBytes(link);
+    }
+
     public void clearEmbeddingsFor(List<LinkedFile> linkedFiles) {
         linkedFiles.stream().map(LinkedFile::getLink).forEach(this::removeDocument);
     }
@@ -1,19 +1,32 @@
 package org.jabref.logic.ai.ingestion;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class is responsible for recording the information about which documents (or documents) have been fully ingested.
  * <p>
- * The class also records the document modification time.
+ * The class also records the document modification time and size.
+ * Documents waiting for ingestion are recorded too, so that their ingestion can be continued in the next session.
  */
 public interface FullyIngestedDocumentsTracker {
-    void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds);
+    void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds, long sizeInBytes);
 
     Optional<Long> getIngestedDocumentModificationTimeInSeconds(String link);
 
+    /**
+     * @return the size of the document when it was ingested, empty if the document was not ingested or the size was not recorded
+     */
+    Optional<Long> getIngestedDocumentSizeInBytes(String link);
+
     void unmarkDocumentAsFullyIngested(String link);
 
+    void markDocumentAsQueued(String link);
+
+    void unmarkDocumentAsQueued(String link);
+
+    Set<String> getQueuedDocuments();
+
     void commit();
 
     void close();
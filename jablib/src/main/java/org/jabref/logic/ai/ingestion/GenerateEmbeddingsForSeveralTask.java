@@ -15,7 +15,6 @@ import org.jabref.logic.ai.processingstatus.ProcessingState;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
-import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 
@@ -26,6 +25,8 @@ import org.slf4j.LoggerFactory;
  * This task generates embeddings for several {@link LinkedFile} (typically used for groups).
  * It will check if embeddings were already generated.
  * And it also will store the embeddings.
+ * <p>
+ * The files are ingested by the {@link IngestionScheduler}, this task only waits for them.
  */
 public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateEmbeddingsForSeveralTask.class);
@@ -35,7 +36,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private final FileEmbeddingsManager fileEmbeddingsManager;
     private final BibDatabaseContext bibDatabaseContext;
     private final FilePreferences filePreferences;
-    private final TaskExecutor taskExecutor;
+    private final IngestionScheduler ingestionScheduler;
     private final ReadOnlyBooleanProperty shutdownSignal;
 
     private final ProgressCounter progressCounter = new ProgressCounter();
@@ -48,7 +49,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
             FileEmbeddingsManager fileEmbeddingsManager,
             BibDatabaseContext bibDatabaseContext,
             FilePreferences filePreferences,
-            TaskExecutor taskExecutor,
+            IngestionScheduler ingestionScheduler,
             ReadOnlyBooleanProperty shutdownSignal
     ) {
         this.groupName = groupName;
@@ -56,7 +57,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
         this.fileEmbeddingsManager = fileEmbeddingsManager;
         this.bibDatabaseContext = bibDatabaseContext;
         this.filePreferences = filePreferences;
-        this.taskExecutor = taskExecutor;
+        this.ingestionScheduler = ingestionScheduler;
         this.shutdownSignal = shutdownSignal;
 
         configure(groupName);
@@ -82,20 +83,21 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
                 .stream()
                 .map(processingInfo -> {
                     processingInfo.setState(ProcessingState.PROCESSING);
+                    String link = processingInfo.getObject().getLink();
+                    BackgroundTask<Void> task = new GenerateEmbeddingsTask(
+                            processingInfo.getObject(),
+                            fileEmbeddingsManager,
+                            bibDatabaseContext,
+                            filePreferences,
+                            shutdownSignal
+                    )
+                            .showToUser(false)
+                            .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
+                            .onFailure(processingInfo::setException);
                     return new Pair<>(
-                            new GenerateEmbeddingsTask(
-                                    processingInfo.getObject(),
-                                    fileEmbeddingsManager,
-                                    bibDatabaseContext,
-                                    filePreferences,
-                                    shutdownSignal
-                            )
-                                    .showToUser(false)
-                                    .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
-                                    .onFailure(processingInfo::setException)
-                                    .onFinished(() -> progressCounter.increaseWorkDone(1))
-                                    .executeWith(taskExecutor),
-                            processingInfo.getObject().getLink());
+                            ingestionScheduler.submit(link, IngestionScheduler.Priority.GROUP_CHAT, task)
+                                              .whenComplete((v, e) -> progressCounter.increaseWorkDone(1)),
+                            link);
                 })
                 .forEach(futures::add);
 
@@ -88,23 +88,28 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
         }
 
         Optional<Long> modTime = Optional.empty();
+        long size = 0;
         boolean shouldIngest = true;
 
         try {
             BasicFileAttributes attributes = Files.readAttributes(path.get(), BasicFileAttributes.class);
 
             long currentModificationTimeInSeconds = attributes.lastModifiedTime().to(TimeUnit.SECONDS);
+            modTime = Optional.of(currentModificationTimeInSeconds);
+            size = attributes.size();
 
             Optional<Long> ingestedModificationTimeInSeconds = fileEmbeddingsManager.getIngestedDocumentModificationTimeInSeconds(linkedFile.getLink());
 
-            if (ingestedModificationTimeInSeconds.isEmpty()) {
-                modTime = Optional.of(currentModificationTimeInSeconds);
-            } else {
-                if (currentModificationTimeInSeconds > ingestedModificationTimeInSeconds.get()) {
-                    modTime = Optional.of(currentModificationTimeInSeconds);
-                } else {
+            if (ingestedModificationTimeInSeconds.isPresent()) {
+                // A file restored from a backup may be older than the ingested one, thus any difference counts.
+                // The size is only known for files ingested by newer versions of JabRef.
+                Optional<Long> ingestedSizeInBytes = fileEmbeddingsManager.getIngestedDocumentSizeInBytes(linkedFile.getLink());
+                if ((currentModificationTimeInSeconds == ingestedModificationTimeInSeconds.get()) && ingestedSizeInBytes.map(ingestedSize -> ingestedSize == attributes.size()).orElse(true)) {
                     LOGGER.debug("No need to generate embeddings for file \"{}\", because it was already generated", linkedFile.getLink());
                     shouldIngest = false;
+                } else {
+                    // Otherwise, the embeddings of the old version would be found, too
+                    fileEmbeddingsManager.removeDocument(linkedFile.getLink());
                 }
             }
         } catch (IOException e) {
@@ -118,7 +123,7 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
 
         Optional<Document> document = new FileToDocument(shutdownSignal).fromFile(path.get());
         if (document.isPresent()) {
-            fileEmbeddingsManager.addDocument(linkedFile.getLink(), document.get(), modTime.orElse(0L), progressCounter.workDoneProperty(), progressCounter.workMaxProperty());
+            fileEmbeddingsManager.addDocument(linkedFile.getLink(), document.get(), modTime.orElse(0L), size, progressCounter.workDoneProperty(), progressCounter.workMaxProperty());
             LOGGER.debug("Embeddings for file \"{}\" were generated successfully", linkedFile.getLink());
         } else {
             LOGGER.error("Unable to generate embeddings for file \"{}\", because JabRef was unable to extract text from the file", linkedFile.getLink());
@@ -0,0 +1,231 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.TaskExecutor;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Decides in which order and how many documents are ingested at the same time.
+ * <p>
+ * Documents of the currently selected entry are ingested first, then documents of a group the user chats with, then documents of previously selected entries, then all other documents.
+ * Only a few documents are ingested at the same time, so that ingesting a large library does not occupy all threads of the {@link TaskExecutor}.
+ * While the user is typing, no further ingestion is started.
+ * <p>
+ * The documents waiting for ingestion are recorded in the {@link FullyIngestedDocumentsTracker}, so that their ingestion can be continued in the next session.
+ */
+public class IngestionScheduler {
+
+    public enum Priority {
+        SELECTED_ENTRY,
+        /**
+         * The user waits for the documents to chat with a group. Unlike {@link #SELECTED_ENTRY}, this priority is not demoted when another entry is selected.
+         */
+        GROUP_CHAT,
+        PREVIOUSLY_SELECTED_ENTRY,
+        BACKGROUND
+    }
+
+    /**
+     * Time after the last key stroke until further ingestion is started
+     */
+    private static final long USER_INPUT_PAUSE_MILLIS = 2000;
+
+    private final FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker;
+    private final ReadOnlyBooleanProperty shutdownSignal;
+    private final TaskExecutor taskExecutor;
+    private final int maxConcurrentJobs;
+
+    // All following fields are guarded by "this"
+    private final PriorityQueue<Job> queue = new PriorityQueue<>(Comparator.comparing(Job::getPriority).thenComparingLong(Job::getSequenceNumber));
+    // Key is the link of the document. Contains the waiting and the running jobs.
+    private final Map<String, Job> jobs = new HashMap<>();
+    private long nextSequenceNumber;
+    private int runningJobs;
+    private boolean dispatching;
+    private boolean resumeScheduled;
+
+    private volatile long pausedUntil;
+
+    public IngestionScheduler(FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker,
+                              ReadOnlyBooleanProperty shutdownSignal,
+                              TaskExecutor taskExecutor) {
+        // Computing the embeddings of a single document already uses several cores
+        this(fullyIngestedDocumentsTracker, shutdownSignal, taskExecutor, Math.min(2, Math.max(1, Runtime.getRuntime().availableProcessors() / 4)));
+    }
+
+    @VisibleForTesting
+    IngestionScheduler(FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker,
+                       ReadOnlyBooleanProperty shutdownSignal,
+                       TaskExecutor taskExecutor,
+                       int maxConcurrentJobs) {
+        this.fullyIngestedDocumentsTracker = fullyIngestedDocumentsTracker;
+        this.shutdownSignal = shutdownSignal;
+        this.taskExecutor = taskExecutor;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    /**
+     * Queues the ingestion of the given document. If the document is already queued, only its priority is raised.
+     * <p>
+     * Note that the scheduler uses {@link BackgroundTask#onFinished(Runnable)} of the given task.
+     *
+     * @return a future that completes when the task finished, successfully or not
+     */
+    public CompletableFuture<Void> submit(String link, Priority priority, BackgroundTask<Void> task) {
+        CompletableFuture<Void> completion;
+        synchronized (this) {
+            Job job = jobs.get(link);
+            if (job != null) {
+                raisePriority(job, priority);
+                return job.completion;
+            }
+
+            if (priority == Priority.SELECTED_ENTRY) {
+                demoteSelectedEntryJobs();
+            }
+            job = new Job(link, priority, nextSequenceNumber++, task);
+            jobs.put(link, job);
+            queue.add(job);
+            completion = job.completion;
+        }
+        fullyIngestedDocumentsTracker.markDocumentAsQueued(link);
+        dispatch();
+        return completion;
+    }
+
+    /**
+     * Raises the priority of the given document, if its ingestion is still waiting
+     */
+    public synchronized void prioritize(String link, Priority priority) {
+        Job job = jobs.get(link);
+        if (job != null) {
+            raisePriority(job, priority);
+        }
+    }
+
+    /**
+     * Delays starting further ingestion, because the user is typing. Ingestion already running is not interrupted.
+     */
+    public void notifyUserInput() {
+        pausedUntil = System.currentTimeMillis() + USER_INPUT_PAUSE_MILLIS;
+    }
+
+    private void raisePriority(Job job, Priority priority) {
+        if (priority == Priority.SELECTED_ENTRY) {
+            demoteSelectedEntryJobs();
+        }
+        if ((priority.compareTo(job.priority) < 0) && queue.remove(job)) {
+            job.priority = priority;
+            queue.add(job);
+        }
+    }
+
+    /**
+     * The entry selected before is not the selected entry anymore
+     */
+    private void demoteSelectedEntryJobs() {
+        List<Job> selectedEntryJobs = queue.stream().filter(job -> job.priority == Priority.SELECTED_ENTRY).toList();
+        queue.removeAll(selectedEntryJobs);
+        selectedEntryJobs.forEach(job -> job.priority = Priority.PREVIOUSLY_SELECTED_ENTRY);
+        queue.addAll(selectedEntryJobs);
+    }
+
+    /**
+     * Starts waiting jobs as long as there are free slots.
+     * <p>
+     * A task executor may run a task (and thus finish a job) on the calling thread. Therefore, this method does not recurse but lets the outermost call start the next jobs.
+     */
+    private void dispatch() {
+        synchronized (this) {
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+
+        while (true) {
+            Job job;
+            synchronized (this) {
+                long pauseMillis = pausedUntil - System.currentTimeMillis();
+                if (queue.isEmpty() || (runningJobs >= maxConcurrentJobs) || (pauseMillis > 0)) {
+                    dispatching = false;
+                    if ((pauseMillis > 0) && !queue.isEmpty() && !resumeScheduled) {
+                        resumeScheduled = true;
+                        BackgroundTask.wrap(this::resume).scheduleWith(taskExecutor, pauseMillis, TimeUnit.MILLISECONDS);
+                    }
+                    return;
+                }
+                job = queue.poll();
+                runningJobs++;
+            }
+
+            // A cancelled task does not call its onFinished handler
+            job.task.isCancelledProperty().addListener((_, _, cancelled) -> {
+                if (cancelled) {
+                    finish(job);
+                }
+            });
+            job.task.onFinished(() -> finish(job))
+                    .executeWith(taskExecutor);
+        }
+    }
+
+    private void resume() {
+        synchronized (this) {
+            resumeScheduled = false;
+        }
+        dispatch();
+    }
+
+    private void finish(Job job) {
+        synchronized (this) {
+            if (job.finished) {
+                return;
+            }
+            job.finished = true;
+            jobs.remove(job.link);
+            runningJobs--;
+        }
+        // On shutdown, the task is aborted and has to be run again in the next session
+        if (!shutdownSignal.get()) {
+            fullyIngestedDocumentsTracker.unmarkDocumentAsQueued(job.link);
+        }
+        job.completion.complete(null);
+        dispatch();
+    }
+
+    private static class Job {
+        private final String link;
+        private final long sequenceNumber;
+        private final BackgroundTask<Void> task;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private Priority priority;
+        private boolean finished;
+
+        Job(String link, Priority priority, long sequenceNumber, BackgroundTask<Void> task) {
+            this.link = link;
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
+            this.task = task;
+        }
+
+        Priority getPriority() {
+            return priority;
+        }
+
+        long getSequenceNumber() {
+            return sequenceNumber;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.logic.ai.ingestion;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeMap;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -27,6 +28,8 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 /**
  * Main class for generating embedding for files.
  * Use this class in the logic and UI.
+ * <p>
+ * The files are ingested in the order decided by the {@link IngestionScheduler}.
  */
 public class IngestionService {
     // We use a {@link TreeMap} here for the same reasons we use it in {@link ChatHistoryService}.
@@ -39,6 +42,8 @@ public class IngestionService {
     private final TaskExecutor taskExecutor;
 
     private final FileEmbeddingsManager fileEmbeddingsManager;
+    private final FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker;
+    private final IngestionScheduler ingestionScheduler;
 
     private final ReadOnlyBooleanProperty shutdownSignal;
 
@@ -61,6 +66,8 @@ public class IngestionService {
                 embeddingStore,
                 fullyIngestedDocumentsTracker
         );
+        this.fullyIngestedDocumentsTracker = fullyIngestedDocumentsTracker;
+        this.ingestionScheduler = new IngestionScheduler(fullyIngestedDocumentsTracker, shutdownSignal, taskExecutor);
 
         this.shutdownSignal = shutdownSignal;
     }
@@ -68,6 +75,30 @@ public class IngestionService {
     public void setupDatabase(BibDatabaseContext bibDatabaseContext) {
         // GC was eating the listeners, so we have to fall back to the event bus.
         bibDatabaseContext.getDatabase().registerListener(new EntriesChangedListener(bibDatabaseContext));
+
+        continueQueuedIngestion(bibDatabaseContext);
+    }
+
+    /**
+     * Continues the ingestion of the files of the given library that were still waiting when JabRef was closed
+     */
+    private void continueQueuedIngestion(BibDatabaseContext bibDatabaseContext) {
+        Set<String> queuedDocuments = fullyIngestedDocumentsTracker.getQueuedDocuments();
+        if (queuedDocuments.isEmpty()) {
+            return;
+        }
+
+        bibDatabaseContext.getEntries().stream()
+                          .flatMap(entry -> entry.getFiles().stream())
+                          .filter(linkedFile -> queuedDocuments.contains(linkedFile.getLink()))
+                          .forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext, IngestionScheduler.Priority.BACKGROUND));
+    }
+
+    /**
+     * Pauses starting further ingestion for a short time, so that typing is not slowed down
+     */
+    public void notifyUserInput() {
+        ingestionScheduler.notifyUserInput();
     }
 
     private class EntriesChangedListener {
@@ -81,7 +112,7 @@ public class IngestionService {
         public void listen(EntriesAddedEvent e) {
             e.getBibEntries().forEach(entry -> {
                 if (aiPreferences.getAutoGenerateEmbeddings()) {
-                    entry.getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
+                    entry.getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext, IngestionScheduler.Priority.BACKGROUND));
                 }
 
                 entry.registerListener(this);
@@ -91,7 +122,7 @@ public class IngestionService {
         @Subscribe
         public void listen(FieldChangedEvent e) {
             if (e.getField() == StandardField.FILE && aiPreferences.getAutoGenerateEmbeddings()) {
-                e.getBibEntry().getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
+                e.getBibEntry().getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext, IngestionScheduler.Priority.BACKGROUND));
             }
         }
     }
@@ -101,12 +132,20 @@ public class IngestionService {
      * This method returns a {@link ProcessingInfo} that can be used for tracking state of the ingestion.
      * Returned {@link ProcessingInfo} is related to the passed {@link LinkedFile}, so if you call this method twice
      * on the same {@link LinkedFile}, the method will return the same {@link ProcessingInfo}.
+     * <p>
+     * The file is assumed to belong to the entry the user currently works with. Thus, it is ingested before all other files.
      */
     public ProcessingInfo<LinkedFile, Void> ingest(LinkedFile linkedFile, BibDatabaseContext bibDatabaseContext) {
+        return ingest(linkedFile, bibDatabaseContext, IngestionScheduler.Priority.SELECTED_ENTRY);
+    }
+
+    private ProcessingInfo<LinkedFile, Void> ingest(LinkedFile linkedFile, BibDatabaseContext bibDatabaseContext, IngestionScheduler.Priority priority) {
         ProcessingInfo<LinkedFile, Void> processingInfo = getProcessingInfo(linkedFile);
 
         if (processingInfo.getState() == ProcessingState.STOPPED) {
-            startEmbeddingsGenerationTask(linkedFile, bibDatabaseContext, processingInfo);
+            startEmbeddingsGenerationTask(linkedFile, bibDatabaseContext, processingInfo, priority);
+        } else if (processingInfo.getState() == ProcessingState.PROCESSING) {
+            ingestionScheduler.prioritize(linkedFile.getLink(), priority);
         }
 
         return processingInfo;
@@ -139,20 +178,22 @@ public class IngestionService {
         return result;
     }
 
-    private void startEmbeddingsGenerationTask(LinkedFile linkedFile, BibDatabaseContext bibDatabaseContext, ProcessingInfo<LinkedFile, Void> processingInfo) {
+    private void startEmbeddingsGenerationTask(LinkedFile linkedFile, BibDatabaseContext bibDatabaseContext, ProcessingInfo<LinkedFile, Void> processingInfo, IngestionScheduler.Priority priority) {
         processingInfo.setState(ProcessingState.PROCESSING);
 
-        new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal)
-                .showToUser(true)
-                .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
-                .onFailure(processingInfo::setException)
-                .executeWith(taskExecutor);
+        ingestionScheduler.submit(
+                linkedFile.getLink(),
+                priority,
+                new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal)
+                        .showToUser(true)
+                        .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
+                        .onFailure(processingInfo::setException));
     }
 
     private void startEmbeddingsGenerationTask(StringProperty groupName, List<ProcessingInfo<LinkedFile, Void>> linkedFiles, BibDatabaseContext bibDatabaseContext) {
         linkedFiles.forEach(processingInfo -> processingInfo.setState(ProcessingState.PROCESSING));
 
-        new GenerateEmbeddingsForSeveralTask(groupName, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, taskExecutor, shutdownSignal)
+        new GenerateEmbeddingsForSeveralTask(groupName, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, ingestionScheduler, shutdownSignal)
                 .executeWith(taskExecutor);
     }
 
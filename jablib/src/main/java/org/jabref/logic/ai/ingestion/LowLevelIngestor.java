@@ -10,18 +10,22 @@ import org.jabref.logic.ai.AiPreferences;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 
 public class LowLevelIngestor {
+    /**
+     * Number of segments embedded and stored at once. Stopping the ingestion and progress reporting happen between the batches.
+     */
+    private static final int SEGMENTS_PER_BATCH = 64;
+
     private final AiPreferences aiPreferences;
 
     private final EmbeddingStore<TextSegment> embeddingStore;
     private final EmbeddingModel embeddingModel;
 
-    private EmbeddingStoreIngestor ingestor;
     private DocumentSplitter documentSplitter;
 
     public LowLevelIngestor(AiPreferences aiPreferences, EmbeddingStore<TextSegment> embeddingStore, EmbeddingModel embeddingModel) {
@@ -38,13 +42,6 @@ public class LowLevelIngestor {
         this.documentSplitter = DocumentSplitters
                 .recursive(aiPreferences.getDocumentSplitterChunkSize(),
                            aiPreferences.getDocumentSplitterOverlapSize());
-
-        this.ingestor = EmbeddingStoreIngestor
-                .builder()
-                .embeddingStore(embeddingStore)
-                .embeddingModel(embeddingModel)
-                .documentSplitter(documentSplitter)
-                .build();
     }
 
     private void setupListeningToPreferencesChanges() {
@@ -63,14 +60,17 @@ public class LowLevelIngestor {
         List<TextSegment> textSegments = documentSplitter.split(document);
         workMax.set(textSegments.size());
 
-        for (TextSegment documentPart : textSegments) {
+        for (int batchStart = 0; batchStart < textSegments.size(); batchStart += SEGMENTS_PER_BATCH) {
             if (stopProperty.get()) {
                 throw new InterruptedException();
             }
 
-            ingestor.ingest(new Document(documentPart.text(), document.metadata()));
+            // The segments carry the metadata of the document
+            List<TextSegment> batch = textSegments.subList(batchStart, Math.min(batchStart + SEGMENTS_PER_BATCH, textSegments.size()));
+            List<Embedding> embeddings = embeddingModel.embedAll(batch).content();
+            embeddingStore.addAll(embeddings, batch);
 
-            workDone.set(workDone.get() + 1);
+            workDone.set(workDone.get() + batch.size());
         }
     }
 }
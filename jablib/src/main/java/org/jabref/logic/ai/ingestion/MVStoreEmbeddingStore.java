@@ -99,7 +99,7 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
+        List<String> idsToRemove = applyFilter(filter).map(Map.Entry::getKey).toList();
         idsToRemove.forEach(this::remove);
     }
 
@@ -125,8 +125,10 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
         PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
 
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
+        // Only the records of the filtered files are scored
+        applyFilter(request.filter()).forEach(entry -> {
+            String id = entry.getKey();
+            EmbeddingRecord eRecord = entry.getValue();
 
             double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
@@ -159,9 +161,9 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    private Stream<Map.Entry<String, EmbeddingRecord>> applyFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> embeddingsMap.entrySet().stream();
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
                     filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
@@ -173,8 +175,8 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    private Stream<Map.Entry<String, EmbeddingRecord>> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
+        return embeddingsMap.entrySet().stream().filter(predicate);
     }
 
     @Override
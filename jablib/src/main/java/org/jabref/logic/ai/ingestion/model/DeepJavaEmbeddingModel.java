@@ -1,8 +1,12 @@
 package org.jabref.logic.ai.ingestion.model;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntSupplier;
 
 import ai.djl.MalformedModelException;
 import ai.djl.inference.Predictor;
@@ -10,31 +14,44 @@ import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ZooModel;
 import ai.djl.translate.TranslateException;
+import com.google.common.annotations.VisibleForTesting;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 
+/**
+ * Computes the embeddings using a local model.
+ * <p>
+ * The texts are passed to the model in batches. Within a batch, all texts are padded to the longest one.
+ * Therefore, the texts are grouped by their length first, so that little computation is spent on padding.
+ * <p>
+ * A predictor must not be used by several threads at the same time. Thus, each call takes an idle predictor and returns it afterward.
+ * A new predictor is only created if all others are in use.
+ */
 public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
     private final ZooModel<String, float[]> model;
-    private final Predictor<String, float[]> predictor;
+    private final IntSupplier batchSize;
+    private final Queue<Predictor<String, float[]>> idlePredictors = new ConcurrentLinkedQueue<>();
 
-    public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria) throws ModelNotFoundException, MalformedModelException, IOException {
+    /**
+     * @param batchSize the number of texts passed to the model at once. It is asked for on each call, so that a change of the preferences takes effect without loading the model again.
+     */
+    public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria, IntSupplier batchSize) throws ModelNotFoundException, MalformedModelException, IOException {
         this.model = criteria.loadModel();
-        this.predictor = model.newPredictor();
+        this.batchSize = batchSize;
     }
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> list) {
-        try {
-            List<Embedding> result = new ArrayList<>();
-
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
-                result.add(new Embedding(embedding));
-            }
+        Predictor<String, float[]> predictor = idlePredictors.poll();
+        if (predictor == null) {
+            predictor = model.newPredictor();
+        }
 
-            return new Response<>(result);
+        try {
+            List<Embedding> embeddings = embedInBatches(list.stream().map(TextSegment::text).toList(), batchSize.getAsInt(), predictor::batchPredict);
+            return new Response<>(embeddings);
         } catch (TranslateException e) {
             // The rationale for RuntimeException here:
             // 1. langchain4j error handling is a mess, and it uses RuntimeExceptions
@@ -45,11 +62,43 @@ public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
             //    it's possible, but langchain4j doesn't do it.
 
             throw new RuntimeException(e);
+        } finally {
+            idlePredictors.add(predictor);
         }
     }
 
+    /**
+     * @return the embeddings of the given texts, in the order of the texts
+     */
+    @VisibleForTesting
+    static List<Embedding> embedInBatches(List<String> texts, int batchSize, BatchPredictor predictor) throws TranslateException {
+        // The number of tokens is only known inside the model, but it grows with the length of the text
+        Integer[] byLength = new Integer[texts.size()];
+        Arrays.setAll(byLength, i -> i);
+        Arrays.sort(byLength, Comparator.comparingInt(i -> texts.get(i).length()));
+
+        Embedding[] result = new Embedding[texts.size()];
+        for (int batchStart = 0; batchStart < byLength.length; batchStart += batchSize) {
+            List<Integer> batch = Arrays.asList(byLength).subList(batchStart, Math.min(batchStart + batchSize, byLength.length));
+            List<float[]> embeddings = predictor.batchPredict(batch.stream().map(texts::get).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                result[batch.get(i)] = new Embedding(embeddings.get(i));
+            }
+        }
+        return Arrays.asList(result);
+    }
+
     @Override
     public void close() {
+        Predictor<String, float[]> predictor;
+        while ((predictor = idlePredictors.poll()) != null) {
+            predictor.close();
+        }
         this.model.close();
     }
+
+    @FunctionalInterface
+    interface BatchPredictor {
+        List<float[]> batchPredict(List<String> texts) throws TranslateException;
+    }
 }
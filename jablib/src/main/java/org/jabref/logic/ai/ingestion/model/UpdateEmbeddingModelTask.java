@@ -62,7 +62,7 @@ public class UpdateEmbeddingModelTask extends BackgroundTask<Void> {
                         .build();
 
         try {
-            predictorProperty.set(Optional.of(new DeepJavaEmbeddingModel(criteria)));
+            predictorProperty.set(Optional.of(new DeepJavaEmbeddingModel(criteria, aiPreferences::getEmbeddingBatchSize)));
         } catch (ModelNotFoundException e) {
             predictorProperty.set(Optional.empty());
             throw new RuntimeException(Localization.lang("Unable to find the embedding model by the URL %0", modelUrl), e);
@@ -3,6 +3,7 @@ package org.jabref.logic.ai.ingestion.storages;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.ai.ingestion.FullyIngestedDocumentsTracker;
 import org.jabref.logic.ai.util.MVStoreBase;
@@ -12,10 +13,12 @@ import org.jabref.logic.util.NotificationService;
 /**
  * This class is responsible for recording the information about which documents (or documents) have been fully ingested.
  * <p>
- * The class also records the document modification time.
+ * The class also records the document modification time and size, and the documents waiting for ingestion.
  */
 public class MVStoreFullyIngestedDocumentsTracker extends MVStoreBase implements FullyIngestedDocumentsTracker {
     private static final String INGESTED_MAP_NAME = "ingested";
+    private static final String INGESTED_SIZES_MAP_NAME = "ingestedSizes";
+    private static final String QUEUED_MAP_NAME = "queued";
 
     // This map stores the ingested documents. The key is LinkedDocument.getLink(), and the value is the modification time in seconds.
     // If an entry is present, then it means the document was ingested. Otherwise, document was not ingested.
@@ -24,22 +27,55 @@ public class MVStoreFullyIngestedDocumentsTracker extends MVStoreBase implements
     // it doesn't mean the document is fully ingested.
     private final Map<String, Long> ingestedMap;
 
+    // The size in bytes of the ingested documents. Documents ingested by older versions of JabRef have no entry here.
+    private final Map<String, Long> ingestedSizesMap;
+
+    // The documents waiting for ingestion. The value is not used.
+    private final Map<String, Boolean> queuedMap;
+
     public MVStoreFullyIngestedDocumentsTracker(Path path, NotificationService dialogService) {
         super(path, dialogService);
 
         this.ingestedMap = this.mvStore.openMap(INGESTED_MAP_NAME);
+        this.ingestedSizesMap = this.mvStore.openMap(INGESTED_SIZES_MAP_NAME);
+        this.queuedMap = this.mvStore.openMap(QUEUED_MAP_NAME);
     }
 
-    public void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds) {
+    public void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds, long sizeInBytes) {
         ingestedMap.put(link, modificationTimeInSeconds);
+        ingestedSizesMap.put(link, sizeInBytes);
     }
 
     public Optional<Long> getIngestedDocumentModificationTimeInSeconds(String link) {
         return Optional.ofNullable(ingestedMap.get(link));
     }
 
+    public Optional<Long> getIngestedDocumentSizeInBytes(String link) {
+        return Optional.ofNullable(ingestedSizesMap.get(link));
+    }
+
     public void unmarkDocumentAsFullyIngested(String link) {
         ingestedMap.remove(link);
+        ingestedSizesMap.remove(link);
+    }
+
+    /**
+     * The queue is committed right away, so that the ingestion is continued in the next session even if JabRef is not closed properly
+     */
+    public void markDocumentAsQueued(String link) {
+        if (queuedMap.put(link, Boolean.TRUE) == null) {
+            commit();
+        }
+    }
+
+    public void unmarkDocumentAsQueued(String link) {
+        if (queuedMap.remove(link) != null) {
+            commit();
+        }
+    }
+
+    public Set<String> getQueuedDocuments() {
+        return Set.copyOf(queuedMap.keySet());
     }
 
     @Override
@@ -1,10 +1,16 @@
 package org.jabref.logic.ai.summarization;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,6 +29,8 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
@@ -37,6 +45,9 @@ import org.slf4j.LoggerFactory;
  * And it also will store the summary.
  * <p>
  * This task is created in the {@link SummariesService}, and stored then in a {@link SummariesStorage}.
+ * <p>
+ * The chunks of a document are summarized concurrently, up to {@link AiPreferences#getMaxConcurrentRequests()} at the same time.
+ * The summaries of the chunks are kept in the {@link SummariesStorage} until the summary of the entry is stored, so that an interrupted summarization continues where it stopped.
  */
 public class GenerateSummaryTask extends BackgroundTask<Summary> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateSummaryTask.class);
@@ -56,6 +67,9 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
 
     private final ProgressCounter progressCounter = new ProgressCounter();
 
+    // Chunk summaries to remove from the storage after the summary of the entry was generated
+    private final ConcurrentLinkedQueue<String> chunkSummaryKeys = new ConcurrentLinkedQueue<>();
+
     public GenerateSummaryTask(BibEntry entry,
                                BibDatabaseContext bibDatabaseContext,
                                SummariesStorage summariesStorage,
@@ -113,6 +127,7 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
                         aiPreferences.getSelectedChatModel(),
                         result
                 );
+                chunkSummaryKeys.forEach(summariesStorage::clearChunkSummary);
             } catch (InterruptedException e) {
                 LOGGER.debug("There was a summarization task for {}. It will be canceled, because user quits JabRef.", citationKey);
                 return null;
@@ -206,31 +221,22 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
 
         int passes = 0;
 
-        do {
-            passes++;
-            LOGGER.debug("Summarizing chunk(s) for file \"{}\" of entry {} ({} pass)", filePath, citationKey, passes);
-
-            addMoreWork(chunkSummaries.size());
-
-            List<String> list = new ArrayList<>();
-
-            for (String chunkSummary : chunkSummaries) {
-                if (shutdownSignal.get()) {
-                    throw new InterruptedException();
-                }
-
-                String prompt = templatesService.makeSummarizationChunk(chunkSummary);
-
-                LOGGER.debug("Sending request to AI provider to summarize a chunk from file \"{}\" of entry {}", filePath, citationKey);
-                String chunk = chatLanguageModel.generate(prompt);
-                LOGGER.debug("Chunk summary for file \"{}\" of entry {} was generated successfully", filePath, citationKey);
-
-                list.add(chunk);
-                doneOneWork();
-            }
-
-            chunkSummaries = list;
-        } while (estimateTokenCount(chunkSummaries) > aiPreferences.getContextWindowSize() - estimateTokenCount(aiPreferences.getTemplate(AiTemplate.SUMMARIZATION_COMBINE)));
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                aiPreferences.getMaxConcurrentRequests(),
+                new ThreadFactoryBuilder().setNameFormat("ai-summarization-pool-%d").build()
+        );
+        try {
+            do {
+                passes++;
+                LOGGER.debug("Summarizing chunk(s) for file \"{}\" of entry {} ({} pass)", filePath, citationKey, passes);
+
+                addMoreWork(chunkSummaries.size());
+
+                chunkSummaries = summarizeChunks(filePath, chunkSummaries, executorService);
+            } while (estimateTokenCount(chunkSummaries) > aiPreferences.getContextWindowSize() - estimateTokenCount(aiPreferences.getTemplate(AiTemplate.SUMMARIZATION_COMBINE)));
+        } finally {
+            executorService.shutdownNow();
+        }
 
         if (chunkSummaries.size() == 1) {
             doneOneWork(); // No need to call LLM for combination of summary chunks.
@@ -252,6 +258,59 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
         return result;
     }
 
+    /**
+     * Summarizes the given chunks concurrently
+     *
+     * @return the summaries in the order of the chunks
+     */
+    private List<String> summarizeChunks(String filePath, List<String> chunks, ExecutorService executorService) throws InterruptedException {
+        List<Future<String>> futures = new ArrayList<>(chunks.size());
+        for (String chunk : chunks) {
+            String prompt = templatesService.makeSummarizationChunk(chunk);
+            futures.add(executorService.submit(() -> summarizeChunk(filePath, prompt)));
+        }
+
+        List<String> chunkSummaries = new ArrayList<>(chunks.size());
+        try {
+            for (Future<String> future : futures) {
+                chunkSummaries.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case InterruptedException interruptedException ->
+                        throw interruptedException;
+                case RuntimeException runtimeException ->
+                        throw runtimeException;
+                default ->
+                        throw new RuntimeException(e.getCause());
+            }
+        }
+        return chunkSummaries;
+    }
+
+    private String summarizeChunk(String filePath, String prompt) throws InterruptedException {
+        if (shutdownSignal.get()) {
+            throw new InterruptedException();
+        }
+
+        String key = aiPreferences.getAiProvider().name() + "/" + aiPreferences.getSelectedChatModel() + "/" + Hashing.sha256().hashString(prompt, StandardCharsets.UTF_8);
+        Optional<String> storedChunkSummary = summariesStorage.getChunkSummary(key);
+        String chunkSummary;
+        if (storedChunkSummary.isPresent()) {
+            LOGGER.debug("Reusing the chunk summary for file \"{}\" of entry {} from an earlier summarization", filePath, citationKey);
+            chunkSummary = storedChunkSummary.get();
+        } else {
+            LOGGER.debug("Sending request to AI provider to summarize a chunk from file \"{}\" of entry {}", filePath, citationKey);
+            chunkSummary = chatLanguageModel.generate(prompt);
+            LOGGER.debug("Chunk summary for file \"{}\" of entry {} was generated successfully", filePath, citationKey);
+            summariesStorage.setChunkSummary(key, chunkSummary);
+        }
+        chunkSummaryKeys.add(key);
+
+        doneOneWork();
+        return chunkSummary;
+    }
+
     public String summarizeSeveralDocuments(Stream<String> documents) throws InterruptedException {
         return summarizeOneDocument(citationKey, documents.collect(Collectors.joining("\n\n")));
     }
@@ -273,12 +332,12 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
         updateMessage(progressCounter.getMessage());
     }
 
-    private void addMoreWork(int moreWork) {
+    private synchronized void addMoreWork(int moreWork) {
         progressCounter.increaseWorkMax(moreWork);
         updateProgress();
     }
 
-    private void doneOneWork() {
+    private synchronized void doneOneWork() {
         progressCounter.increaseWorkDone(1);
         updateProgress();
     }
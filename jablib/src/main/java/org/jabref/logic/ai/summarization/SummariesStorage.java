@@ -9,4 +9,17 @@ public interface SummariesStorage {
     Optional<Summary> get(Path bibDatabasePath, String citationKey);
 
     void clear(Path bibDatabasePath, String citationKey);
+
+    /**
+     * Summaries of single chunks are kept until the summary of the whole entry is stored.
+     * Thus, an interrupted summarization does not need to start from scratch.
+     * If the summarization is not retried, the storage may remove them after some time.
+     *
+     * @param key identifies the chunk and the model summarizing it
+     */
+    void setChunkSummary(String key, String chunkSummary);
+
+    Optional<String> getChunkSummary(String key);
+
+    void clearChunkSummary(String key);
 }
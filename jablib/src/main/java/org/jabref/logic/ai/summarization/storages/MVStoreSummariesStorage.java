@@ -1,6 +1,9 @@
 package org.jabref.logic.ai.summarization.storages;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -10,27 +13,89 @@ import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.NotificationService;
 
+/**
+ * Stores the summaries of all libraries in a single map. The key consists of the library path and the citation key.
+ * <p>
+ * Chunk summaries are removed when the storage is opened if they are older than {@link #CHUNK_SUMMARY_RETENTION}, since the summarization they belong to was not retried.
+ */
 public class MVStoreSummariesStorage extends MVStoreBase implements SummariesStorage {
-    private static final String SUMMARIES_MAP_PREFIX = "summaries";
+    private static final String SUMMARIES_MAP_NAME = "summaries";
+    // Earlier versions stored the summaries of each library in a map of its own, named with this prefix and the library path
+    private static final String LIBRARY_SUMMARIES_MAP_PREFIX = "summaries-";
+    private static final String CHUNK_SUMMARIES_MAP_NAME = "chunkSummaries";
+    private static final String CHUNK_SUMMARY_TIMES_MAP_NAME = "chunkSummaryTimes";
+    private static final Duration CHUNK_SUMMARY_RETENTION = Duration.ofDays(7);
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final Map<String, Summary> summariesMap;
+    private final Map<String, String> chunkSummariesMap;
+    // The time a chunk summary was stored, in seconds since the epoch
+    private final Map<String, Long> chunkSummaryTimesMap;
 
     public MVStoreSummariesStorage(Path path, NotificationService dialogService) {
         super(path, dialogService);
+
+        this.summariesMap = mvStore.openMap(SUMMARIES_MAP_NAME);
+        this.chunkSummariesMap = mvStore.openMap(CHUNK_SUMMARIES_MAP_NAME);
+        this.chunkSummaryTimesMap = mvStore.openMap(CHUNK_SUMMARY_TIMES_MAP_NAME);
+        migrateLibrarySummariesMaps();
+        removeOldChunkSummaries();
+    }
+
+    private void migrateLibrarySummariesMaps() {
+        List<String> oldMapNames = mvStore.getMapNames().stream()
+                                          .filter(mapName -> mapName.startsWith(LIBRARY_SUMMARIES_MAP_PREFIX))
+                                          .toList();
+        for (String oldMapName : oldMapNames) {
+            String bibDatabasePath = oldMapName.substring(LIBRARY_SUMMARIES_MAP_PREFIX.length());
+            Map<String, Summary> oldMap = mvStore.openMap(oldMapName);
+            oldMap.forEach((citationKey, summary) -> summariesMap.put(getKey(bibDatabasePath, citationKey), summary));
+            mvStore.removeMap(oldMapName);
+        }
+        if (!oldMapNames.isEmpty()) {
+            mvStore.commit();
+        }
+    }
+
+    private void removeOldChunkSummaries() {
+        long oldestKept = Instant.now().minus(CHUNK_SUMMARY_RETENTION).getEpochSecond();
+        List<String> oldKeys = chunkSummariesMap.keySet().stream()
+                                                .filter(key -> chunkSummaryTimesMap.getOrDefault(key, 0L) < oldestKept)
+                                                .toList();
+        oldKeys.forEach(this::clearChunkSummary);
+        if (!oldKeys.isEmpty()) {
+            mvStore.commit();
+        }
     }
 
     public void set(Path bibDatabasePath, String citationKey, Summary summary) {
-        getMap(bibDatabasePath).put(citationKey, summary);
+        summariesMap.put(getKey(bibDatabasePath.toString(), citationKey), summary);
     }
 
     public Optional<Summary> get(Path bibDatabasePath, String citationKey) {
-        return Optional.ofNullable(getMap(bibDatabasePath).get(citationKey));
+        return Optional.ofNullable(summariesMap.get(getKey(bibDatabasePath.toString(), citationKey)));
     }
 
     public void clear(Path bibDatabasePath, String citationKey) {
-        getMap(bibDatabasePath).remove(citationKey);
+        summariesMap.remove(getKey(bibDatabasePath.toString(), citationKey));
+    }
+
+    public void setChunkSummary(String key, String chunkSummary) {
+        chunkSummariesMap.put(key, chunkSummary);
+        chunkSummaryTimesMap.put(key, Instant.now().getEpochSecond());
+    }
+
+    public Optional<String> getChunkSummary(String key) {
+        return Optional.ofNullable(chunkSummariesMap.get(key));
+    }
+
+    public void clearChunkSummary(String key) {
+        chunkSummariesMap.remove(key);
+        chunkSummaryTimesMap.remove(key);
     }
 
-    private Map<String, Summary> getMap(Path bibDatabasePath) {
-        return mvStore.openMap(SUMMARIES_MAP_PREFIX + "-" + bibDatabasePath.toString());
+    private static String getKey(String bibDatabasePath, String citationKey) {
+        return bibDatabasePath + KEY_SEPARATOR + citationKey;
     }
 
     @Override
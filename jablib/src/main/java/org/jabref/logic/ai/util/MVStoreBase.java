@@ -3,20 +3,42 @@ package org.jabref.logic.ai.util;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.util.NotificationService;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import jakarta.annotation.Nullable;
 import org.h2.mvstore.MVStore;
 import org.h2.mvstore.MVStoreException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Base class for the AI storages.
+ * <p>
+ * Changes are committed and the file is compacted in the background every {@link #MAINTENANCE_INTERVAL_MINUTES} minutes.
+ * Thus, changes survive a crash, and the file does not grow with every rewritten chat history.
+ */
 public abstract class MVStoreBase implements AutoCloseable {
     private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreBase.class);
 
+    private static final long MAINTENANCE_INTERVAL_MINUTES = 5;
+    private static final int MAX_COMPACT_TIME_MILLIS = 200;
+
+    private static final ScheduledExecutorService MAINTENANCE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("ai-storage-maintenance-%d").setDaemon(true).build()
+    );
+
     protected MVStore mvStore;
 
+    // Empty for in-memory stores
+    private Optional<ScheduledFuture<?>> maintenance = Optional.empty();
+
     public MVStoreBase(Path path, NotificationService dialogService) {
         @Nullable Path mvStorePath = path;
 
@@ -33,6 +55,9 @@ public abstract class MVStoreBase implements AutoCloseable {
                     .autoCommitDisabled()
                     .fileName(mvStorePath == null ? null : mvStorePath.toString())
                     .open();
+            if (mvStorePath != null) {
+                maintenance = Optional.of(MAINTENANCE_EXECUTOR.scheduleWithFixedDelay(this::maintain, MAINTENANCE_INTERVAL_MINUTES, MAINTENANCE_INTERVAL_MINUTES, TimeUnit.MINUTES));
+            }
         } catch (MVStoreException e) {
             this.mvStore = new MVStore.Builder()
                     .autoCommitDisabled()
@@ -46,7 +71,19 @@ public abstract class MVStoreBase implements AutoCloseable {
         mvStore.commit();
     }
 
+    private void maintain() {
+        try {
+            if (mvStore.hasUnsavedChanges()) {
+                mvStore.commit();
+            }
+            mvStore.compactFile(MAX_COMPACT_TIME_MILLIS);
+        } catch (MVStoreException e) {
+            LOGGER.warn("Could not commit or compact {}", mvStore.getFileStore().getFileName(), e);
+        }
+    }
+
     public void close() {
+        maintenance.ifPresent(future -> future.cancel(false));
         mvStore.close();
     }
 
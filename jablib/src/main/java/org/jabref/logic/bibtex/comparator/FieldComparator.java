@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
@@ -18,6 +19,8 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.strings.StringUtil;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * A comparator for BibEntry fields
  */
@@ -82,94 +85,97 @@ public class FieldComparator implements Comparator<BibEntry> {
         return null;
     }
 
-    @Override
-    public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+    /**
+     * @return the fields the values of which are compared. The sort keys of entries depend on these only.
+     */
+    public OrFields getFields() {
+        return fields;
+    }
 
+    /**
+     * Computes the value the given entry is sorted by.
+     * <p>
+     * Computing the key parses names and converts LaTeX to Unicode. When sorting, keys should be computed once for each entry, not for each comparison.
+     */
+    public SortKey getSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
-            // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
+            value = entry.getType().getDisplayName();
         } else {
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+            value = getFieldValue(entry);
         }
-
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
-            return 0;
-        } else if (f1 == null) {
-            return -multiplier;
-        } else if (f2 == null) {
-            return +multiplier;
+        if (value == null) {
+            return SortKey.ABSENT;
         }
 
-        // Now we know that both f1 and f2 are != null
         if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
+            value = AuthorList.fixAuthorForAlphabetization(value);
         } else if (fieldType == FieldType.YEAR) {
-            int f1year;
+            int year;
             try {
-                f1year = StringUtil.intValueOf(f1);
+                year = StringUtil.intValueOf(value);
             } catch (NumberFormatException ex) {
-                f1year = 0;
+                year = 0;
             }
-            int f2year;
-            try {
-                f2year = StringUtil.intValueOf(f2);
-            } catch (NumberFormatException ex) {
-                f2year = 0;
-            }
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
+            return SortKey.ofNumber(year);
         } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+            return SortKey.ofNumber(Month.parse(value).map(Month::getNumber).orElse(-1));
         }
 
         if (isNumeric) {
             // Cannot use {@link org.jabref.logic.util.comparator.NumericFieldComparator}, because
             //   we need the "Else both are strings" branch and
             //   unparseable strings are sorted differently.
-            int i1;
-            boolean i1present;
-            try {
-                i1 = StringUtil.intValueOf(f1);
-                i1present = true;
-            } catch (NumberFormatException ex) {
-                i1 = 0;
-                i1present = false;
-            }
-            int i2;
-            boolean i2present;
             try {
-                i2 = StringUtil.intValueOf(f2);
-                i2present = true;
+                return SortKey.ofNumber(StringUtil.intValueOf(value));
             } catch (NumberFormatException ex) {
-                i2 = 0;
-                i2present = false;
+                // Sorted as string, after all numbers
             }
+        }
 
-            if (i1present && i2present) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return Integer.compare(i1, i2) * multiplier;
-            } else if (i1present) {
-                // The first one was parsable, but not the second one.
-                // This means we consider one < two
-                return -1 * multiplier;
-            } else if (i2present) {
-                // The second one was parsable, but not the first one.
-                // This means we consider one > two
-                return multiplier;
-            }
-            // Else none of them were parseable, and we can fall back on comparing strings.
+        return SortKey.ofText(COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    public int compareSortKeys(SortKey k1, SortKey k2) {
+        // Catch all cases involving absent values
+        if (!k1.isPresent() && !k2.isPresent()) {
+            return 0;
+        } else if (!k1.isPresent()) {
+            return -multiplier;
+        } else if (!k2.isPresent()) {
+            return +multiplier;
+        }
+
+        if (k1.isNumber() && k2.isNumber()) {
+            return Integer.compare(k1.number(), k2.number()) * multiplier;
+        } else if (k1.isNumber()) {
+            // The first one was parsable, but not the second one.
+            // This means we consider one < two
+            return -1 * multiplier;
+        } else if (k2.isNumber()) {
+            return multiplier;
+        }
+
+        return k1.text().compareTo(k2.text()) * multiplier;
+    }
+
+    @Override
+    public int compare(BibEntry e1, BibEntry e2) {
+        return compareSortKeys(getSortKey(e1), getSortKey(e2));
+    }
+
+    /**
+     * The normalized value of an entry, as compared by {@link FieldComparator}: absent, a number, or a collation key of the text.
+     */
+    public record SortKey(boolean isPresent, boolean isNumber, int number, @Nullable CollationKey text) {
+        static final SortKey ABSENT = new SortKey(false, false, 0, null);
+
+        static SortKey ofNumber(int number) {
+            return new SortKey(true, true, number, null);
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        static SortKey ofText(CollationKey text) {
+            return new SortKey(true, false, 0, text);
+        }
     }
 }
@@ -0,0 +1,88 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.OrFields;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Caches the {@link FieldComparator.SortKey sort keys} of entries, per compared fields and entry.
+ * <p>
+ * Computing a sort key converts LaTeX to Unicode, parses names and computes a collation key, which is far more expensive than comparing two keys.
+ * Sorting a library compares each entry many times. Thus, the keys are computed once and kept until the entry changes.
+ * They can be computed in advance, e.g., in a background task after the sort order was changed (see {@link #precompute(List, List)}).
+ * <p>
+ * The cache of a library listens to its changes: a changed entry loses all its keys, as does a removed one.
+ * A cache created without a library is valid only as long as the entries do not change, e.g., during one sort.
+ */
+public class SortKeyCache {
+
+    // The key of the inner map is the id of the entry, because BibEntry#equals compares the contents
+    private final Map<OrFields, Map<String, FieldComparator.SortKey>> sortKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache that is not invalidated. To be used for a single sort only.
+     */
+    public SortKeyCache() {
+    }
+
+    /**
+     * Creates a cache for the entries of the given library, which drops the keys of changed and removed entries
+     */
+    public SortKeyCache(BibDatabase database) {
+        database.registerListener(this);
+    }
+
+    public FieldComparator.SortKey getSortKey(FieldComparator comparator, BibEntry entry) {
+        return sortKeys.computeIfAbsent(comparator.getFields(), _ -> new ConcurrentHashMap<>())
+                       .computeIfAbsent(entry.getId(), _ -> comparator.getSortKey(entry));
+    }
+
+    /**
+     * Computes the keys of the given entries for all given comparators, so that a later sort only compares them.
+     */
+    public void precompute(List<BibEntry> entries, List<FieldComparator> comparators) {
+        for (FieldComparator comparator : comparators) {
+            for (BibEntry entry : entries) {
+                getSortKey(comparator, entry);
+            }
+        }
+    }
+
+    /**
+     * @return a comparator that behaves as the given one, but compares the cached keys
+     */
+    public Comparator<BibEntry> cached(FieldComparator comparator) {
+        return (e1, e2) -> comparator.compareSortKeys(getSortKey(comparator, e1), getSortKey(comparator, e2));
+    }
+
+    private void invalidate(String entryId) {
+        for (Map<String, FieldComparator.SortKey> keysOfFields : sortKeys.values()) {
+            keysOfFields.remove(entryId);
+        }
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        if (event.getField() == InternalField.INTERNAL_ID_FIELD) {
+            invalidate(event.getOldValue());
+        }
+        invalidate(event.getBibEntry().getId());
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            invalidate(entry.getId());
+        }
+    }
+}
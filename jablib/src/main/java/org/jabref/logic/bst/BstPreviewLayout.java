@@ -3,7 +3,9 @@ package org.jabref.logic.bst;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.cleanup.ConvertToBibtexCleanup;
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
@@ -23,6 +25,13 @@ public final class BstPreviewLayout implements PreviewLayout {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BstPreviewLayout.class);
 
+    private static final String BIBITEM = "\\bibitem{";
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile("  +");
+    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
+    private static final RemoveNewlinesFormatter REMOVE_NEWLINES_FORMATTER = new RemoveNewlinesFormatter();
+    private static final RemoveLatexCommandsFormatter REMOVE_LATEX_COMMANDS_FORMATTER = new RemoveLatexCommandsFormatter();
+    private static final RemoveTilde REMOVE_TILDE = new RemoveTilde();
+
     private final String name;
     private String source;
     private BstVM bstVM;
@@ -55,34 +64,103 @@ public final class BstPreviewLayout implements PreviewLayout {
         if (error != null) {
             return error;
         }
-        // ensure that the entry is of BibTeX format (and do not modify the original entry)
+        return toPreview(bstVM.render(List.of(toBibtexEntry(originalEntry)), databaseContext.getDatabase()));
+    }
+
+    /**
+     * Generates the previews of the given entries. The entries are rendered in parallel.
+     *
+     * @return the previews in the order of the given entries
+     */
+    public List<String> generatePreviews(List<BibEntry> originalEntries, BibDatabaseContext databaseContext) {
+        if (error != null) {
+            return Collections.nCopies(originalEntries.size(), error);
+        }
+        List<BibEntry> entries = originalEntries.stream().map(BstPreviewLayout::toBibtexEntry).toList();
+        return bstVM.renderEach(entries, databaseContext.getDatabase()).stream()
+                    .map(BstPreviewLayout::toPreview)
+                    .toList();
+    }
+
+    /**
+     * Ensures that the entry is of BibTeX format (and does not modify the original entry)
+     */
+    private static BibEntry toBibtexEntry(BibEntry originalEntry) {
         BibEntry entry = (BibEntry) originalEntry.clone();
         new ConvertToBibtexCleanup().cleanup(entry);
-        String result = bstVM.render(List.of(entry));
-        // Remove all comments
-        result = result.replaceAll("%.*", "");
-        // Remove all LaTeX comments
-        // The RemoveLatexCommandsFormatter keeps the words inside latex environments. Therefore, we remove them manually
-        result = result.replace("\\begin{thebibliography}{1}", "");
-        result = result.replace("\\end{thebibliography}", "");
-        // The RemoveLatexCommandsFormatter keeps the word inside the latex command, but we want to remove that completely
-        result = result.replaceAll("\\\\bibitem[{].*[}]", "");
-        // We want to replace \newblock by a space instead of completely removing it
-        result = result.replace("\\newblock", " ");
-        // remove all latex commands statements - assumption: command in a separate line
-        result = result.replaceAll("(?m)^\\\\.*$", "");
-        // remove some IEEEtran.bst output (resulting from a multiline \providecommand)
-        result = result.replace("#2}}", "");
+        return entry;
+    }
+
+    /**
+     * Converts the rendered bibliography (the content of a bbl file) to plain text
+     */
+    public static String toPreview(String renderedBibliography) {
+        String result = removeLatexStructure(renderedBibliography);
         // Have quotes right - and more
-        result = new LatexToUnicodeFormatter().format(result);
+        result = LATEX_TO_UNICODE_FORMATTER.format(result);
         result = result.replace("``", "\"");
         result = result.replace("''", "\"");
         // Final cleanup
-        result = new RemoveNewlinesFormatter().format(result);
-        result = new RemoveLatexCommandsFormatter().format(result);
-        result = new RemoveTilde().format(result);
-        result = result.trim().replaceAll("  +", " ");
-        return result;
+        result = REMOVE_NEWLINES_FORMATTER.format(result);
+        result = REMOVE_LATEX_COMMANDS_FORMATTER.format(result);
+        result = REMOVE_TILDE.format(result);
+        return MULTIPLE_SPACES.matcher(result.trim()).replaceAll(" ");
+    }
+
+    /**
+     * Removes the comments, the bibliography environment, the bibitems and the lines containing LaTeX commands.
+     * <p>
+     * None of these steps crosses a line break. Thus, the lines are processed one after another in a single pass, which gives the same result as applying each step to the whole text.
+     */
+    private static String removeLatexStructure(String renderedBibliography) {
+        StringBuilder result = new StringBuilder(renderedBibliography.length());
+        int lineStart = 0;
+        while (lineStart <= renderedBibliography.length()) {
+            int lineEnd = lineStart;
+            while ((lineEnd < renderedBibliography.length()) && !isLineTerminator(renderedBibliography.charAt(lineEnd))) {
+                lineEnd++;
+            }
+            result.append(removeLatexStructureFromLine(renderedBibliography.substring(lineStart, lineEnd)));
+            if (lineEnd < renderedBibliography.length()) {
+                result.append(renderedBibliography.charAt(lineEnd));
+            }
+            lineStart = lineEnd + 1;
+        }
+        return result.toString();
+    }
+
+    private static String removeLatexStructureFromLine(String line) {
+        // Remove the comment
+        int commentStart = line.indexOf('%');
+        if (commentStart >= 0) {
+            line = line.substring(0, commentStart);
+        }
+        // The RemoveLatexCommandsFormatter keeps the words inside latex environments. Therefore, we remove them manually
+        line = line.replace("\\begin{thebibliography}{1}", "");
+        line = line.replace("\\end{thebibliography}", "");
+        // The RemoveLatexCommandsFormatter keeps the word inside the latex command, but we want to remove that completely (up to the last closing brace)
+        int bibitemStart = line.indexOf(BIBITEM);
+        if (bibitemStart >= 0) {
+            int bibitemEnd = line.lastIndexOf('}');
+            if (bibitemEnd >= bibitemStart + BIBITEM.length()) {
+                line = line.substring(0, bibitemStart) + line.substring(bibitemEnd + 1);
+            }
+        }
+        // We want to replace \newblock by a space instead of completely removing it
+        line = line.replace("\\newblock", " ");
+        // remove all latex commands statements - assumption: command in a separate line
+        if (line.startsWith("\\")) {
+            return "";
+        }
+        // remove some IEEEtran.bst output (resulting from a multiline \providecommand)
+        return line.replace("#2}}", "");
+    }
+
+    /**
+     * The characters ending a line in a regular expression
+     */
+    private static boolean isLineTerminator(char character) {
+        return (character == '\n') || (character == '\r') || (character == '\u0085') || (character == '\u2028') || (character == '\u2029');
     }
 
     @Override
@@ -0,0 +1,146 @@
+package org.jabref.logic.bst;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * The function bodies and blocks (<code>{ ... }</code>) of a parsed bst file, compiled to a list of instructions.
+ * <p>
+ * Executing the instructions does not need to walk the parse tree: string and integer literals are converted once and the names of called functions are extracted once.
+ * The program is immutable and thus can be shared by renderings running in parallel.
+ * <p>
+ * A bst file has to declare each name before it is used. Thus, each name in a function body is bound to what it was declared as when the body is compiled
+ * (e.g., a global integer), and executing it reads the value of that kind directly instead of trying each kind in turn.
+ * Names not declared before (e.g., the built-in functions) are bound to functions. If there is no such function, they are resolved at runtime as before.
+ */
+final class BstProgram {
+
+    /**
+     * What a name was declared as. If a name is declared as several kinds, the first one in this order is used, as in {@link BstVMVisitor#resolveIdentifier}.
+     */
+    enum Binding {
+        ENTRY_FIELD,
+        ENTRY_STRING,
+        ENTRY_INTEGER,
+        GLOBAL_STRING,
+        GLOBAL_INTEGER,
+        FUNCTION
+    }
+
+    sealed interface Instruction {
+    }
+
+    /**
+     * Pushes a literal, a quoted function name ({@link BstVMVisitor.Identifier}), or a block ({@link BstParser.StackContext}) onto the stack
+     */
+    record PushInstruction(Object value) implements Instruction {
+    }
+
+    /**
+     * Pushes the value of the given variable or executes the given function
+     */
+    record CallInstruction(String name, Binding binding, BstParser.BstFunctionContext context) implements Instruction {
+    }
+
+    private final Map<BstParser.StackContext, Instruction[]> compiledStacks;
+
+    private BstProgram(Map<BstParser.StackContext, Instruction[]> compiledStacks) {
+        this.compiledStacks = compiledStacks;
+    }
+
+    static BstProgram compile(ParseTree tree) {
+        // The parse tree nodes do not override equals, thus they are compared by identity
+        Map<BstParser.StackContext, Instruction[]> compiledStacks = new HashMap<>();
+        Map<String, Binding> declarations = new HashMap<>();
+        // Declared by the VM itself
+        declarations.put("crossref", Binding.ENTRY_FIELD);
+        declarations.put("sort.key$", Binding.ENTRY_STRING);
+        declarations.put("entry.max$", Binding.GLOBAL_INTEGER);
+        declarations.put("global.max$", Binding.GLOBAL_INTEGER);
+
+        // The commands are compiled in the order of the file, so that each body sees the declarations before it
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            ParseTree command = tree.getChild(i);
+            declare(command, declarations);
+            compileTree(command, compiledStacks, declarations);
+        }
+        return new BstProgram(compiledStacks);
+    }
+
+    private static void declare(ParseTree command, Map<String, Binding> declarations) {
+        switch (command) {
+            case BstParser.EntryCommandContext entry -> {
+                declare(entry.idListOpt(0).identifier(), Binding.ENTRY_FIELD, declarations);
+                declare(entry.idListOpt(1).identifier(), Binding.ENTRY_INTEGER, declarations);
+                declare(entry.idListOpt(2).identifier(), Binding.ENTRY_STRING, declarations);
+            }
+            case BstParser.StringsCommandContext strings ->
+                    declare(strings.ids.identifier(), Binding.GLOBAL_STRING, declarations);
+            case BstParser.IntegersCommandContext integers ->
+                    declare(integers.ids.identifier(), Binding.GLOBAL_INTEGER, declarations);
+            // A function is declared before its body, thus it can call itself
+            case BstParser.FunctionCommandContext function ->
+                    declare(List.of(function.id), Binding.FUNCTION, declarations);
+            case BstParser.MacroCommandContext macro ->
+                    declare(List.of(macro.id), Binding.FUNCTION, declarations);
+            default -> {
+            }
+        }
+    }
+
+    private static void declare(List<BstParser.IdentifierContext> identifiers, Binding binding, Map<String, Binding> declarations) {
+        for (BstParser.IdentifierContext identifier : identifiers) {
+            declarations.merge(identifier.getText(), binding, (declared, added) -> declared.compareTo(added) <= 0 ? declared : added);
+        }
+    }
+
+    private static void compileTree(ParseTree tree, Map<BstParser.StackContext, Instruction[]> compiledStacks, Map<String, Binding> declarations) {
+        if (tree instanceof BstParser.StackContext stack) {
+            compiledStacks.put(stack, compileStack(stack, declarations));
+        }
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            compileTree(tree.getChild(i), compiledStacks, declarations);
+        }
+    }
+
+    private static Instruction[] compileStack(BstParser.StackContext stack, Map<String, Binding> declarations) {
+        return stack.stackitem().stream()
+                    .flatMap(stackItem -> stackItem.children.stream())
+                    .map(node -> compileStackItem(node, declarations))
+                    .toArray(Instruction[]::new);
+    }
+
+    private static Instruction compileStackItem(ParseTree node, Map<String, Binding> declarations) {
+        if (node instanceof TerminalNode token) {
+            String text = token.getText();
+            return switch (token.getSymbol().getType()) {
+                case BstParser.STRING ->
+                        new PushInstruction(text.substring(1, text.length() - 1));
+                case BstParser.INTEGER ->
+                        new PushInstruction(Integer.parseInt(text.substring(1)));
+                case BstParser.QUOTED ->
+                        new PushInstruction(new BstVMVisitor.Identifier(text.substring(1)));
+                default ->
+                        throw new BstVMException("Unexpected token " + text);
+            };
+        }
+        if (node instanceof BstParser.StackContext) {
+            // Blocks are executed by functions like if$ and while$
+            return new PushInstruction(node);
+        }
+        BstParser.BstFunctionContext function = (BstParser.BstFunctionContext) node;
+        String name = function.getChild(0).getText();
+        return new CallInstruction(name, declarations.getOrDefault(name, Binding.FUNCTION), function);
+    }
+
+    /**
+     * @return the instructions of the given block, <code>null</code> if the block is not part of this program
+     */
+    Instruction[] getInstructions(BstParser.StackContext stack) {
+        return compiledStacks.get(stack);
+    }
+}
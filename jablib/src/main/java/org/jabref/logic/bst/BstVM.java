@@ -27,7 +27,10 @@ public class BstVM {
     protected static final Integer TRUE = 1;
 
     protected final ParseTree tree;
-    protected BstVMContext latestContext; // for testing
+    protected volatile BstVMContext latestContext; // for testing
+
+    // Compiled once, used by all renderings
+    private final BstProgram program;
 
     private Path path = null;
 
@@ -46,6 +49,7 @@ public class BstVM {
 
     private BstVM(ParseTree tree) {
         this.tree = tree;
+        this.program = BstProgram.compile(tree);
     }
 
     private static ParseTree charStream2CommonTree(CharStream query) {
@@ -79,7 +83,7 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, program);
         bstVMVisitor.visit(tree);
 
         latestContext = bstVMContext;
@@ -91,6 +95,19 @@ public class BstVM {
         return render(bibEntries, null);
     }
 
+    /**
+     * Renders each of the given entries on its own (e.g., for previews). The entries are rendered in parallel, sharing the compiled program.
+     *
+     * @param bibDatabase (may be null) the bibDatabase used for resolving strings / crossref
+     * @return the references in the order of the given entries
+     */
+    public List<String> renderEach(List<BibEntry> bibEntries, BibDatabase bibDatabase) {
+        Objects.requireNonNull(bibEntries);
+        return bibEntries.parallelStream()
+                         .map(entry -> render(List.of(entry), bibDatabase))
+                         .toList();
+    }
+
     protected Deque<Object> getStack() {
         if (latestContext != null) {
             return latestContext.stack();
@@ -24,6 +24,8 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
+    // null if the blocks are interpreted from the parse tree
+    private final BstProgram program;
 
     private BstEntry selectedBstEntry = null;
 
@@ -31,8 +33,16 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     }
 
     public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+        this(bstVMContext, bbl, null);
+    }
+
+    /**
+     * @param program the compiled blocks of the visited tree, used instead of walking the tree when a block is executed
+     */
+    BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, BstProgram program) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.program = program;
     }
 
     @Override
@@ -250,6 +260,60 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
+    @Override
+    public Integer visitStack(BstParser.StackContext ctx) {
+        BstProgram.Instruction[] instructions = program == null ? null : program.getInstructions(ctx);
+        if (instructions == null) {
+            return visitChildren(ctx);
+        }
+
+        for (BstProgram.Instruction instruction : instructions) {
+            try {
+                switch (instruction) {
+                    case BstProgram.PushInstruction(Object value) ->
+                            bstVMContext.stack().push(value);
+                    case BstProgram.CallInstruction(String name, BstProgram.Binding binding, BstParser.BstFunctionContext context) ->
+                            call(name, binding, context);
+                }
+            } catch (BstVMException e) {
+                logError(e);
+                throw e;
+            }
+        }
+        return BstVM.TRUE;
+    }
+
+    /**
+     * Executes a name bound when compiling. Names not bound to a value of the current context are resolved as if not compiled.
+     */
+    private void call(String name, BstProgram.Binding binding, BstParser.BstFunctionContext ctx) {
+        switch (binding) {
+            case ENTRY_FIELD, ENTRY_STRING, ENTRY_INTEGER -> {
+                if (selectedBstEntry == null) {
+                    resolveIdentifier(name, ctx);
+                    return;
+                }
+                bstVMContext.stack().push(switch (binding) {
+                    case ENTRY_FIELD -> selectedBstEntry.fields.get(name);
+                    case ENTRY_STRING -> selectedBstEntry.localStrings.get(name);
+                    default -> selectedBstEntry.localIntegers.get(name);
+                });
+            }
+            case GLOBAL_STRING ->
+                    bstVMContext.stack().push(bstVMContext.strings().get(name));
+            case GLOBAL_INTEGER ->
+                    bstVMContext.stack().push(bstVMContext.integers().get(name));
+            case FUNCTION -> {
+                BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+                if (function == null) {
+                    resolveIdentifier(name, ctx);
+                    return;
+                }
+                function.execute(this, ctx, selectedBstEntry);
+            }
+        }
+    }
+
     @Override
     public Integer visitStackitem(BstParser.StackitemContext ctx) {
         for (ParseTree childNode : ctx.children) {
@@ -271,12 +335,16 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
                     this.visit(childNode);
                 }
             } catch (BstVMException e) {
-                bstVMContext.path().ifPresentOrElse(
-                        path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
-                        () -> LOGGER.error("", e));
+                logError(e);
                 throw e;
             }
         }
         return BstVM.TRUE;
     }
+
+    private void logError(BstVMException e) {
+        bstVMContext.path().ifPresentOrElse(
+                path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
+                () -> LOGGER.error("", e));
+    }
 }
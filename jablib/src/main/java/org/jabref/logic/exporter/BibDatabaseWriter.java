@@ -22,6 +22,7 @@ import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
+import org.jabref.logic.bibtex.comparator.SortKeyCache;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
@@ -107,7 +108,22 @@ public abstract class BibDatabaseWriter {
         return applySaveActions(List.of(entry), metaData, fieldPreferences);
     }
 
-    private static List<Comparator<BibEntry>> getSaveComparators(SaveOrder saveOrder) {
+    /**
+     * @return the comparators of the fields the entries are sorted by when saving in the given order
+     */
+    public static List<FieldComparator> getSaveFieldComparators(SaveOrder saveOrder) {
+        if (saveOrder.getOrderType() == SaveOrder.OrderType.ORIGINAL) {
+            return List.of();
+        }
+        List<FieldComparator> fieldComparators = new ArrayList<>();
+        saveOrder.getSortCriteria().stream()
+                 .map(FieldComparator::new)
+                 .forEach(fieldComparators::add);
+        fieldComparators.add(new FieldComparator(InternalField.KEY_FIELD));
+        return fieldComparators;
+    }
+
+    private static List<Comparator<BibEntry>> getSaveComparators(SaveOrder saveOrder, SortKeyCache sortKeyCache) {
         List<Comparator<BibEntry>> comparators = new ArrayList<>();
 
         // Take care, using CrossRefEntry-Comparator, that referred entries occur after referring
@@ -119,11 +135,9 @@ public abstract class BibDatabaseWriter {
             comparators.add(new IdComparator());
         } else {
             // use configured sorting strategy
-            List<FieldComparator> fieldComparators = saveOrder.getSortCriteria().stream()
-                                                              .map(FieldComparator::new)
-                                                              .toList();
-            comparators.addAll(fieldComparators);
-            comparators.add(new FieldComparator(InternalField.KEY_FIELD));
+            getSaveFieldComparators(saveOrder).stream()
+                                              .map(sortKeyCache::cached)
+                                              .forEach(comparators::add);
         }
 
         return comparators;
@@ -135,10 +149,19 @@ public abstract class BibDatabaseWriter {
      * saving in standard order.
      */
     public static List<BibEntry> getSortedEntries(List<BibEntry> entriesToSort, SelfContainedSaveOrder saveOrder) {
+        return getSortedEntries(entriesToSort, saveOrder, new SortKeyCache());
+    }
+
+    /**
+     * Sorts the entries, comparing the sort keys of the given cache. Keys missing in the cache are computed before sorting.
+     */
+    public static List<BibEntry> getSortedEntries(List<BibEntry> entriesToSort, SelfContainedSaveOrder saveOrder, SortKeyCache sortKeyCache) {
         Objects.requireNonNull(entriesToSort);
         Objects.requireNonNull(saveOrder);
 
-        List<Comparator<BibEntry>> comparators = getSaveComparators(saveOrder);
+        // Computing the keys once for each entry is far cheaper than computing them in each comparison of the sort
+        sortKeyCache.precompute(entriesToSort, getSaveFieldComparators(saveOrder));
+        List<Comparator<BibEntry>> comparators = getSaveComparators(saveOrder, sortKeyCache);
         FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
 
         List<BibEntry> sorted = new ArrayList<>(entriesToSort);
@@ -185,7 +208,7 @@ public abstract class BibDatabaseWriter {
         writeStrings(bibDatabaseContext.getDatabase());
 
         // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder(), bibDatabaseContext.getSortKeyCache());
 
         // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
         //        The cleanup should be done before the write operation
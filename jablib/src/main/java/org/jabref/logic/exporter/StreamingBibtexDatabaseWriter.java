@@ -0,0 +1,98 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.BibtexString;
+
+/**
+ * Writes a .bib file entry by entry, without having the complete library in memory.
+ * <p>
+ * Use {@link #writeEntry(BibEntry, BibDatabase, BibDatabaseMode)} for each entry and {@link #finish(BibDatabaseContext)} at the end.
+ * In contrast to {@link BibtexDatabaseWriter#saveDatabase(BibDatabaseContext)}, the entries are written in the order they are passed, no save actions are applied, and no citation keys are generated.
+ */
+public class StreamingBibtexDatabaseWriter extends BibtexDatabaseWriter {
+
+    private final Set<String> writtenStrings = new HashSet<>();
+    private final Set<BibEntryType> typesToWrite = new HashSet<>();
+    private Optional<String> writtenPreamble = Optional.empty();
+    private boolean started;
+
+    public StreamingBibtexDatabaseWriter(BibWriter bibWriter,
+                                         SelfContainedSaveConfiguration saveConfiguration,
+                                         FieldPreferences fieldPreferences,
+                                         CitationKeyPatternPreferences citationKeyPatternPreferences,
+                                         BibEntryTypesManager entryTypesManager) {
+        super(bibWriter, saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+    }
+
+    /**
+     * Writes the given entry. The preamble and all strings of the database which have not been written yet are written before the entry, so that the entry can refer to them.
+     */
+    public void writeEntry(BibEntry entry, BibDatabase database, BibDatabaseMode mode) throws IOException {
+        if (!started) {
+            Optional<String> sharedDatabaseID = database.getSharedDatabaseID();
+            if (sharedDatabaseID.isPresent()) {
+                writeDatabaseID(sharedDatabaseID.get());
+            }
+            bibWriter.finishBlock();
+            started = true;
+        }
+        writePendingPreambleAndStrings(database);
+
+        if (entryTypesManager.isCustomType(entry.getType(), mode)) {
+            entryTypesManager.enrich(entry.getType(), mode).ifPresent(typesToWrite::add);
+        }
+        writeEntry(entry, mode);
+    }
+
+    /**
+     * Writes everything which is stored after the entries: remaining strings, the metadata, custom entry types, and the epilogue.
+     *
+     * @param databaseContext the context of the parsed library. It holds the strings and the metadata, but not necessarily the entries.
+     */
+    public void finish(BibDatabaseContext databaseContext) throws IOException {
+        writePendingPreambleAndStrings(databaseContext.getDatabase());
+
+        if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
+            writeMetaData(databaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
+            writeEntryTypeDefinitions(new TreeSet<>(typesToWrite));
+        }
+
+        writeEpilogue(databaseContext.getDatabase().getEpilog());
+    }
+
+    private void writePendingPreambleAndStrings(BibDatabase database) throws IOException {
+        Optional<String> preamble = database.getPreamble();
+        if (preamble.isPresent() && writtenPreamble.isEmpty()) {
+            writePreamble(preamble.get());
+            writtenPreamble = preamble;
+        }
+
+        // Strings are parsed before the entries referring to them, thus only the strings parsed since the last entry are new
+        List<BibtexString> newStrings = database.getStringValues().stream()
+                                                .filter(bibtexString -> !writtenStrings.contains(bibtexString.getName()))
+                                                .sorted(new BibtexStringComparator(true))
+                                                .toList();
+        for (BibtexString bibtexString : newStrings) {
+            writtenStrings.add(bibtexString.getName());
+            writeString(bibtexString, bibtexString.getName().length());
+        }
+        if (!newStrings.isEmpty()) {
+            bibWriter.finishBlock();
+        }
+    }
+}
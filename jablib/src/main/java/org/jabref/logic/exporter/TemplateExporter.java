@@ -14,22 +14,28 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.format.NameFormatter;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +51,17 @@ public class TemplateExporter extends Exporter {
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    private static final long NOT_A_FILE = -1;
+    private static final int COMPILED_LAYOUT_CACHE_SIZE = 100;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    // Parsed layouts, so that repeated exports do not parse the layout files again.
+    // The layouts keep the abbreviation repository they were built with. Thus, only the layouts of the last used repository are kept, and a replaced repository is released with its layouts.
+    private static final Object COMPILED_LAYOUTS_LOCK = new Object();
+    private static Cache<CompiledLayoutKey, Optional<Layout>> compiledLayouts = createCompiledLayoutCache();
+    private static JournalAbbreviationRepository compiledLayoutsAbbreviationRepository;
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -154,15 +169,9 @@ public class TemplateExporter extends Exporter {
     }
 
     /**
-     * This method should return a reader from which the given layout file can be read.
-     * <p>
-     * Subclasses of TemplateExporter are free to override and provide their own implementation.
-     *
-     * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created (e.g., file is not found)
+     * Returns the name under which the given layout file is found: a path for a custom export, a resource name for a built-in one
      */
-    private Reader getReader(String filename) throws IOException {
+    private String getLayoutName(String filename) {
         // If this is a custom export, just use the given filename:
         String dir;
         if (customExport) {
@@ -170,29 +179,106 @@ public class TemplateExporter extends Exporter {
         } else {
             dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
         }
+        return dir + filename;
+    }
 
+    /**
+     * This method should return a reader from which the given layout file can be read.
+     *
+     * @param name the name of the layout file as returned by {@link #getLayoutName(String)}
+     * @return a newly created reader, an empty optional if the file does not exist
+     * @throws IOException if the reader could not be created
+     */
+    private Optional<Reader> getReader(String name) throws IOException {
         // Attempt to get a Reader for the file path given, either by
-        // loading it as a resource (from within JAR), or as a normal file. If
-        // unsuccessful (e.g. file not found), an IOException is thrown.
-
-        String name = dir + filename;
+        // loading it as a resource (from within JAR), or as a normal file.
 
         Path path = Path.of(name);
         if (Files.exists(path)) {
-            return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            return Optional.of(Files.newBufferedReader(path, StandardCharsets.UTF_8));
         }
 
         InputStream inputStream = TemplateExporter.class.getResourceAsStream(name);
         if (inputStream == null) {
-            throw new IOException("Cannot find layout file: '" + name + "'.");
+            return Optional.empty();
+        }
+
+        return Optional.of(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the parsed layout of the given layout file. The layout is cached until the file or the bundled name formatters change.
+     *
+     * @return the layout, an empty optional if the file does not exist
+     * @throws IOException if the layout file could not be read
+     */
+    private Optional<Layout> getLayout(String filename,
+                                       long formattersLastModified,
+                                       List<Path> fileDirForDatabase,
+                                       JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        String name = getLayoutName(filename);
+        CompiledLayoutKey key = new CompiledLayoutKey(name, getLastModified(Path.of(name)), formattersLastModified, fileDirForDatabase, layoutPreferences, LayoutSettings.of(layoutPreferences));
+        Cache<CompiledLayoutKey, Optional<Layout>> layouts = getCompiledLayouts(abbreviationRepository);
+        Optional<Layout> layout = layouts.getIfPresent(key);
+        if (layout == null) {
+            Optional<Reader> reader = getReader(name);
+            if (reader.isEmpty()) {
+                layout = Optional.empty();
+            } else {
+                try (Reader in = reader.get()) {
+                    layout = Optional.of(new LayoutHelper(in, fileDirForDatabase, layoutPreferences, abbreviationRepository).getLayoutFromText());
+                }
+            }
+            layouts.put(key, layout);
         }
+        return layout;
+    }
+
+    /**
+     * Returns the cached layouts built with the given abbreviation repository. The layouts of any other repository are dropped.
+     */
+    private static Cache<CompiledLayoutKey, Optional<Layout>> getCompiledLayouts(JournalAbbreviationRepository abbreviationRepository) {
+        synchronized (COMPILED_LAYOUTS_LOCK) {
+            if (abbreviationRepository != compiledLayoutsAbbreviationRepository) {
+                // A new cache instead of clearing the old one, so that a layout still being built with the old repository is not added
+                compiledLayouts = createCompiledLayoutCache();
+                compiledLayoutsAbbreviationRepository = abbreviationRepository;
+            }
+            return compiledLayouts;
+        }
+    }
 
-        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    private static Cache<CompiledLayoutKey, Optional<Layout>> createCompiledLayoutCache() {
+        return CacheBuilder.newBuilder().maximumSize(COMPILED_LAYOUT_CACHE_SIZE).build();
+    }
+
+    /**
+     * Returns the modification time of the given file, {@link #NOT_A_FILE} if it does not exist (e.g., because it is a resource of a built-in export)
+     */
+    private static long getLastModified(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return NOT_A_FILE;
+        }
+        return Files.getLastModifiedTime(path).toMillis();
+    }
+
+    private Optional<Layout> getOptionalLayout(String filename,
+                                               long formattersLastModified,
+                                               List<Path> fileDirForDatabase,
+                                               JournalAbbreviationRepository abbreviationRepository) {
+        try {
+            return getLayout(filename, formattersLastModified, fileDirForDatabase, abbreviationRepository);
+        } catch (IOException ex) {
+            LOGGER.debug("Could not read layout file {}", filename, ex);
+            return Optional.empty();
+        }
     }
 
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws IOException {
-        export(databaseContext, file, entries, List.of(), JournalAbbreviationLoader.loadBuiltInRepository());
+        try (JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository()) {
+            export(databaseContext, file, entries, List.of(), abbreviationRepository);
+        }
     }
 
     @Override
@@ -211,26 +297,18 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
+            long formattersLastModified = getLastModified(Path.of(lfFileName + FORMATTERS_EXTENSION));
 
             List<String> missingFormatters = new ArrayList<>(1);
 
-            // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
-            // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            // Print header. If there is no begin file, the export filter does not have a header.
+            Optional<Layout> beginLayout = getOptionalLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, formattersLastModified, fileDirForDatabase, abbreviationRepository);
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -240,74 +318,42 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
+            String defaultLayoutFileName = lfFileName + LAYOUT_EXTENSION;
+            Layout defLayout = getLayout(defaultLayoutFileName, formattersLastModified, fileDirForDatabase, abbreviationRepository)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + getLayoutName(defaultLayoutFileName) + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
-            }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            Number.serialExportNumber = 0;
+            // We try to get a type-specific layout for each entry type. If there is none, we go with the default one.
+            Map<EntryType, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+                if (!layouts.containsKey(type)) {
+                    Optional<Layout> typeLayout = getOptionalLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, formattersLastModified, fileDirForDatabase, abbreviationRepository);
+                    typeLayout.ifPresent(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+                    layouts.put(type, typeLayout.orElse(defLayout));
                 }
             }
 
-            // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
+            // The entries are formatted in parallel and written in their order. Groups depend on the previous entry, thus they require formatting in order.
+            IntStream entryIndices = IntStream.range(0, sorted.size());
+            if (layouts.values().stream().noneMatch(Layout::containsGroups)) {
+                entryIndices = entryIndices.parallel();
+            }
+            List<String> formattedEntries = entryIndices
+                    .mapToObj(index -> formatEntry(sorted.get(index), index + 1, layouts.get(sorted.get(index).getType()), databaseContext.getDatabase()))
+                    .toList();
+            for (String formattedEntry : formattedEntries) {
+                ps.write(formattedEntry);
             }
 
-            // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            // Print footer. If there is no end file, the export filter does not have a footer.
+            Optional<Layout> endLayout = getOptionalLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, formattersLastModified, fileDirForDatabase, abbreviationRepository);
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             layoutPreferences.clearCustomExportNameFormatters();
@@ -318,6 +364,25 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * @param number the position of the entry in the export, starting with 1
+     */
+    private String formatEntry(BibEntry entry, int number, Layout layout, BibDatabase database) {
+        Number.setSerialExportNumber(number);
+        String formattedEntry = layout.doLayout(entry, database);
+        if (blankLineBehaviour != BlankLineBehaviour.DELETE_BLANKS) {
+            return formattedEntry;
+        }
+
+        StringBuilder builder = new StringBuilder(formattedEntry.length());
+        for (String line : formattedEntry.split(BLANK_LINE_PATTERN)) {
+            if (!line.isBlank()) {
+                builder.append(line).append(OS.NEWLINE);
+            }
+        }
+        return builder.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
@@ -361,4 +426,34 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    /**
+     * A layout is parsed using the preferences, thus they are part of the key (by identity).
+     * The preferences are read while parsing, thus the values read are part of the key, too. Otherwise, a layout would not notice changed preferences.
+     */
+    private record CompiledLayoutKey(String layoutName,
+                                     long lastModified,
+                                     long formattersLastModified,
+                                     List<Path> fileDirForDatabase,
+                                     LayoutFormatterPreferences layoutPreferences,
+                                     LayoutSettings layoutSettings) {
+    }
+
+    /**
+     * The values of the {@link LayoutFormatterPreferences} which are resolved when a layout is parsed
+     */
+    private record LayoutSettings(Map<String, String> nameFormatters,
+                                  Map<String, String> customExportNameFormatters,
+                                  String mainFileDirectory) {
+
+        static LayoutSettings of(LayoutFormatterPreferences layoutPreferences) {
+            if (layoutPreferences == null) {
+                return new LayoutSettings(Map.of(), Map.of(), null);
+            }
+            return new LayoutSettings(
+                    NameFormatter.getNameFormatters(layoutPreferences.getNameFormatterPreferences()),
+                    layoutPreferences.getCustomExportNameFormatters(),
+                    layoutPreferences.getMainFileDirectory());
+        }
+    }
 }
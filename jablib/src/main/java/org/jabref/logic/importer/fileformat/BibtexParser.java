@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -43,6 +44,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.ParsedSerializationBuffer;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
@@ -98,6 +100,7 @@ public class BibtexParser implements Parser {
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
+    private ParsedSerializationBuffer serializationBuffer;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
@@ -107,6 +110,9 @@ public class BibtexParser implements Parser {
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    // if set, parsed entries are handed over to this consumer instead of being added to the database
+    private BiConsumer<BibEntry, BibDatabase> entryConsumer;
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -176,6 +182,22 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    /**
+     * Parses BibTeX data found when reading from reader and hands over each entry to the given consumer as soon as it is parsed.
+     * <p>
+     * The entries are <em>not</em> added to the database of the returned {@link ParserResult}, so that arbitrarily large libraries can be processed with bounded memory.
+     * Strings, the preamble and the metadata are still collected. Strings and the preamble are available in the database passed to the consumer as soon as they are parsed;
+     * the metadata is only available in the returned result, because it is stored at the end of the file.
+     */
+    public ParserResult parse(Reader in, BiConsumer<BibEntry, BibDatabase> entryConsumer) throws IOException {
+        this.entryConsumer = Objects.requireNonNull(entryConsumer);
+        try {
+            return parse(in);
+        } finally {
+            this.entryConsumer = null;
+        }
+    }
+
     private String determineNewLineSeparator() throws IOException {
         String newLineSeparator = OS.NEWLINE;
         StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
@@ -201,6 +223,7 @@ public class BibtexParser implements Parser {
     private void initializeParserResult(String newLineSeparator) {
         database = new BibDatabase();
         database.setNewLineSeparator(newLineSeparator);
+        serializationBuffer = new ParsedSerializationBuffer();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
@@ -289,6 +312,7 @@ public class BibtexParser implements Parser {
         }
 
         parseRemainingContent();
+        serializationBuffer.seal();
 
         checkEpilog();
 
@@ -329,9 +353,15 @@ public class BibtexParser implements Parser {
             // store complete parsed serialization (comments, type definition + type contents)
 
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
-            entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            if (entryConsumer == null) {
+                // The texts of all entries are compressed together, as the entries are kept anyway
+                entry.setParsedSerialization(parsedSerialization, serializationBuffer);
+                database.insertEntry(entry);
+            } else {
+                entry.setParsedSerialization(parsedSerialization);
+                entryConsumer.accept(entry, database);
+            }
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
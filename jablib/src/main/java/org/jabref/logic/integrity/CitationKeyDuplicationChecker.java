@@ -3,6 +3,7 @@ package org.jabref.logic.integrity;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -11,10 +12,19 @@ import org.jabref.model.entry.field.StandardField;
 
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Predicate<String> isDuplicateCitationKey;
 
     public CitationKeyDuplicationChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        Objects.requireNonNull(database);
+        this.isDuplicateCitationKey = database::isDuplicateCitationKeyExisting;
+    }
+
+    /**
+     * Looks up the citation keys in the given index instead of scanning the library for each entry
+     */
+    public CitationKeyDuplicationChecker(CitationKeyIndex citationKeyIndex) {
+        Objects.requireNonNull(citationKeyIndex);
+        this.isDuplicateCitationKey = citationKeyIndex::isDuplicate;
     }
 
     @Override
@@ -24,7 +34,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return List.of();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = isDuplicateCitationKey.test(citeKey.get());
         if (isDuplicate) {
             return List.of(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
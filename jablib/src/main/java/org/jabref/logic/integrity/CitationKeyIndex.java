@@ -0,0 +1,39 @@
+package org.jabref.logic.integrity;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.collect.ImmutableListMultimap;
+
+/**
+ * Snapshot of the citation keys of a library, built once so that checkers do not need to scan the library for each entry.
+ * <p>
+ * The index does not follow changes of the library. Thus, it should only be used for checking the complete library at once.
+ */
+public class CitationKeyIndex {
+
+    private final ImmutableListMultimap<String, BibEntry> entriesByCitationKey;
+
+    private CitationKeyIndex(ImmutableListMultimap<String, BibEntry> entriesByCitationKey) {
+        this.entriesByCitationKey = entriesByCitationKey;
+    }
+
+    public static CitationKeyIndex of(BibDatabase database) {
+        ImmutableListMultimap.Builder<String, BibEntry> builder = ImmutableListMultimap.builder();
+        for (BibEntry entry : database.getEntries()) {
+            entry.getCitationKey().ifPresent(key -> builder.put(key, entry));
+        }
+        return new CitationKeyIndex(builder.build());
+    }
+
+    public boolean containsKey(String citationKey) {
+        return entriesByCitationKey.containsKey(citationKey);
+    }
+
+    /**
+     * Same semantics as {@link BibDatabase#isDuplicateCitationKeyExisting(String)}
+     */
+    public boolean isDuplicate(String citationKey) {
+        return entriesByCitationKey.get(citationKey).size() > 1;
+    }
+}
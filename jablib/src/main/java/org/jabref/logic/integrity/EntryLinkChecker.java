@@ -5,19 +5,31 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryLinkList;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.strings.StringUtil;
 
 public class EntryLinkChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Predicate<String> isExistingCitationKey;
 
     public EntryLinkChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        Objects.requireNonNull(database);
+        this.isExistingCitationKey = key -> database.getEntryByCitationKey(key).isPresent();
+    }
+
+    /**
+     * Looks up the referenced citation keys in the given index instead of scanning the library for each link
+     */
+    public EntryLinkChecker(CitationKeyIndex citationKeyIndex) {
+        Objects.requireNonNull(citationKeyIndex);
+        this.isExistingCitationKey = citationKeyIndex::containsKey;
     }
 
     @Override
@@ -25,12 +37,16 @@ public class EntryLinkChecker implements EntryChecker {
         List<IntegrityMessage> result = new ArrayList<>();
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
-            if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                entry.getEntryLinkList(field.getKey(), database).stream()
-                     .filter(parsedEntryLink -> parsedEntryLink.getLinkedEntry().isEmpty())
-                     .forEach(parsedEntryLink -> result.add(new IntegrityMessage(
-                             Localization.lang("Referenced citation key '%0' does not exist", parsedEntryLink.getKey()),
-                             entry, field.getKey())));
+            if ((properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK))
+                    && !StringUtil.isNullOrEmpty(field.getValue())) {
+                // Same splitting as in EntryLinkList#parse, but without resolving the linked entries
+                for (String linkedKey : field.getValue().split(EntryLinkList.SEPARATOR)) {
+                    if (!isExistingCitationKey.test(linkedKey)) {
+                        result.add(new IntegrityMessage(
+                                Localization.lang("Referenced citation key '%0' does not exist", linkedKey),
+                                entry, field.getKey()));
+                    }
+                }
             }
         }
         return result;
@@ -3,18 +3,40 @@ package org.jabref.logic.integrity;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs all checkers on a library.
+ * <p>
+ * When checking the complete library, the entries are split into parts, which are checked in parallel using the {@link HeadlessExecutorService}.
+ * Each part is checked by checker instances of its own, so that the checkers do not need to be thread-safe.
+ * The checkers needing the citation keys of the library share one immutable {@link CitationKeyIndex}.
+ */
 public class IntegrityCheck {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntegrityCheck.class);
 
     private final BibDatabaseContext bibDatabaseContext;
+    private final FilePreferences filePreferences;
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
+    private final boolean allowIntegerEdition;
     private final FieldCheckers fieldCheckers;
     private final List<EntryChecker> entryCheckers;
 
@@ -24,50 +46,118 @@ public class IntegrityCheck {
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.filePreferences = filePreferences;
+        this.citationKeyPatternPreferences = citationKeyPatternPreferences;
+        this.journalAbbreviationRepository = journalAbbreviationRepository;
+        this.allowIntegerEdition = allowIntegerEdition;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
-                filePreferences,
-                journalAbbreviationRepository,
-                allowIntegerEdition);
+        fieldCheckers = createFieldCheckers();
 
-        entryCheckers = new ArrayList<>(List.of(
+        // Single entries are checked against the current state of the library
+        entryCheckers = createEntryCheckers(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()));
+    }
+
+    private List<EntryChecker> createEntryCheckers(EntryLinkChecker entryLinkChecker, CitationKeyDuplicationChecker citationKeyDuplicationChecker) {
+        List<EntryChecker> checkers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                entryLinkChecker,
                 new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
+                citationKeyDuplicationChecker,
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            checkers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
         } else {
-            entryCheckers.addAll(List.of(
+            checkers.addAll(List.of(
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new UnicodeNormalFormCanonicalCompositionCheck(),
                     new BibTeXEntryTypeChecker())
             );
         }
+        return checkers;
+    }
+
+    private FieldCheckers createFieldCheckers() {
+        return new FieldCheckers(bibDatabaseContext,
+                filePreferences,
+                journalAbbreviationRepository,
+                allowIntegerEdition);
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        List<IntegrityMessage> result = checkEntries(database, _ -> {
+        }, () -> false);
+        result.addAll(checkDatabase(database));
+        return result;
+    }
 
+    /**
+     * Checks the complete library. The entries are checked in parallel.
+     *
+     * @param entryMessagesConsumer receives the messages of each single entry (possibly empty, so that it can be used to report progress) as soon as they are found.
+     *                              It is called concurrently from several threads.
+     * @param isCancelled           checked before each entry. If it returns true, the remaining entries are skipped.
+     * @return the messages of the library-wide checks, followed by the messages of the entries in the order of the library
+     */
+    public List<IntegrityMessage> check(Consumer<List<IntegrityMessage>> entryMessagesConsumer, BooleanSupplier isCancelled) {
         BibDatabase database = bibDatabaseContext.getDatabase();
+        List<IntegrityMessage> result = new ArrayList<>(checkDatabase(database));
+        result.addAll(checkEntries(database, entryMessagesConsumer, isCancelled));
+        return result;
+    }
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+    private List<IntegrityMessage> checkEntries(BibDatabase database, Consumer<List<IntegrityMessage>> entryMessagesConsumer, BooleanSupplier isCancelled) {
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        CitationKeyIndex citationKeyIndex = CitationKeyIndex.of(database);
+
+        int partSize = Math.ceilDiv(entries.size(), Runtime.getRuntime().availableProcessors());
+        List<Callable<List<IntegrityMessage>>> tasks = new ArrayList<>();
+        for (List<BibEntry> part : Lists.partition(entries, partSize)) {
+            tasks.add(() -> {
+                FieldCheckers partFieldCheckers = createFieldCheckers();
+                List<EntryChecker> partEntryCheckers = createEntryCheckers(new EntryLinkChecker(citationKeyIndex), new CitationKeyDuplicationChecker(citationKeyIndex));
+                List<IntegrityMessage> messages = new ArrayList<>();
+                for (BibEntry entry : part) {
+                    if (isCancelled.getAsBoolean()) {
+                        break;
+                    }
+                    List<IntegrityMessage> entryMessages = checkEntry(entry, partFieldCheckers, partEntryCheckers);
+                    entryMessagesConsumer.accept(entryMessages);
+                    messages.addAll(entryMessages);
+                }
+                return messages;
+            });
         }
-        result.addAll(checkDatabase(database));
 
+        // The parts are in the order of the library, thus joining their results keeps that order
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (Future<List<IntegrityMessage>> future : HeadlessExecutorService.INSTANCE.executeAll(tasks)) {
+            try {
+                result.addAll(future.get());
+            } catch (InterruptedException | ExecutionException e) {
+                LOGGER.error("Error while checking entries", e);
+            }
+        }
         return result;
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
+        return checkEntry(entry, fieldCheckers, entryCheckers);
+    }
+
+    private List<IntegrityMessage> checkEntry(BibEntry entry, FieldCheckers fieldCheckers, List<EntryChecker> entryCheckers) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
@@ -0,0 +1,138 @@
+package org.jabref.logic.journals;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+/**
+ * Finds the journal names which possibly are similar to a given name, without computing the edit distance to all names.
+ * <p>
+ * The index uses the q-gram lemma: if two strings of length m and n have an edit distance of at most k, they share at least max(m, n) - q + 1 - k * q of their q-grams (counted with multiplicity).
+ * It maps each bigram to the names containing it. Names too short for the lemma to rule out anything are looked up by their length.
+ * The returned candidates are a superset of the similar names, thus they still have to be checked using {@link StringSimilarity}.
+ */
+class FuzzyNameIndex {
+
+    private static final int Q = 2;
+
+    private final List<String> names;
+    private final int maxDistance;
+    // Names up to this length may be similar to a name without sharing any bigram
+    private final int shortNameLength;
+    private final int[] nameLengths;
+    // For each bigram, the ids of the names containing it in ascending order. An id is repeated for each occurrence of the bigram in the name.
+    private final Map<String, int[]> namesByBigram;
+    private final int[][] shortNamesByLength;
+
+    /**
+     * @param names       the full journal names, e.g., the keys of the stored abbreviations. Only the names are kept, not the abbreviations.
+     * @param maxDistance the maximum edit distance of similar names
+     */
+    FuzzyNameIndex(Collection<String> names, int maxDistance) {
+        this.names = List.copyOf(names);
+        this.maxDistance = maxDistance;
+        this.shortNameLength = (Q - 1) + (maxDistance * Q);
+        this.nameLengths = new int[this.names.size()];
+
+        Map<String, Postings> postings = new HashMap<>();
+        Postings[] shortNames = new Postings[shortNameLength + 1];
+        for (int id = 0; id < this.names.size(); id++) {
+            String name = normalize(this.names.get(id));
+            nameLengths[id] = name.length();
+            if (name.length() <= shortNameLength) {
+                if (shortNames[name.length()] == null) {
+                    shortNames[name.length()] = new Postings();
+                }
+                shortNames[name.length()].add(id);
+            }
+            for (int i = 0; i + Q <= name.length(); i++) {
+                postings.computeIfAbsent(name.substring(i, i + Q), _ -> new Postings()).add(id);
+            }
+        }
+
+        this.namesByBigram = new HashMap<>();
+        postings.forEach((bigram, ids) -> namesByBigram.put(bigram, ids.toArray()));
+        this.shortNamesByLength = Arrays.stream(shortNames)
+                                        .map(ids -> ids == null ? new int[0] : ids.toArray())
+                                        .toArray(int[][]::new);
+    }
+
+    /**
+     * @return all names which possibly are within the maximum edit distance of the given name (ignoring case)
+     */
+    List<String> getCandidates(String name) {
+        String normalizedName = normalize(name);
+        int length = normalizedName.length();
+        BitSet candidates = new BitSet(names.size());
+
+        if (length <= shortNameLength) {
+            for (int otherLength = Math.max(0, length - maxDistance); otherLength <= shortNameLength; otherLength++) {
+                for (int id : shortNamesByLength[otherLength]) {
+                    candidates.set(id);
+                }
+            }
+        }
+
+        Map<String, Integer> bigramCounts = new HashMap<>();
+        for (int i = 0; i + Q <= length; i++) {
+            bigramCounts.merge(normalizedName.substring(i, i + Q), 1, Integer::sum);
+        }
+
+        int[] commonBigrams = new int[names.size()];
+        BitSet sharingBigrams = new BitSet(names.size());
+        bigramCounts.forEach((bigram, count) -> {
+            int[] ids = namesByBigram.get(bigram);
+            if (ids == null) {
+                return;
+            }
+            int i = 0;
+            while (i < ids.length) {
+                int id = ids[i];
+                int occurrences = 0;
+                while ((i < ids.length) && (ids[i] == id)) {
+                    occurrences++;
+                    i++;
+                }
+                commonBigrams[id] += Math.min(occurrences, count);
+                sharingBigrams.set(id);
+            }
+        });
+
+        sharingBigrams.stream().forEach(id -> {
+            int otherLength = nameLengths[id];
+            int requiredCommonBigrams = Math.max(length, otherLength) - Q + 1 - (maxDistance * Q);
+            if ((Math.abs(length - otherLength) <= maxDistance) && (commonBigrams[id] >= requiredCommonBigrams)) {
+                candidates.set(id);
+            }
+        });
+
+        return candidates.stream().mapToObj(names::get).toList();
+    }
+
+    private static String normalize(String name) {
+        // Same as StringSimilarity.editDistanceIgnoreCase
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
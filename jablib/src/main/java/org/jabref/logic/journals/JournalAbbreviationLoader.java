@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 
+import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,11 +23,20 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Abbreviations are available at <a href="https://github.com/JabRef/abbrv.jabref.org/">https://github.com/JabRef/abbrv.jabref.org/</a>.
  * </p>
+ * <p>
+ * The built-in list is extracted to a temporary file once per session. All repositories loaded from it share one read-only store,
+ * which is closed as soon as the last of these repositories is closed.
+ * </p>
  */
 public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // Guarded by the class
+    private static Path builtInJournalList;
+    private static MVStore builtInStore;
+    private static int builtInStoreUsers;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -34,21 +44,26 @@ public class JournalAbbreviationLoader {
         return parser.getAbbreviations();
     }
 
+    /**
+     * Loads the built-in abbreviations and the external lists configured in the preferences.
+     * The returned repository should be closed as soon as it is replaced, e.g., after the preferences changed.
+     */
     public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
+        try {
+            MVStore store = acquireBuiltInStore();
+            if (store == null) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list");
                 repository = new JournalAbbreviationRepository();
             } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository());
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
+                try {
+                    repository = new JournalAbbreviationRepository(store, loadLtwaRepository(), JournalAbbreviationLoader::releaseBuiltInStore);
+                } catch (IOException | RuntimeException e) {
+                    releaseBuiltInStore(store);
+                    throw e;
+                }
             }
         } catch (IOException e) {
             LOGGER.error("Error while loading journal abbreviation repository", e);
@@ -73,6 +88,40 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    /**
+     * Opens the built-in list, extracting it on first use. Each call has to be followed by a call of {@link #releaseBuiltInStore(MVStore)}.
+     *
+     * @return the store, or <code>null</code> if there is no built-in list
+     */
+    private static synchronized MVStore acquireBuiltInStore() throws IOException {
+        if (builtInStore == null) {
+            if ((builtInJournalList == null) || !Files.exists(builtInJournalList)) {
+                try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+                    if (resourceAsStream == null) {
+                        return null;
+                    }
+                    Path tempDir = Files.createTempDirectory("jabref-journal");
+                    Path tempJournalList = tempDir.resolve("journal-list.mv");
+                    Files.copy(resourceAsStream, tempJournalList);
+                    tempDir.toFile().deleteOnExit();
+                    tempJournalList.toFile().deleteOnExit();
+                    builtInJournalList = tempJournalList;
+                }
+            }
+            builtInStore = JournalAbbreviationRepository.openStore(builtInJournalList);
+        }
+        builtInStoreUsers++;
+        return builtInStore;
+    }
+
+    private static synchronized void releaseBuiltInStore(MVStore store) {
+        if ((store != builtInStore) || (--builtInStoreUsers > 0)) {
+            return;
+        }
+        builtInStore.close();
+        builtInStore = null;
+    }
+
     private static LtwaRepository loadLtwaRepository() throws IOException {
         try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/ltwa-list.mv")) {
             if (resourceAsStream == null) {
@@ -82,10 +131,13 @@ public class JournalAbbreviationLoader {
                 Path tempDir = Files.createTempDirectory("jabref-ltwa");
                 Path tempLtwaList = tempDir.resolve("ltwa-list.mv");
                 Files.copy(resourceAsStream, tempLtwaList);
-                LtwaRepository ltwaRepository = new LtwaRepository(tempLtwaList);
-                tempDir.toFile().deleteOnExit();
-                tempLtwaList.toFile().deleteOnExit();
-                return ltwaRepository;
+                try {
+                    // The entries are read into memory and the file is closed, thus the copy is not needed anymore
+                    return new LtwaRepository(tempLtwaList);
+                } finally {
+                    Files.deleteIfExists(tempLtwaList);
+                    Files.deleteIfExists(tempDir);
+                }
             }
         }
     }
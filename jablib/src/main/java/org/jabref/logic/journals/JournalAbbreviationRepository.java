@@ -2,6 +2,7 @@ package org.jabref.logic.journals;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -10,52 +11,86 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 import org.jabref.logic.util.strings.StringSimilarity;
 
-import org.h2.mvstore.MVMap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.Nullable;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * A repository reading the built-in abbreviations from an MV file keeps the file open until it is {@link #close() closed}.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
-
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    public static final String FULL_TO_ABBREVIATION_MAP_NAME = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_MAP_NAME = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL_MAP_NAME = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL_MAP_NAME = "ShortestUniqueToFull";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+    private static final int NO_FUZZY_MATCH_CACHE_SIZE = 1000;
+    private static final int STORE_CACHE_SIZE_MB = 4;
+
+    private final Map<String, Abbreviation> fullToAbbreviation;
+    // The following maps point to the full name, which is the key of fullToAbbreviation
+    private final Map<String, String> abbreviationToFull;
+    private final Map<String, String> dotlessToFull;
+    private final Map<String, String> shortestUniqueToFull;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
     private final LtwaRepository ltwaRepository;
+    // null if the abbreviations are kept in memory
+    private final @Nullable MVStore store;
+    private final Consumer<MVStore> releaseStore;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // Inputs for which no journal name was found by the fuzzy matching (e.g., conference names). Custom abbreviations are not covered, because they can change.
+    private final Cache<String, Boolean> inputsWithoutFuzzyMatch = CacheBuilder.newBuilder().maximumSize(NO_FUZZY_MATCH_CACHE_SIZE).build();
+    // Created on the first fuzzy lookup, because most lookups match exactly
+    private volatile FuzzyNameIndex fuzzyNameIndex;
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Serves the abbreviations directly from the maps in the given MV file, which is kept open read-only.
+     * Thus, the abbreviations are not copied to memory; only the recently used pages of the file are cached.
+     * <p>
+     * The lookup maps are generated by {@code JournalListMvGenerator}. If the file was generated by an older version and does not contain them, they are built in memory.
      *
      * @param journalList The path to the MV file containing the journal abbreviations.
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
+        this(openStore(journalList), ltwaRepository, MVStore::close);
+    }
+
+    /**
+     * Serves the abbreviations from the given store, which may be shared with other repositories.
+     *
+     * @param releaseStore called with the store when this repository is closed
+     */
+    JournalAbbreviationRepository(MVStore store, LtwaRepository ltwaRepository, Consumer<MVStore> releaseStore) {
+        this.store = store;
+        this.releaseStore = releaseStore;
+        this.fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
+        if (store.hasMap(ABBREVIATION_TO_FULL_MAP_NAME) && store.hasMap(DOTLESS_TO_FULL_MAP_NAME) && store.hasMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME)) {
+            this.abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL_MAP_NAME);
+            this.dotlessToFull = store.openMap(DOTLESS_TO_FULL_MAP_NAME);
+            this.shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME);
+        } else {
+            LOGGER.debug("The journal list does not contain the lookup maps, building them in memory");
+            this.abbreviationToFull = new HashMap<>();
+            this.dotlessToFull = new HashMap<>();
+            this.shortestUniqueToFull = new HashMap<>();
+            fillLookupMaps(fullToAbbreviation, abbreviationToFull, dotlessToFull, shortestUniqueToFull);
         }
         this.ltwaRepository = ltwaRepository;
     }
@@ -64,18 +99,60 @@ public class JournalAbbreviationRepository {
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
-        Abbreviation newAbbreviation = new Abbreviation(
-                "Demonstration",
-                "Demo",
-                "Dem"
-        );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        store = null;
+        releaseStore = _ -> {
+        };
+        fullToAbbreviation = new HashMap<>();
+        abbreviationToFull = new HashMap<>();
+        dotlessToFull = new HashMap<>();
+        shortestUniqueToFull = new HashMap<>();
+        fullToAbbreviation.put("Demonstration", new Abbreviation("Demonstration", "Demo", "Dem"));
+        fillLookupMaps(fullToAbbreviation, abbreviationToFull, dotlessToFull, shortestUniqueToFull);
         ltwaRepository = new LtwaRepository();
     }
 
+    /**
+     * Opens the given MV file read-only
+     */
+    static MVStore openStore(Path journalList) {
+        return new MVStore.Builder()
+                .readOnly()
+                .cacheSize(STORE_CACHE_SIZE_MB)
+                .fileName(journalList.toAbsolutePath().toString())
+                .open();
+    }
+
+    /**
+     * Fills the maps from the abbreviated forms to the full name. If several journals share an abbreviated form, the last one in the iteration order of the given map is used.
+     *
+     * @param fullToAbbreviation the abbreviations by their full name. The name of the stored abbreviations is not used, because it is not serialized.
+     */
+    public static void fillLookupMaps(Map<String, Abbreviation> fullToAbbreviation,
+                                      Map<String, String> abbreviationToFull,
+                                      Map<String, String> dotlessToFull,
+                                      Map<String, String> shortestUniqueToFull) {
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            Abbreviation abbreviation = restore(name, storedAbbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
+    }
+
+    /**
+     * The name and the dotless abbreviation are not serialized, thus an abbreviation read from the MV file needs to be completed
+     */
+    private static Abbreviation restore(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    private Optional<Abbreviation> getByFullName(@Nullable String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(fullToAbbreviation.get(name)).map(storedAbbreviation -> restore(name, storedAbbreviation));
+    }
+
     private static boolean isMatched(String name, Abbreviation abbreviation) {
         return name.equalsIgnoreCase(abbreviation.getName())
                 || name.equalsIgnoreCase(abbreviation.getAbbreviation())
@@ -125,9 +202,9 @@ public class JournalAbbreviationRepository {
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
         return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+                || abbreviationToFull.containsKey(journal)
+                || dotlessToFull.containsKey(journal)
+                || shortestUniqueToFull.containsKey(journal);
     }
 
     /**
@@ -147,10 +224,10 @@ public class JournalAbbreviationRepository {
             return customAbbreviation;
         }
 
-        Optional<Abbreviation> abbreviation = Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        Optional<Abbreviation> abbreviation = getByFullName(journal)
+                .or(() -> getByFullName(abbreviationToFull.get(journal)))
+                .or(() -> getByFullName(dotlessToFull.get(journal)))
+                .or(() -> getByFullName(shortestUniqueToFull.get(journal)));
 
         if (abbreviation.isEmpty()) {
             abbreviation = findAbbreviationFuzzyMatched(journal);
@@ -165,16 +242,44 @@ public class JournalAbbreviationRepository {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        if (inputsWithoutFuzzyMatch.getIfPresent(input) != null) {
+            return Optional.empty();
+        }
+        // Only the names the index considers possibly similar need to be compared
+        List<Abbreviation> candidates = getFuzzyNameIndex().getCandidates(input).stream()
+                                                           .flatMap(name -> getByFullName(name).stream())
+                                                           .toList();
+        Optional<Abbreviation> match = findBestFuzzyMatched(candidates, input);
+        if (match.isEmpty()) {
+            inputsWithoutFuzzyMatch.put(input, Boolean.TRUE);
+        }
+        return match;
+    }
+
+    private FuzzyNameIndex getFuzzyNameIndex() {
+        FuzzyNameIndex index = fuzzyNameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = fuzzyNameIndex;
+                if (index == null) {
+                    // Built from the names only, thus the abbreviations stay in the store
+                    index = new FuzzyNameIndex(fullToAbbreviation.keySet(), similarity.getMetricThreshold());
+                    fuzzyNameIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
     private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
         // threshold for edit distance similarity comparison
         final double SIMILARITY_THRESHOLD = 1.0;
 
-        List<Abbreviation> candidates = abbreviations.stream()
-                .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
-                .sorted(Comparator.comparingDouble(abbreviation -> similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
+        // The distance is computed once per abbreviation and not for each comparison while sorting
+        List<FuzzyMatch> candidates = abbreviations.stream()
+                .map(abbreviation -> new FuzzyMatch(abbreviation, similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
+                .filter(match -> match.distance() <= similarity.getMetricThreshold())
+                .sorted(Comparator.comparingDouble(FuzzyMatch::distance))
                 .toList();
 
         if (candidates.isEmpty()) {
@@ -182,8 +287,8 @@ public class JournalAbbreviationRepository {
         }
 
         if (candidates.size() > 1) {
-            double bestDistance = similarity.editDistanceIgnoreCase(input, candidates.getFirst().getName());
-            double secondDistance = similarity.editDistanceIgnoreCase(input, candidates.get(1).getName());
+            double bestDistance = candidates.getFirst().distance();
+            double secondDistance = candidates.get(1).distance();
 
             // If there is a very close match of two abbreviations, do not use any of them, because they are too close.
             if (Math.abs(bestDistance - secondDistance) < SIMILARITY_THRESHOLD) {
@@ -191,7 +296,10 @@ public class JournalAbbreviationRepository {
             }
         }
 
-        return Optional.of(candidates.getFirst());
+        return Optional.of(candidates.getFirst().abbreviation());
+    }
+
+    private record FuzzyMatch(Abbreviation abbreviation, double distance) {
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
@@ -228,10 +336,25 @@ public class JournalAbbreviationRepository {
     }
 
     public Set<String> getFullNames() {
-        return fullToAbbreviationObject.keySet();
+        return Collections.unmodifiableSet(fullToAbbreviation.keySet());
     }
 
+    /**
+     * Reads all built-in abbreviations. Note that each call creates the abbreviation objects.
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return fullToAbbreviation.entrySet().stream()
+                                 .map(entry -> restore(entry.getKey(), entry.getValue()))
+                                 .toList();
+    }
+
+    /**
+     * Releases the MV file. Afterwards, the built-in abbreviations cannot be read anymore. Closing a repository again has no effect.
+     */
+    @Override
+    public void close() {
+        if ((store != null) && closed.compareAndSet(false, true)) {
+            releaseStore.accept(store);
+        }
     }
 }
@@ -138,6 +138,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * A group prints its header only if it differs from the group of the previously formatted entry (see {@link LayoutHelper#getCurrentGroup()}).
+     * Thus, a layout containing groups has to format the entries one after another in their order.
+     */
+    public boolean containsGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
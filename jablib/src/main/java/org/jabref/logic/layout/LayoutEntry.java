@@ -542,6 +542,11 @@ class LayoutEntry {
         return invalidFormatter;
     }
 
+    public boolean containsGroup() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroup));
+    }
+
     public static List<List<String>> parseMethodsCalls(String calls) {
         List<List<String>> result = new ArrayList<>();
 
@@ -37,6 +37,13 @@ public class LayoutFormatterPreferences {
         return Optional.ofNullable(customExportNameFormatters.get(formatterName));
     }
 
+    /**
+     * @return a copy of the name formatters bundled with the current custom export
+     */
+    public Map<String, String> getCustomExportNameFormatters() {
+        return Map.copyOf(customExportNameFormatters);
+    }
+
     public void clearCustomExportNameFormatters() {
         customExportNameFormatters.clear();
     }
@@ -5,10 +5,19 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * The number is kept per thread, so that entries can be formatted in parallel.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
+    private static final ThreadLocal<Integer> SERIAL_EXPORT_NUMBER = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Sets the sequence number of the entry formatted next by the current thread
+     */
+    public static void setSerialExportNumber(int serialExportNumber) {
+        SERIAL_EXPORT_NUMBER.set(serialExportNumber);
+    }
 
     @Override
     public void setArgument(String arg) {
@@ -17,6 +26,6 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return String.valueOf(SERIAL_EXPORT_NUMBER.get());
     }
 }
@@ -15,7 +15,7 @@ public class XMLChars implements LayoutFormatter {
 
     private static final Map<String, String> ASCII_TO_XML_CHARS = new HashMap<>();
 
-    private boolean[] forceReplace;
+    private volatile boolean[] forceReplace;
 
     static {
         ASCII_TO_XML_CHARS.put("<", "&lt;");
@@ -60,14 +60,16 @@ public class XMLChars implements LayoutFormatter {
         // to catch those cases
 
         if (forceReplace == null) {
-            forceReplace = new boolean[126];
+            // Filled before it is published, because a layout can be used by multiple threads (see TemplateExporter)
+            boolean[] replace = new boolean[126];
             for (int i = 0; i < 40; i++) {
-                forceReplace[i] = true;
+                replace[i] = true;
             }
-            forceReplace[32] = false;
+            replace[32] = false;
             for (int i : new int[] {44, 45, 63, 64, 94, 95, 96, 124}) {
-                forceReplace[i] = true;
+                replace[i] = true;
             }
+            forceReplace = replace;
         }
 
         StringBuilder buffer = new StringBuilder(fieldText.length() * 2);
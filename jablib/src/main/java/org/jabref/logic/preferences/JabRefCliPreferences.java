@@ -373,6 +373,12 @@ public class JabRefCliPreferences implements CliPreferences {
     private static final String AI_DOCUMENT_SPLITTER_OVERLAP_SIZE = "aiDocumentSplitterOverlapSize";
     private static final String AI_RAG_MAX_RESULTS_COUNT = "aiRagMaxResultsCount";
     private static final String AI_RAG_MIN_SCORE = "aiRagMinScore";
+    private static final String AI_EMBEDDING_BATCH_SIZE = "aiEmbeddingBatchSize";
+    private static final String AI_MAX_CONCURRENT_REQUESTS = "aiMaxConcurrentRequests";
+    private static final String AI_RAG_FULL_TEXT_PRE_FILTER = "aiRagFullTextPreFilter";
+    private static final String AI_RAG_PRE_FILTER_MIN_FILES = "aiRagPreFilterMinFiles";
+    private static final String AI_RAG_PRE_FILTER_MAX_PAGES = "aiRagPreFilterMaxPages";
+    private static final String AI_RAG_PRE_FILTER_MAX_FILES = "aiRagPreFilterMaxFiles";
 
     private static final String AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE = "aiChattingSystemMessageTemplate";
     private static final String AI_CHATTING_USER_MESSAGE_TEMPLATE = "aiChattingUserMessageTemplate";
@@ -676,6 +682,12 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE, AiDefaultPreferences.DOCUMENT_SPLITTER_OVERLAP);
         defaults.put(AI_RAG_MAX_RESULTS_COUNT, AiDefaultPreferences.RAG_MAX_RESULTS_COUNT);
         defaults.put(AI_RAG_MIN_SCORE, AiDefaultPreferences.RAG_MIN_SCORE);
+        defaults.put(AI_EMBEDDING_BATCH_SIZE, AiDefaultPreferences.EMBEDDING_BATCH_SIZE);
+        defaults.put(AI_MAX_CONCURRENT_REQUESTS, AiDefaultPreferences.MAX_CONCURRENT_REQUESTS.get(AiDefaultPreferences.PROVIDER));
+        defaults.put(AI_RAG_FULL_TEXT_PRE_FILTER, AiDefaultPreferences.RAG_FULL_TEXT_PRE_FILTER);
+        defaults.put(AI_RAG_PRE_FILTER_MIN_FILES, AiDefaultPreferences.RAG_PRE_FILTER_MIN_FILES);
+        defaults.put(AI_RAG_PRE_FILTER_MAX_PAGES, AiDefaultPreferences.RAG_PRE_FILTER_MAX_PAGES);
+        defaults.put(AI_RAG_PRE_FILTER_MAX_FILES, AiDefaultPreferences.RAG_PRE_FILTER_MAX_FILES);
 
         // region:AI templates
         defaults.put(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE, AiDefaultPreferences.TEMPLATES.get(AiTemplate.CHATTING_SYSTEM_MESSAGE));
@@ -1840,6 +1852,12 @@ public class JabRefCliPreferences implements CliPreferences {
                 getInt(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE),
                 getInt(AI_RAG_MAX_RESULTS_COUNT),
                 getDouble(AI_RAG_MIN_SCORE),
+                getInt(AI_EMBEDDING_BATCH_SIZE),
+                getInt(AI_MAX_CONCURRENT_REQUESTS),
+                getBoolean(AI_RAG_FULL_TEXT_PRE_FILTER),
+                getInt(AI_RAG_PRE_FILTER_MIN_FILES),
+                getInt(AI_RAG_PRE_FILTER_MAX_PAGES),
+                getInt(AI_RAG_PRE_FILTER_MAX_FILES),
                 Map.of(
                         AiTemplate.CHATTING_SYSTEM_MESSAGE, get(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE),
                         AiTemplate.CHATTING_USER_MESSAGE, get(AI_CHATTING_USER_MESSAGE_TEMPLATE),
@@ -1875,6 +1893,12 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(aiPreferences.documentSplitterOverlapSizeProperty(), (obs, oldValue, newValue) -> putInt(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE, newValue));
         EasyBind.listen(aiPreferences.ragMaxResultsCountProperty(), (obs, oldValue, newValue) -> putInt(AI_RAG_MAX_RESULTS_COUNT, newValue));
         EasyBind.listen(aiPreferences.ragMinScoreProperty(), (obs, oldValue, newValue) -> putDouble(AI_RAG_MIN_SCORE, newValue.doubleValue()));
+        EasyBind.listen(aiPreferences.embeddingBatchSizeProperty(), (obs, oldValue, newValue) -> putInt(AI_EMBEDDING_BATCH_SIZE, newValue));
+        EasyBind.listen(aiPreferences.maxConcurrentRequestsProperty(), (obs, oldValue, newValue) -> putInt(AI_MAX_CONCURRENT_REQUESTS, newValue));
+        EasyBind.listen(aiPreferences.ragFullTextPreFilterProperty(), (obs, oldValue, newValue) -> putBoolean(AI_RAG_FULL_TEXT_PRE_FILTER, newValue));
+        EasyBind.listen(aiPreferences.ragPreFilterMinFilesProperty(), (obs, oldValue, newValue) -> putInt(AI_RAG_PRE_FILTER_MIN_FILES, newValue));
+        EasyBind.listen(aiPreferences.ragPreFilterMaxPagesProperty(), (obs, oldValue, newValue) -> putInt(AI_RAG_PRE_FILTER_MAX_PAGES, newValue));
+        EasyBind.listen(aiPreferences.ragPreFilterMaxFilesProperty(), (obs, oldValue, newValue) -> putInt(AI_RAG_PRE_FILTER_MAX_FILES, newValue));
 
         EasyBind.listen(aiPreferences.templateProperty(AiTemplate.CHATTING_SYSTEM_MESSAGE), (obs, oldValue, newValue) -> put(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE, newValue));
         EasyBind.listen(aiPreferences.templateProperty(AiTemplate.CHATTING_USER_MESSAGE), (obs, oldValue, newValue) -> put(AI_CHATTING_USER_MESSAGE_TEMPLATE, newValue));
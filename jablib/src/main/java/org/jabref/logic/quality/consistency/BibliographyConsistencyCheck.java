@@ -7,8 +7,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.SequencedCollection;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
@@ -34,35 +37,45 @@ public class BibliographyConsistencyCheck {
      * @implNote This class does not implement {@link org.jabref.logic.integrity.DatabaseChecker}, because it returns a list of {@link org.jabref.logic.integrity.IntegrityMessage}, which are too fine-grained.
      */
     public Result check(List<BibEntry> entries) {
-        // collects fields existing in any entry, scoped by entry type
-        Map<EntryType, Set<Field>> entryTypeToFieldsInAnyEntryMap = new HashMap<>();
-        // collects fields existing in all entries, scoped by entry type
-        Map<EntryType, Set<Field>> entryTypeToFieldsInAllEntriesMap = new HashMap<>();
-        // collects entries of the same type
-        Map<EntryType, Set<BibEntry>> entryTypeToEntriesMap = new HashMap<>();
+        // The entry types are independent of each other, thus they are checked in parallel
+        Map<EntryType, Set<BibEntry>> entryTypeToEntriesMap = entries.parallelStream()
+                                                                      .collect(Collectors.groupingByConcurrent(BibEntry::getType, Collectors.toSet()));
 
-        collectEntriesIntoMaps(entries, entryTypeToFieldsInAnyEntryMap, entryTypeToFieldsInAllEntriesMap, entryTypeToEntriesMap);
+        Map<EntryType, EntryTypeResult> resultMap = new ConcurrentHashMap<>();
+        entryTypeToEntriesMap.entrySet().parallelStream().forEach(entryTypeToEntries ->
+                checkEntryType(entryTypeToEntries.getValue())
+                        .ifPresent(result -> resultMap.put(entryTypeToEntries.getKey(), result)));
 
-        Map<EntryType, EntryTypeResult> resultMap = new HashMap<>();
-
-        entryTypeToFieldsInAnyEntryMap.forEach((entryType, fields) -> {
-            Set<Field> commonFields = entryTypeToFieldsInAllEntriesMap.get(entryType);
-            assert commonFields != null;
-            Set<Field> uniqueFields = new HashSet<>(fields);
-            uniqueFields.removeAll(commonFields);
+        return new Result(new HashMap<>(resultMap));
+    }
 
-            if (uniqueFields.isEmpty()) {
-                return;
+    private static Optional<EntryTypeResult> checkEntryType(Set<BibEntry> entriesOfType) {
+        // collects fields existing in any entry
+        Set<Field> fieldsInAnyEntry = new HashSet<>();
+        // collects fields existing in all entries
+        Set<Field> commonFields = null;
+        for (BibEntry entry : entriesOfType) {
+            Set<Field> fields = entry.getFields();
+            fieldsInAnyEntry.addAll(fields);
+            if (commonFields == null) {
+                commonFields = new HashSet<>(fields);
+            } else {
+                commonFields.retainAll(fields);
             }
-
-            List<BibEntry> sortedEntries = entryTypeToEntriesMap
-                    .get(entryType).stream()
-                    .filter(entry -> !entry.getFields().equals(commonFields))
-                    .sorted(getBibEntryComparator()).toList();
-            resultMap.put(entryType, new EntryTypeResult(uniqueFields, sortedEntries));
-        });
-
-        return new Result(resultMap);
+        }
+        assert commonFields != null;
+
+        Set<Field> uniqueFields = new HashSet<>(fieldsInAnyEntry);
+        uniqueFields.removeAll(commonFields);
+        if (uniqueFields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Field> finalCommonFields = commonFields;
+        List<BibEntry> sortedEntries = entriesOfType.stream()
+                                                    .filter(entry -> !entry.getFields().equals(finalCommonFields))
+                                                    .sorted(getBibEntryComparator()).toList();
+        return Optional.of(new EntryTypeResult(uniqueFields, sortedEntries));
     }
 
     /**
@@ -86,19 +99,4 @@ public class BibliographyConsistencyCheck {
             return 0;
         };
     }
-
-    private static void collectEntriesIntoMaps(List<BibEntry> entries, Map<EntryType, Set<Field>> entryTypeToFieldsInAnyEntryMap, Map<EntryType, Set<Field>> entryTypeToFieldsInAllEntriesMap, Map<EntryType, Set<BibEntry>> entryTypeToEntriesMap) {
-        entries.forEach(entry -> {
-            EntryType entryType = entry.getType();
-
-            Set<Field> fieldsInAnyEntry = entryTypeToFieldsInAnyEntryMap.computeIfAbsent(entryType, k -> new HashSet<>());
-            fieldsInAnyEntry.addAll(entry.getFields());
-
-            Set<Field> fieldsInAllEntries = entryTypeToFieldsInAllEntriesMap.computeIfAbsent(entryType, k -> new HashSet<>(entry.getFields()));
-            fieldsInAllEntries.retainAll(entry.getFields());
-
-            Set<BibEntry> entriesOfType = entryTypeToEntriesMap.computeIfAbsent(entryType, k -> new HashSet<>());
-            entriesOfType.add(entry);
-        });
-    }
 }
@@ -5,11 +5,14 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,13 +22,45 @@ public class DatabaseSearcher {
 
     private final BibDatabaseContext databaseContext;
     private final SearchQuery query;
+    // null if the query is evaluated in memory
     private final IndexManager indexManager;
+    private final InMemoryBibFieldsSearcher inMemorySearcher;
 
     // TODO: get rid of task executor here or add a constructor overload?
     public DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext, TaskExecutor taskExecutor, CliPreferences preferences, PostgreServer postgreServer) throws IOException {
         this.databaseContext = databaseContext;
         this.query = Objects.requireNonNull(query);
         this.indexManager = new IndexManager(databaseContext, taskExecutor, preferences, postgreServer);
+        this.inMemorySearcher = null;
+    }
+
+    /**
+     * Creates a searcher evaluating the query directly on the entries, without building an index.
+     * Full-text search is not supported by this searcher.
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext, CliPreferences preferences) {
+        this.databaseContext = databaseContext;
+        this.query = Objects.requireNonNull(query);
+        this.indexManager = null;
+        this.inMemorySearcher = new InMemoryBibFieldsSearcher(databaseContext, preferences.getBibEntryPreferences().getKeywordSeparator());
+    }
+
+    private DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext, IndexManager indexManager) {
+        this.databaseContext = databaseContext;
+        this.query = Objects.requireNonNull(query);
+        this.indexManager = indexManager;
+        this.inMemorySearcher = null;
+    }
+
+    /**
+     * Creates a searcher suited for running a single query on a library (e.g., in the CLI).
+     * The bib fields are always searched in memory, so that no Postgres server is started. Only if the linked files need to be searched, these are indexed.
+     */
+    public static DatabaseSearcher forSingleQuery(SearchQuery query, BibDatabaseContext databaseContext, TaskExecutor taskExecutor, CliPreferences preferences) {
+        if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            return new DatabaseSearcher(query, databaseContext, new IndexManager(databaseContext, taskExecutor, preferences));
+        }
+        return new DatabaseSearcher(query, databaseContext, preferences);
     }
 
     /**
@@ -36,15 +71,21 @@ public class DatabaseSearcher {
 
         if (!query.isValid()) {
             LOGGER.warn("Search failed: invalid search expression");
-            indexManager.closeAndWait();
+            close();
             return List.of();
         }
-        List<BibEntry> matchEntries = indexManager.search(query)
-                                                  .getMatchedEntries()
-                                                  .stream()
-                                                  .map(entryId -> databaseContext.getDatabase().getEntryById(entryId))
-                                                  .toList();
-        indexManager.closeAndWait();
+        SearchResults searchResults = indexManager != null ? indexManager.search(query) : inMemorySearcher.search(query);
+        List<BibEntry> matchEntries = searchResults.getMatchedEntries()
+                                                   .stream()
+                                                   .map(entryId -> databaseContext.getDatabase().getEntryById(entryId))
+                                                   .toList();
+        close();
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
+
+    private void close() {
+        if (indexManager != null) {
+            indexManager.closeAndWait();
+        }
+    }
 }
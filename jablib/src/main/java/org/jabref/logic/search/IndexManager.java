@@ -1,8 +1,14 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -15,11 +21,13 @@ import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
 import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
@@ -31,29 +39,58 @@ import org.jabref.model.search.event.IndexStartedEvent;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResults;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Manages the search index of a library.
+ * <p>
+ * The index of the bib fields lives in the {@link PostgreServer}. Until the server has been started and the library has been indexed,
+ * searches on the bib fields are evaluated in memory, so that searching is possible right after opening a library.
+ * An index manager created without a server always searches the bib fields in memory.
+ */
 public class IndexManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(IndexManager.class);
 
     private final TaskExecutor taskExecutor;
     private final BibDatabaseContext databaseContext;
+    private final CliPreferences preferences;
     private final BooleanProperty shouldIndexLinkedFiles;
     private final ChangeListener<Boolean> preferencesListener;
-    private final BibFieldsIndexer bibFieldsIndexer;
     private final LuceneIndexer linkedFilesIndexer;
-    private final BibFieldsSearcher bibFieldsSearcher;
+    private final InMemoryBibFieldsSearcher inMemoryBibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
+    private final boolean indexesBibFields;
 
-    public IndexManager(BibDatabaseContext databaseContext, TaskExecutor executor, CliPreferences preferences, PostgreServer postgreServer) {
+    // Set as soon as the initial indexing on the Postgres server has finished
+    private volatile BibFieldsIndexer bibFieldsIndexer;
+    // The entries added, changed or removed before, which are indexed anew afterwards. Guarded by the lock on this.
+    private final Set<BibEntry> pendingEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile BibFieldsSearcher bibFieldsSearcher;
+    private volatile boolean closed;
+
+    /**
+     * Creates an index manager that indexes the linked files only and searches the bib fields in memory.
+     * Suited for running a few queries on a library, where indexing the bib fields does not pay off.
+     */
+    public IndexManager(BibDatabaseContext databaseContext, TaskExecutor executor, CliPreferences preferences) {
+        this(databaseContext, executor, preferences, null);
+    }
+
+    /**
+     * @param postgreServer the server holding the index of the bib fields; if null, the bib fields are searched in memory
+     */
+    public IndexManager(BibDatabaseContext databaseContext, TaskExecutor executor, CliPreferences preferences, @Nullable PostgreServer postgreServer) {
         this.taskExecutor = executor;
         this.databaseContext = databaseContext;
+        this.preferences = preferences;
+        this.indexesBibFields = postgreServer != null;
         this.shouldIndexLinkedFiles = preferences.getFilePreferences().fulltextIndexLinkedFilesProperty();
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        this.inMemoryBibFieldsSearcher = new InMemoryBibFieldsSearcher(databaseContext, preferences.getBibEntryPreferences().getKeywordSeparator());
 
         LuceneIndexer indexer;
         try {
@@ -64,9 +101,8 @@ public class IndexManager {
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
-        updateOnStart();
+        updateOnStart(postgreServer);
     }
 
     private void bindToPreferences(boolean newValue) {
@@ -83,16 +119,10 @@ public class IndexManager {
         }
     }
 
-    private void updateOnStart() {
-        new BackgroundTask<>() {
-            @Override
-            public Object call() {
-                bibFieldsIndexer.updateOnStart(this);
-                return null;
-            }
-        }.willBeRecoveredAutomatically(true)
-         .onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexStartedEvent()))
-         .executeWith(taskExecutor);
+    private void updateOnStart(@Nullable PostgreServer postgreServer) {
+        if (postgreServer != null) {
+            startBibFieldsIndex(postgreServer);
+        }
 
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
@@ -105,11 +135,74 @@ public class IndexManager {
         }
     }
 
+    private void startBibFieldsIndex(PostgreServer postgreServer) {
+        postgreServer.onReady(() -> new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                if (closed) {
+                    return null;
+                }
+                Connection connection = postgreServer.getConnection();
+                BibFieldsIndexer indexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, connection);
+
+                // Changes from now on are recorded as pending and applied after the initial indexing
+                List<BibEntry> entries;
+                synchronized (IndexManager.this) {
+                    pendingEntries.clear();
+                    entries = List.copyOf(databaseContext.getDatabase().getEntries());
+                }
+                indexer.addToIndex(entries, this);
+
+                synchronized (IndexManager.this) {
+                    if (closed) {
+                        indexer.closeAndWait();
+                        return null;
+                    }
+                    reindexPendingEntries(indexer, this);
+                    bibFieldsIndexer = indexer;
+                }
+                bibFieldsSearcher = new BibFieldsSearcher(connection, indexer.getTable());
+                return null;
+            }
+        }.willBeRecoveredAutomatically(true)
+         .onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexStartedEvent()))
+         .executeWith(taskExecutor));
+    }
+
+    /**
+     * Removes the pending entries from the index and adds those still in the library again
+     */
+    private void reindexPendingEntries(BibFieldsIndexer indexer, BackgroundTask<?> task) {
+        if (pendingEntries.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Indexing {} entries changed during the initial indexing", pendingEntries.size());
+        List<BibEntry> entries = List.copyOf(pendingEntries);
+        pendingEntries.clear();
+        indexer.removeFromIndex(entries, task);
+        indexer.addToIndex(entries.stream()
+                                  .filter(entry -> databaseContext.getDatabase().getEntryById(entry.getId()) == entry)
+                                  .toList(), task);
+    }
+
+    /**
+     * @return the indexer of the bib fields, or null if the initial indexing has not finished yet. In that case, the given entries are indexed anew after it finished.
+     */
+    private synchronized @Nullable BibFieldsIndexer getIndexerOrDefer(Collection<BibEntry> entries) {
+        if (bibFieldsIndexer == null && indexesBibFields) {
+            pendingEntries.addAll(entries);
+        }
+        return bibFieldsIndexer;
+    }
+
     public void addToIndex(List<BibEntry> entries) {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.addToIndex(entries, this);
+                BibFieldsIndexer indexer = getIndexerOrDefer(entries);
+                if (indexer != null) {
+                    indexer.addToIndex(entries, this);
+                }
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
@@ -130,7 +223,10 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.removeFromIndex(entries, this);
+                BibFieldsIndexer indexer = getIndexerOrDefer(entries);
+                if (indexer != null) {
+                    indexer.removeFromIndex(entries, this);
+                }
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexRemovedEvent(entries)))
@@ -151,7 +247,10 @@ public class IndexManager {
         new BackgroundTask<>() {
             @Override
             public Object call() {
-                bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
+                BibFieldsIndexer indexer = getIndexerOrDefer(List.of(event.getBibEntry()));
+                if (indexer != null) {
+                    indexer.updateEntry(event.getBibEntry(), event.getField());
+                }
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
@@ -168,6 +267,41 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Updates the index for the changes of a change batch at once, in a single task for the fields and one for the linked files
+     */
+    public void updateEntries(EntriesChangedEvent event) {
+        List<FieldChangedEvent> fieldChanges = event.getFieldChanges();
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                BibFieldsIndexer indexer = getIndexerOrDefer(event.getBibEntries());
+                if (indexer != null) {
+                    for (FieldChangedEvent change : fieldChanges) {
+                        indexer.updateEntry(change.getBibEntry(), change.getField());
+                    }
+                }
+                return null;
+            }
+        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(event.getBibEntries())))
+         .executeWith(taskExecutor);
+
+        List<FieldChangedEvent> fileChanges = fieldChanges.stream()
+                                                          .filter(change -> change.getField().equals(StandardField.FILE))
+                                                          .toList();
+        if (shouldIndexLinkedFiles.get() && !fileChanges.isEmpty()) {
+            new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    for (FieldChangedEvent change : fileChanges) {
+                        linkedFilesIndexer.updateEntry(change.getBibEntry(), change.getOldValue(), change.getNewValue(), this);
+                    }
+                    return null;
+                }
+            }.executeWith(taskExecutor);
+        }
+    }
+
     public void rebuildFullTextIndex() {
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
@@ -181,14 +315,28 @@ public class IndexManager {
     }
 
     public void close() {
-        bibFieldsIndexer.close();
+        BibFieldsIndexer indexer;
+        synchronized (this) {
+            closed = true;
+            indexer = bibFieldsIndexer;
+        }
+        if (indexer != null) {
+            indexer.close();
+        }
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
         databaseContext.getDatabase().postEvent(new IndexClosedEvent());
     }
 
     public void closeAndWait() {
-        bibFieldsIndexer.closeAndWait();
+        BibFieldsIndexer indexer;
+        synchronized (this) {
+            closed = true;
+            indexer = bibFieldsIndexer;
+        }
+        if (indexer != null) {
+            indexer.closeAndWait();
+        }
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
         databaseContext.getDatabase().postEvent(new IndexClosedEvent());
@@ -196,7 +344,13 @@ public class IndexManager {
 
     public SearchResults search(SearchQuery query) {
         List<Callable<SearchResults>> tasks = new ArrayList<>();
-        tasks.add(() -> bibFieldsSearcher.search(query));
+        BibFieldsSearcher searcher = bibFieldsSearcher;
+        if (searcher != null) {
+            tasks.add(() -> searcher.search(query));
+        } else {
+            LOGGER.debug("Search index not ready yet, searching in memory");
+            tasks.add(() -> inMemoryBibFieldsSearcher.search(query));
+        }
 
         if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
             tasks.add(() -> linkedFilesSearcher.search(query));
@@ -216,10 +370,36 @@ public class IndexManager {
         return searchResults;
     }
 
+    /**
+     * Ranks linked files by the full-text relevance of their pages, see {@link LinkedFilesSearcher#findMostRelevantFiles(String, Collection, int)}
+     *
+     * @return empty if linked files are not indexed
+     */
+    public Optional<List<String>> findMostRelevantFiles(String text, Collection<String> fileLinks, int maxPages) {
+        if (!shouldIndexLinkedFiles.get()) {
+            return Optional.empty();
+        }
+        return Optional.of(linkedFilesSearcher.findMostRelevantFiles(text, fileLinks, maxPages));
+    }
+
+    /**
+     * @return the given links of the files that are in the full-text index. Files not indexed yet cannot be ranked by {@link #findMostRelevantFiles(String, Collection, int)}.
+     */
+    public Set<String> findIndexedFiles(Collection<String> fileLinks) {
+        if (!shouldIndexLinkedFiles.get()) {
+            return Set.of();
+        }
+        return linkedFilesSearcher.findIndexedFiles(fileLinks);
+    }
+
     /**
      * @implNote No need to check for full-text searches as this method only used by the search groups
      */
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
-        return bibFieldsSearcher.isMatched(entry, query);
+        BibFieldsSearcher searcher = bibFieldsSearcher;
+        if (searcher != null) {
+            return searcher.isMatched(entry, query);
+        }
+        return inMemoryBibFieldsSearcher.isMatched(entry, query);
     }
 }
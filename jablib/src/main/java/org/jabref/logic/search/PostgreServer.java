@@ -3,9 +3,13 @@ package org.jabref.logic.search;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import javax.sql.DataSource;
 
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.search.PostgreConstants;
 
 import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
@@ -14,12 +18,23 @@ import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
 
+/**
+ * Embedded Postgres server used for indexing and searching the fields of the entries.
+ * <p>
+ * The server is started in the background, because starting it takes some seconds.
+ * Use {@link #isReady()} and {@link #onReady(Runnable)} to avoid blocking on the start-up; {@link #getConnection()} waits until the server is ready.
+ */
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
-    private final EmbeddedPostgres embeddedPostgres;
-    private final DataSource dataSource;
+
+    // Completes with empty if the server could not be started
+    private final CompletableFuture<Optional<EmbeddedPostgres>> embeddedPostgres;
 
     public PostgreServer() {
+        this.embeddedPostgres = CompletableFuture.supplyAsync(PostgreServer::start, HeadlessExecutorService.INSTANCE);
+    }
+
+    private static Optional<EmbeddedPostgres> start() {
         EmbeddedPostgres embeddedPostgres;
         try {
             embeddedPostgres = EmbeddedPostgres.builder()
@@ -28,58 +43,85 @@ public class PostgreServer {
             LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
         } catch (IOException e) {
             LOGGER.error("Could not start Postgres server", e);
-            this.embeddedPostgres = null;
-            this.dataSource = null;
-            return;
+            return Optional.empty();
         }
 
-        this.embeddedPostgres = embeddedPostgres;
-        this.dataSource = embeddedPostgres.getPostgresDatabase();
-        addTrigramExtension();
-        createScheme();
-        addFunctions();
+        DataSource dataSource = embeddedPostgres.getPostgresDatabase();
+        addTrigramExtension(dataSource);
+        createScheme(dataSource);
+        addFunctions(dataSource);
+        return Optional.of(embeddedPostgres);
     }
 
-    private void createScheme() {
-        try (Connection connection = getConnection()) {
-            if (connection != null) {
-                LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
-            }
+    private static void createScheme(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            LOGGER.debug("Creating scheme for bib fields");
+            connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
+            connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
         }
     }
 
-    private void addTrigramExtension() {
-        try (Connection connection = getConnection()) {
-            if (connection != null) {
-                LOGGER.debug("Adding trigram extension to Postgres server");
-                connection.createStatement().execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
-            }
+    private static void addTrigramExtension(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            LOGGER.debug("Adding trigram extension to Postgres server");
+            connection.createStatement().execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
         } catch (SQLException e) {
             LOGGER.error("Could not add trigram extension to Postgres server", e);
         }
     }
 
-    private void addFunctions() {
-        try (Connection connection = getConnection()) {
-            if (connection != null) {
-                LOGGER.debug("Adding functions to Postgres server");
-                for (String function : PostgreConstants.POSTGRES_FUNCTIONS) {
-                    connection.createStatement().execute(function);
-                }
+    private static void addFunctions(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            LOGGER.debug("Adding functions to Postgres server");
+            for (String function : PostgreConstants.POSTGRES_FUNCTIONS) {
+                connection.createStatement().execute(function);
             }
         } catch (SQLException e) {
             LOGGER.error("Could not add functions to Postgres server", e);
         }
     }
 
+    /**
+     * @return true if the server has been started successfully and can be used without waiting
+     */
+    public boolean isReady() {
+        return embeddedPostgres.isDone() && embeddedPostgres.join().isPresent();
+    }
+
+    /**
+     * Waits until the server has been started.
+     *
+     * @return true if the server has been started successfully
+     */
+    public boolean awaitReady() {
+        return awaitStart().isPresent();
+    }
+
+    /**
+     * Runs the given action as soon as the server has been started successfully.
+     * If the server is ready already, the action is run immediately on the calling thread.
+     * The action is never run if the server could not be started.
+     */
+    public void onReady(Runnable action) {
+        embeddedPostgres.thenAccept(postgres -> postgres.ifPresent(_ -> action.run()))
+                        .exceptionally(throwable -> {
+                            LOGGER.error("Error while running action after Postgres server start", throwable);
+                            return null;
+                        });
+    }
+
+    /**
+     * Returns a connection to the server. Waits until the server has been started.
+     *
+     * @return null if the server could not be started
+     */
     public Connection getConnection() {
-        if (dataSource != null) {
+        Optional<EmbeddedPostgres> postgres = awaitStart();
+        if (postgres.isPresent()) {
             try {
-                return dataSource.getConnection();
+                return postgres.get().getPostgresDatabase().getConnection();
             } catch (SQLException e) {
                 LOGGER.error("Could not get connection to Postgres server", e);
             }
@@ -87,13 +129,25 @@ public class PostgreServer {
         return null;
     }
 
+    private Optional<EmbeddedPostgres> awaitStart() {
+        try {
+            return embeddedPostgres.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for Postgres server", e);
+        } catch (ExecutionException e) {
+            LOGGER.error("Could not start Postgres server", e);
+        }
+        return Optional.empty();
+    }
+
     public void shutdown() {
-        if (embeddedPostgres != null) {
+        awaitStart().ifPresent(postgres -> {
             try {
-                embeddedPostgres.close();
+                postgres.close();
             } catch (IOException e) {
                 LOGGER.error("Could not shutdown Postgres server", e);
             }
-        }
+        });
     }
 }
@@ -0,0 +1,129 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+
+/**
+ * The values of an entry in the same shape as {@link BibFieldsIndexer} stores them in the main table and the split values table.
+ * This allows evaluating search queries on entries directly, without a database.
+ * <p>
+ * The indexer builds its rows with the same methods, so that both ways of searching see the same values.
+ */
+public record BibFieldValues(BibEntry entry, List<FieldValue> mainValues, List<FieldValue> splitValues) {
+    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
+    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
+    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    /**
+     * @param name        the name of the field (see {@link Field#getName()})
+     * @param literal     the value as-is
+     * @param transformed the value transformed for better querying
+     */
+    public record FieldValue(String name, String literal, String transformed) {
+    }
+
+    public static BibFieldValues of(BibEntry bibEntry, BibDatabase database, Character keywordSeparator) {
+        List<FieldValue> mainValues = new ArrayList<>();
+        List<FieldValue> splitValues = new ArrayList<>();
+
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            // Date-related fields are added separately below
+            if (!isDateField(field)) {
+                mainValues.add(mainValue(bibEntry, field, fieldPair.getValue(), database));
+            }
+            splitValues.addAll(splitValues(bibEntry, field, fieldPair.getValue(), database, keywordSeparator));
+        }
+        mainValues.addAll(dateValues(bibEntry, database));
+        mainValues.add(typeValue(bibEntry));
+
+        return new BibFieldValues(bibEntry, mainValues, splitValues);
+    }
+
+    static boolean isDateField(Field field) {
+        return DATE_FIELDS.contains(field);
+    }
+
+    /**
+     * The row of a field that is not date-related in the main table
+     */
+    static FieldValue mainValue(BibEntry bibEntry, Field field, String value, BibDatabase database) {
+        // If a field exists, there also exists a resolved field latex free.
+        // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+        // To uncover these flaws, we add the "assert" statement.
+        // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+        Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, database);
+        assert resolvedFieldLatexFree.isPresent();
+        return new FieldValue(field.getName(), value, resolvedFieldLatexFree.orElse(""));
+    }
+
+    /**
+     * The rows of all date-related fields in the main table. These are resolved, i.e., a year is also present if only the date is set.
+     */
+    static List<FieldValue> dateValues(BibEntry bibEntry, BibDatabase database) {
+        List<FieldValue> dateValues = new ArrayList<>();
+        for (Field dateField : DATE_FIELDS) {
+            bibEntry.getResolvedFieldOrAlias(dateField, database)
+                    .ifPresent(dateValue -> dateValues.add(transformed(dateField, dateValue)));
+        }
+        return dateValues;
+    }
+
+    static FieldValue typeValue(BibEntry bibEntry) {
+        return transformed(TYPE_HEADER, bibEntry.getType().getName());
+    }
+
+    /**
+     * The rows of a known multi-value field in the split values table, split and converted to Unicode
+     */
+    static List<FieldValue> splitValues(BibEntry bibEntry, Field field, String value, BibDatabase database, Character keywordSeparator) {
+        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+            // Author object does not support literal values
+            // We use the method giving us the most complete information for the literal value
+            return AuthorList.parse(value).getAuthors().stream()
+                             .map(author -> new FieldValue(field.getName(), author.getGivenFamily(false), author.latexFree().getGivenFamily(false)))
+                             .toList();
+        } else if (field == StandardField.KEYWORDS) {
+            return KeywordList.parse(value, keywordSeparator).stream()
+                              .flatMap(keyword -> keyword.flatten().stream())
+                              .map(keyword -> transformed(field, keyword.toString()))
+                              .toList();
+        } else if (field == StandardField.GROUPS) {
+            // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
+            return Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
+                         .distinct()
+                         .map(group -> transformed(field, group))
+                         .toList();
+        } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+            return bibEntry.getEntryLinkList(field, database).stream()
+                           .distinct()
+                           .map(link -> transformed(field, link.getKey()))
+                           .toList();
+        }
+        // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+        // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+        // The use case to search for file names seems pretty seldom, therefore we omit it.
+        // No other multi-value fields are known
+        return List.of();
+    }
+
+    private static FieldValue transformed(Field field, String value) {
+        return new FieldValue(field.getName(), value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    }
+}
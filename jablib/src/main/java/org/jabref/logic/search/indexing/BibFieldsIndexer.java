@@ -3,32 +3,21 @@ package org.jabref.logic.search.indexing;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
-import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
-import org.jabref.model.entry.field.FieldProperty;
-import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
 import io.github.thibaultmeyer.cuid.CUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
@@ -37,9 +26,6 @@ import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
 
 public class BibFieldsIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
-    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
-    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
-    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
 
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
@@ -61,7 +47,7 @@ public class BibFieldsIndexer {
 
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
-        // TODO: Set-up should be in a background task
+        // Called from the background task started by the IndexManager as soon as the Postgres server is ready
         setup();
     }
 
@@ -209,47 +195,9 @@ public class BibFieldsIndexer {
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
              PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
             String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
+            BibFieldValues fieldValues = BibFieldValues.of(bibEntry, databaseContext.getDatabase(), keywordSeparator);
+            fieldValues.mainValues().forEach(fieldValue -> addBatch(preparedStatement, entryId, fieldValue));
+            fieldValues.splitValues().forEach(fieldValue -> addBatch(preparedStatementSplitValues, entryId, fieldValue));
 
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
@@ -329,12 +277,10 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_TRANSFORMED, FIELD_VALUE_TRANSFORMED);
 
         String entryId = entry.getId();
-        if (DATE_FIELDS.contains(field)) {
+        if (BibFieldValues.isDateField(field)) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertDateFieldQuery)) {
-                for (Field dateField : DATE_FIELDS) {
-                    Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                    resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-                }
+                BibFieldValues.dateValues(entry, databaseContext.getDatabase())
+                              .forEach(fieldValue -> addBatch(preparedStatement, entryId, fieldValue));
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
                 LOGGER.error("Could not add an entry to the index.", e);
@@ -342,10 +288,7 @@ public class BibFieldsIndexer {
         } else {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery)) {
                 String value = entry.getField(field).orElse("");
-
-                Optional<String> resolvedFieldLatexFree = entry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                assert resolvedFieldLatexFree.isPresent();
-                addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
+                addBatch(preparedStatement, entryId, BibFieldValues.mainValue(entry, field, value, databaseContext.getDatabase()));
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
                 LOGGER.error("Could not add an entry to the index.", e);
@@ -364,18 +307,8 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
             String value = entry.getField(field).orElse("");
-
-            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
-            } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
-            } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
-            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
-            } else if (field == StandardField.FILE) {
-                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-            }
+            BibFieldValues.splitValues(entry, field, value, databaseContext.getDatabase(), keywordSeparator)
+                          .forEach(fieldValue -> addBatch(preparedStatement, entryId, fieldValue));
             preparedStatement.executeBatch();
         } catch (SQLException e) {
             LOGGER.error("Could not add an entry to the index.", e);
@@ -425,53 +358,22 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
-        bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
-            .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
-    }
-
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
-        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
-              .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
-    }
-
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
-        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
-        keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
-            String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
-        });
-    }
-
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        AuthorList.parse(value).getAuthors().forEach(author -> {
-            // Author object does not support literal values
-            // We use the method giving us the most complete information for the literal value;
-            String literal = author.getGivenFamily(false);
-            String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
-        });
-    }
-
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    private static void addBatch(PreparedStatement preparedStatement, String entryId, BibFieldValues.FieldValue fieldValue) {
+        addBatch(preparedStatement, entryId, fieldValue.name(), fieldValue.literal(), fieldValue.transformed());
     }
 
     /**
      * The values are passed as they should be inserted into the database table
      */
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value, String normalized) {
+    private static void addBatch(PreparedStatement preparedStatement, String entryId, String fieldName, String value, String normalized) {
         try {
             preparedStatement.setString(1, entryId);
-            preparedStatement.setString(2, field.getName());
+            preparedStatement.setString(2, fieldName);
             preparedStatement.setString(3, value);
             preparedStatement.setString(4, normalized);
             preparedStatement.addBatch();
         } catch (SQLException e) {
-            LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
+            LOGGER.error("Could not add field {} having value {} of entry {} to the index.", fieldName, value, entryId, e);
         }
     }
 }
@@ -1,7 +1,9 @@
 package org.jabref.logic.search.query;
 
 import java.util.List;
+import java.util.function.Predicate;
 
+import org.jabref.logic.search.indexing.BibFieldValues;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
 import org.jabref.model.search.query.SqlQueryNode;
@@ -18,6 +20,11 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    public static Predicate<BibFieldValues> searchToPredicate(SearchQuery searchQuery) {
+        LOGGER.debug("Converting search expression to predicate: {}", searchQuery.getSearchExpression());
+        return new SearchToPredicateVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
@@ -0,0 +1,201 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.indexing.BibFieldValues;
+import org.jabref.logic.search.indexing.BibFieldValues.FieldValue;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.SearchFlags.CASE_INSENSITIVE;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/**
+ * Converts a search query to a predicate which is evaluated directly on the values of an entry.
+ * The semantics follow the ones of {@link SearchToSqlVisitor}, so that both searchers return the same entries.
+ */
+public class SearchToPredicateVisitor extends SearchBaseVisitor<Predicate<BibFieldValues>> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchToPredicateVisitor.class);
+    private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
+
+    private final EnumSet<SearchFlags> searchBarFlags;
+
+    public SearchToPredicateVisitor(EnumSet<SearchFlags> searchBarFlags) {
+        this.searchBarFlags = searchBarFlags;
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitStart(SearchParser.StartContext ctx) {
+        if (ctx.andExpression() == null) {
+            return values -> false;
+        }
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+        return ctx.expression().stream()
+                  .map(this::visit)
+                  .reduce(Predicate::and)
+                  .orElse(values -> false);
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+        return visit(ctx.expression()).negate();
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        Predicate<BibFieldValues> left = visit(ctx.left);
+        Predicate<BibFieldValues> right = visit(ctx.right);
+        return ctx.bin_op.getType() == SearchParser.AND ? left.and(right) : left.or(right);
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+        return visit(ctx.comparison());
+    }
+
+    @Override
+    public Predicate<BibFieldValues> visitComparison(SearchParser.ComparisonContext ctx) {
+        EnumSet<SearchFlags> searchFlags = EnumSet.noneOf(SearchFlags.class);
+        String term = SearchQueryConversion.unescapeSearchValue(ctx.searchValue());
+
+        // unfielded expression
+        if (ctx.FIELD() == null) {
+            boolean isCaseSensitive = searchBarFlags.contains(CASE_SENSITIVE);
+            if (searchBarFlags.contains(REGULAR_EXPRESSION)) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, isCaseSensitive, false);
+            } else {
+                setFlags(searchFlags, INEXACT_MATCH, isCaseSensitive, false);
+            }
+            return getFieldPredicate("any", term, searchFlags);
+        }
+
+        // fielded expression
+        String field = ctx.FIELD().getText();
+        int operator = ctx.operator().getStart().getType();
+
+        if (operator == SearchParser.EQUAL || operator == SearchParser.CONTAINS) {
+            setFlags(searchFlags, INEXACT_MATCH, false, false);
+        } else if (operator == SearchParser.CEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, true, false);
+        } else if (operator == SearchParser.EEQUAL || operator == SearchParser.MATCHES) {
+            setFlags(searchFlags, EXACT_MATCH, false, false);
+        } else if (operator == SearchParser.CEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, true, false);
+        } else if (operator == SearchParser.REQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, false, false);
+        } else if (operator == SearchParser.CREEQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, true, false);
+        } else if (operator == SearchParser.NEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, false, true);
+        } else if (operator == SearchParser.NCEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, true, true);
+        } else if (operator == SearchParser.NEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, false, true);
+        } else if (operator == SearchParser.NCEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, true, true);
+        } else if (operator == SearchParser.NREQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, false, true);
+        } else if (operator == SearchParser.NCREEQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, true, true);
+        }
+
+        // field = "" -> should find entries where the field is empty
+        // field != "" -> should find entries where the field is not empty
+        if (term.isEmpty()) {
+            if (searchFlags.contains(NEGATION)) {
+                searchFlags.remove(NEGATION);
+            } else {
+                searchFlags.add(NEGATION);
+            }
+        }
+
+        return getFieldPredicate(field.toLowerCase(Locale.ROOT), term, searchFlags);
+    }
+
+    private Predicate<BibFieldValues> getFieldPredicate(String field, String term, EnumSet<SearchFlags> searchFlags) {
+        // Pseudo-fields
+        String fieldName = switch (field) {
+            case "key" -> InternalField.KEY_FIELD.getName();
+            case "anykeyword" -> StandardField.KEYWORDS.getName();
+            case "anyfield" -> "any";
+            default -> field;
+        };
+
+        if (PostgreConstants.ENTRY_ID.toString().equals(fieldName)) {
+            return values -> values.entry().getId().equals(term);
+        }
+
+        Predicate<String> valueMatcher = getValueMatcher(term, searchFlags);
+        Predicate<FieldValue> fieldMatcher = "any".equals(fieldName)
+                                             ? value -> !GROUPS_FIELD.equals(value.name())
+                                             : value -> fieldName.equals(value.name());
+        Predicate<FieldValue> matcher = fieldMatcher.and(value -> valueMatcher.test(value.literal()) || valueMatcher.test(value.transformed()));
+
+        // Only exact matches consider the split values (e.g., single authors or keywords), see SearchToSqlVisitor
+        Predicate<BibFieldValues> positive = searchFlags.contains(EXACT_MATCH)
+                                             ? values -> Stream.of(values.mainValues(), values.splitValues()).flatMap(List::stream).anyMatch(matcher)
+                                             : values -> values.mainValues().stream().anyMatch(matcher);
+        return searchFlags.contains(NEGATION) ? positive.negate() : positive;
+    }
+
+    private static Predicate<String> getValueMatcher(String term, EnumSet<SearchFlags> searchFlags) {
+        boolean isCaseSensitive = searchFlags.contains(CASE_SENSITIVE);
+        if (searchFlags.contains(REGULAR_EXPRESSION)) {
+            try {
+                Pattern pattern = isCaseSensitive
+                                  ? Pattern.compile(term)
+                                  : Pattern.compile(term, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                return value -> pattern.matcher(value).find();
+            } catch (PatternSyntaxException e) {
+                LOGGER.debug("Invalid regular expression {}", term, e);
+                return value -> false;
+            }
+        }
+
+        if (searchFlags.contains(EXACT_MATCH)) {
+            return isCaseSensitive ? term::equals : term::equalsIgnoreCase;
+        }
+
+        if (isCaseSensitive) {
+            return value -> value.contains(term);
+        }
+        String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+        return value -> value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+    }
+
+    private static void setFlags(EnumSet<SearchFlags> flags, SearchFlags matchType, boolean caseSensitive, boolean negation) {
+        flags.add(matchType);
+
+        flags.add(caseSensitive ? CASE_SENSITIVE : CASE_INSENSITIVE);
+        if (negation) {
+            flags.add(NEGATION);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jabref.logic.search.indexing.BibFieldValues;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResults;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches the fields of the entries directly in memory.
+ * In contrast to {@link BibFieldsSearcher}, this does not need an index, which makes it the better choice if only a few queries are run on a library (e.g., in the CLI).
+ */
+public class InMemoryBibFieldsSearcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBibFieldsSearcher.class);
+
+    private final BibDatabaseContext databaseContext;
+    private final Character keywordSeparator;
+
+    public InMemoryBibFieldsSearcher(BibDatabaseContext databaseContext, Character keywordSeparator) {
+        this.databaseContext = databaseContext;
+        this.keywordSeparator = keywordSeparator;
+    }
+
+    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
+        if (!searchQuery.isValid()) {
+            return false;
+        }
+        return SearchQueryConversion.searchToPredicate(searchQuery).test(getFieldValues(entry));
+    }
+
+    public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        if (!searchQuery.isValid()) {
+            return searchResults;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Predicate<BibFieldValues> predicate = SearchQueryConversion.searchToPredicate(searchQuery);
+        List<String> matchedEntries = databaseContext.getEntries().parallelStream()
+                                                     .map(this::getFieldValues)
+                                                     .filter(predicate)
+                                                     .map(values -> values.entry().getId())
+                                                     .toList();
+        matchedEntries.forEach(entryId -> searchResults.addSearchResult(entryId, new SearchResult()));
+        LOGGER.debug("Searching {} entries in memory took {} ms", databaseContext.getEntries().size(), System.currentTimeMillis() - startTime);
+        return searchResults;
+    }
+
+    private BibFieldValues getFieldValues(BibEntry entry) {
+        return BibFieldValues.of(entry, databaseContext.getDatabase(), keywordSeparator);
+    }
+}
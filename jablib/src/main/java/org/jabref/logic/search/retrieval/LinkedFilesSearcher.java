@@ -2,11 +2,15 @@ package org.jabref.logic.search.retrieval;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.search.LuceneIndexer;
@@ -22,17 +26,23 @@ import org.jabref.model.search.query.SearchResults;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.QueryScorer;
 import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.util.BytesRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +90,78 @@ public final class LinkedFilesSearcher {
         return new SearchResults();
     }
 
+    /**
+     * Ranks the given linked files by the relevance (BM25) of their best matching pages for the given free text.
+     * In contrast to {@link #search(SearchQuery)}, the text is not interpreted as search syntax and a page matches if it contains any of the words.
+     *
+     * @param fileLinks the links of the files to rank, other files are ignored
+     * @param maxPages  the number of best matching pages to consider
+     * @return the links of the files with at least one of the best matching pages, the most relevant file first
+     */
+    public List<String> findMostRelevantFiles(String text, Collection<String> fileLinks, int maxPages) {
+        if (text.isBlank() || fileLinks.isEmpty()) {
+            return List.of();
+        }
+
+        // The parser is not thread-safe, and this one uses OR as default operator
+        MultiFieldQueryParser freeTextParser = new MultiFieldQueryParser(LinkedFilesConstants.PDF_FIELDS.toArray(new String[0]), LinkedFilesConstants.LINKED_FILES_ANALYZER);
+        Query textQuery;
+        try {
+            textQuery = freeTextParser.parse(QueryParser.escape(text));
+        } catch (ParseException e) {
+            LOGGER.warn("Could not parse text for full-text ranking", e);
+            return List.of();
+        }
+        Query query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(new TermInSetQuery(LinkedFilesConstants.PATH.toString(), fileLinks.stream().map(BytesRef::new).toList()), BooleanClause.Occur.FILTER)
+                .build();
+
+        try {
+            IndexSearcher indexSearcher = acquireIndexSearcher(searcherManager);
+            try {
+                TopDocs topDocs = indexSearcher.search(query, maxPages);
+                StoredFields storedFields = indexSearcher.storedFields();
+                Set<String> fieldsToLoad = Set.of(LinkedFilesConstants.PATH.toString());
+                // Score docs are sorted by descending score, thus the first page of a file is its best one
+                Set<String> rankedLinks = new LinkedHashSet<>();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    rankedLinks.add(getFieldContents(storedFields.document(scoreDoc.doc, fieldsToLoad), LinkedFilesConstants.PATH));
+                }
+                rankedLinks.remove("");
+                return List.copyOf(rankedLinks);
+            } finally {
+                releaseIndexSearcher(searcherManager, indexSearcher);
+            }
+        } catch (IOException | IndexSearcher.TooManyClauses e) {
+            LOGGER.error("Error during ranking of linked files", e);
+        }
+        return List.of();
+    }
+
+    /**
+     * @return the given links of the files that have at least one page in the index
+     */
+    public Set<String> findIndexedFiles(Collection<String> fileLinks) {
+        Set<String> indexedLinks = new HashSet<>();
+        try {
+            IndexSearcher indexSearcher = acquireIndexSearcher(searcherManager);
+            try {
+                for (String fileLink : fileLinks) {
+                    // Unlike the document frequency, the count skips deleted pages
+                    if (indexSearcher.count(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), fileLink))) > 0) {
+                        indexedLinks.add(fileLink);
+                    }
+                }
+            } finally {
+                releaseIndexSearcher(searcherManager, indexSearcher);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error during lookup of indexed linked files", e);
+        }
+        return indexedLinks;
+    }
+
     private Optional<Query> getLuceneQuery(SearchQuery searchQuery) {
         String query = SearchQueryConversion.searchToLucene(searchQuery);
         try {
@@ -0,0 +1,165 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.texparser.LatexParserResults;
+
+import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses LaTeX files using the {@link DefaultLatexParser} and stores the results in an index on disk.
+ * <p>
+ * A file is only parsed again if its modification time or size changed since it was parsed last, also across sessions.
+ * Thus, opening a large LaTeX project again only costs reading the index.
+ * The names of the bibliography and nested files are stored as written in the file and resolved each time, so that files created later are found without parsing the referencing file again.
+ * <p>
+ * Files that do not exist anymore are dropped from the index when it is closed, thus the index does not grow with every project ever opened.
+ */
+public class CachingLatexParser implements LatexParser, AutoCloseable {
+
+    /**
+     * Increase if the stored data or the parsing changes, so that an old index is not used anymore
+     */
+    public static final String VERSION = "2";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingLatexParser.class);
+    private static final String FILES_MAP_NAME = "files";
+
+    private final DefaultLatexParser latexParser = new DefaultLatexParser();
+    private final MVStore mvStore;
+    // Key is the absolute path of the parsed file
+    private final Map<String, IndexedFile> indexedFiles;
+
+    /**
+     * @param indexFile the file to store the index in. If it cannot be opened, the index is kept in memory only.
+     */
+    public CachingLatexParser(@Nullable Path indexFile) {
+        this.mvStore = openStore(indexFile);
+        this.indexedFiles = mvStore.openMap(FILES_MAP_NAME);
+    }
+
+    private static MVStore openStore(@Nullable Path indexFile) {
+        if (indexFile != null) {
+            try {
+                Files.createDirectories(indexFile.getParent());
+                return new MVStore.Builder()
+                        .autoCommitDisabled()
+                        .fileName(indexFile.toString())
+                        .open();
+            } catch (IOException | MVStoreException e) {
+                LOGGER.error("Could not open the LaTeX citations index {}. Parsed files will not be remembered in the next session.", indexFile, e);
+            }
+        }
+        // creates an in memory store
+        return new MVStore.Builder()
+                .autoCommitDisabled()
+                .open();
+    }
+
+    @Override
+    public LatexParserResult parse(String citeString) {
+        return latexParser.parse(citeString);
+    }
+
+    @Override
+    public Optional<LatexParserResult> parse(Path latexFile) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(latexFile, BasicFileAttributes.class);
+        } catch (IOException e) {
+            indexedFiles.remove(latexFile.toAbsolutePath().toString());
+            // Let the parser handle (and report) missing files
+            return latexParser.parse(latexFile);
+        }
+
+        String key = latexFile.toAbsolutePath().toString();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        IndexedFile indexedFile = indexedFiles.get(key);
+        if ((indexedFile != null) && (indexedFile.lastModified() == lastModified) && (indexedFile.size() == attributes.size())) {
+            return Optional.of(indexedFile.toResult(latexFile));
+        }
+
+        List<String> bibFileNames = new ArrayList<>();
+        List<String> nestedFileNames = new ArrayList<>();
+        Optional<LatexParserResult> result = latexParser.parse(latexFile, bibFileNames, nestedFileNames);
+        result.ifPresent(parsedFile -> indexedFiles.put(key, IndexedFile.of(parsedFile, bibFileNames, nestedFileNames, lastModified, attributes.size())));
+        return result;
+    }
+
+    /**
+     * Parses the given files in parallel and stores the results in the index
+     */
+    @Override
+    public LatexParserResults parse(List<Path> latexFiles) {
+        LatexParserResults results = DefaultLatexParser.parseInParallel(latexFiles, this::parse);
+        commit();
+        return results;
+    }
+
+    /**
+     * Drops the files which do not exist anymore from the index
+     */
+    private void pruneMissingFiles() {
+        indexedFiles.keySet().removeIf(file -> !Files.exists(Path.of(file)));
+    }
+
+    public void commit() {
+        try {
+            mvStore.commit();
+        } catch (MVStoreException e) {
+            LOGGER.warn("Could not store the LaTeX citations index", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        pruneMissingFiles();
+        commit();
+        mvStore.close();
+    }
+
+    private record IndexedCitation(String key, int line, int colStart, int colEnd, String lineText) implements Serializable {
+    }
+
+    private record IndexedFile(long lastModified,
+                               long size,
+                               List<IndexedCitation> citations,
+                               List<String> nestedFileNames,
+                               List<String> bibFileNames) implements Serializable {
+
+        static IndexedFile of(LatexParserResult result, List<String> bibFileNames, List<String> nestedFileNames, long lastModified, long size) {
+            List<IndexedCitation> citations = result.getCitations().entries().stream()
+                                                    .map(entry -> {
+                                                        Citation citation = entry.getValue();
+                                                        return new IndexedCitation(entry.getKey(), citation.line(), citation.colStart(), citation.colEnd(), citation.lineText());
+                                                    })
+                                                    .toList();
+            return new IndexedFile(lastModified,
+                    size,
+                    citations,
+                    List.copyOf(nestedFileNames),
+                    List.copyOf(bibFileNames));
+        }
+
+        LatexParserResult toResult(Path latexFile) {
+            LatexParserResult result = new LatexParserResult(latexFile);
+            citations.forEach(citation -> result.addKey(citation.key(), latexFile, citation.line(), citation.colStart(), citation.colEnd(), citation.lineText()));
+            DefaultLatexParser.addReferencedFiles(latexFile, bibFileNames, nestedFileNames, result);
+            return result;
+        }
+    }
+}
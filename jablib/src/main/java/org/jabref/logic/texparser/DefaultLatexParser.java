@@ -10,8 +10,10 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -59,6 +61,16 @@ public class DefaultLatexParser implements LatexParser {
 
     @Override
     public Optional<LatexParserResult> parse(Path latexFile) {
+        return parse(latexFile, new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * Parses the given file and collects the names of the referenced BIB and nested files as written in the file, before they are resolved.
+     *
+     * @param bibFileNames    receives the names passed to <code>\bibliography</code> and <code>\addbibresource</code>
+     * @param nestedFileNames receives the names passed to <code>\include</code> and <code>\input</code>
+     */
+    Optional<LatexParserResult> parse(Path latexFile, List<String> bibFileNames, List<String> nestedFileNames) {
         if (!Files.exists(latexFile)) {
             LOGGER.error("File does not exist: {}", latexFile);
             return Optional.empty();
@@ -75,8 +87,8 @@ public class DefaultLatexParser implements LatexParser {
                     continue;
                 }
                 matchCitation(latexFile, lineNumberReader.getLineNumber(), line, latexParserResult);
-                matchBibFile(latexFile, line, latexParserResult);
-                matchNestedFile(latexFile, line, latexParserResult);
+                matchBibFileNames(line, bibFileNames);
+                matchNestedFileNames(line, nestedFileNames);
             }
         } catch (ClosedChannelException e) {
             // User changed the underlying LaTeX file
@@ -88,13 +100,26 @@ public class DefaultLatexParser implements LatexParser {
             LOGGER.info("Error while parsing file {}", latexFile, e);
         }
 
+        addReferencedFiles(latexFile, bibFileNames, nestedFileNames, latexParserResult);
         return Optional.of(latexParserResult);
     }
 
     @Override
     public LatexParserResults parse(List<Path> latexFiles) {
+        return parseInParallel(latexFiles, this::parse);
+    }
+
+    /**
+     * Parses the given files in parallel using the given parser for single files
+     */
+    static LatexParserResults parseInParallel(List<Path> latexFiles, Function<Path, Optional<LatexParserResult>> fileParser) {
         LatexParserResults results = new LatexParserResults();
-        latexFiles.forEach(file -> parse(file).ifPresent(result -> results.add(file, result)));
+        // The files are independent of each other, thus they can be read in parallel
+        latexFiles.parallelStream()
+                  .map(fileParser)
+                  .flatMap(Optional::stream)
+                  .toList()
+                  .forEach(result -> results.add(result.getPath(), result));
         return results;
     }
 
@@ -112,34 +137,46 @@ public class DefaultLatexParser implements LatexParser {
     }
 
     /**
-     * Find BIB files along a specific line and store them.
+     * Find the names of BIB files along a specific line and store them.
      */
-    private void matchBibFile(Path file, String line, LatexParserResult latexParserResult) {
+    private void matchBibFileNames(String line, List<String> bibFileNames) {
         Matcher bibliographyMatch = BIBLIOGRAPHY_PATTERN.matcher(line);
 
         while (bibliographyMatch.find()) {
             for (String bibString : bibliographyMatch.group(BIBLIOGRAPHY_GROUP).split(",")) {
-                bibString = bibString.trim();
-                Path bibFile = file.getParent().resolve(
-                        bibString.endsWith(BIB_EXT)
-                                ? bibString
-                                : "%s%s".formatted(bibString, BIB_EXT)).normalize();
-
-                if (Files.exists(bibFile)) {
-                    latexParserResult.addBibFile(bibFile);
-                }
+                bibFileNames.add(bibString.trim());
             }
         }
     }
 
     /**
-     * Find inputs and includes along a specific line and store them for parsing later.
+     * Find the names of inputs and includes along a specific line and store them for parsing later.
      */
-    private void matchNestedFile(Path texFile, String line, LatexParserResult latexParserResult) {
+    private void matchNestedFileNames(String line, List<String> nestedFileNames) {
         Matcher includeMatch = INCLUDE_PATTERN.matcher(line);
 
         while (includeMatch.find()) {
-            String filenamePassedToInclude = includeMatch.group(INCLUDE_GROUP);
+            nestedFileNames.add(includeMatch.group(INCLUDE_GROUP));
+        }
+    }
+
+    /**
+     * Resolves the names of the referenced files against the directory of the given file and adds the existing ones to the result.
+     * The files are looked up each time, so that files created after the LaTeX file was parsed are found, too.
+     */
+    static void addReferencedFiles(Path texFile, List<String> bibFileNames, List<String> nestedFileNames, LatexParserResult latexParserResult) {
+        for (String bibString : bibFileNames) {
+            Path bibFile = texFile.getParent().resolve(
+                    bibString.endsWith(BIB_EXT)
+                            ? bibString
+                            : "%s%s".formatted(bibString, BIB_EXT)).normalize();
+
+            if (Files.exists(bibFile)) {
+                latexParserResult.addBibFile(bibFile);
+            }
+        }
+
+        for (String filenamePassedToInclude : nestedFileNames) {
             String texFileName = filenamePassedToInclude.endsWith(TEX_EXT)
                     ? filenamePassedToInclude
                     : "%s%s".formatted(filenamePassedToInclude, TEX_EXT);
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.texparser.CachingLatexParser;
 import org.jabref.model.search.LinkedFilesConstants;
 
 import net.harawata.appdirs.AppDirsFactory;
@@ -49,6 +50,13 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getLatexCitationsIndexDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "latex" + File.separator + CachingLatexParser.VERSION,
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getAiFilesDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                 .getUserDataDir(OS.APP_DIR_APP_NAME,
@@ -29,9 +29,18 @@ class CitationKeyBasedFileFinder implements FileFinder {
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationKeyBasedFileFinder.class);
 
     private final boolean exactKeyOnly;
+    private final DirectorySnapshot directorySnapshot;
 
     CitationKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, null);
+    }
+
+    /**
+     * @param directorySnapshot if not null, the directories contained in the snapshot are not walked on disk
+     */
+    CitationKeyBasedFileFinder(boolean exactKeyOnly, DirectorySnapshot directorySnapshot) {
         this.exactKeyOnly = exactKeyOnly;
+        this.directorySnapshot = directorySnapshot;
     }
 
     @Override
@@ -56,7 +65,18 @@ class CitationKeyBasedFileFinder implements FileFinder {
             filteringFunction = (Path p) -> matches(p.getFileName().toString(), citeKey);
         }
 
-        SortedSet<Path> result = findFilesByExtension(directories, extensions, filteringFunction);
+        SortedSet<Path> result;
+        if (directorySnapshot != null && directories.stream().filter(Files::exists).allMatch(directorySnapshot::contains)) {
+            // All matching file names start with the key, thus only these need to be looked at
+            Stream<Path> candidates = exactKeyOnly
+                                      ? directorySnapshot.getFilesStartingWith(citeKey)
+                                      : Stream.concat(directorySnapshot.getFilesStartingWith(citeKey), directorySnapshot.getFilesStartingWith(FileNameCleaner.cleanFileName(citeKey)));
+            result = candidates.filter(path -> directories.stream().anyMatch(path::startsWith))
+                               .filter(path -> extensions.contains(FileUtil.getFileExtension(path).orElse("")) && filteringFunction.apply(path))
+                               .collect(Collectors.toCollection(TreeSet::new));
+        } else {
+            result = findFilesByExtension(directories, extensions, filteringFunction);
+        }
 
         return result.stream().toList();
     }
@@ -3,7 +3,6 @@ package org.jabref.logic.util.io;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -22,7 +21,7 @@ import org.jabref.model.entry.BibEntry;
  */
 public class DatabaseFileLookup {
 
-    private final Set<Path> fileCache = new HashSet<>();
+    private final Set<Path> fileCache;
 
     private final List<Path> possibleFilePaths;
 
@@ -36,9 +35,10 @@ public class DatabaseFileLookup {
         possibleFilePaths = Optional.ofNullable(databaseContext.getFileDirectories(filePreferences))
                                     .orElse(new ArrayList<>());
 
-        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
-            fileCache.addAll(parseFileField(entry));
-        }
+        // Resolving the links checks the file system, thus it is done in parallel and only once for all lookups
+        fileCache = databaseContext.getDatabase().getEntries().parallelStream()
+                                   .flatMap(entry -> parseFileField(entry).stream())
+                                   .collect(Collectors.toUnmodifiableSet());
         this.pathOfDatabase = databaseContext.getDatabasePath().orElse(Path.of(""));
     }
 
@@ -0,0 +1,176 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory snapshot of all files below a set of directories.
+ * <p>
+ * Walking a large directory tree (e.g., on a network share) is expensive. The snapshot walks the tree once (in parallel) and then answers the lookups of the {@link FileFinder}s for many entries from memory.
+ * The files are indexed by their directory and by their name (allowing prefix lookups ignoring case).
+ * <p>
+ * The snapshot does not follow changes on disk. It is meant to be read once for a bulk operation, such as linking the files of all entries of a library.
+ * The paths are resolved against the given directories in the same way {@link Files#find} does, so that results are equal to the ones of walking the tree directly.
+ */
+public class DirectorySnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectorySnapshot.class);
+
+    // Reading a directory mostly waits for the disk or the network, so more threads than processors pay off.
+    // The walk has its own pool to not block the common pool, which is used by the parallel streams of the whole application.
+    private static final int PARALLELISM = 8;
+
+    private final List<Path> roots;
+    private final Map<Path, Set<Path>> filesByDirectory = new ConcurrentHashMap<>();
+    private final Map<Path, Set<Path>> subdirectoriesByDirectory = new ConcurrentHashMap<>();
+    // The keys are the normalized file names (see normalizeFileName)
+    private final NavigableMap<String, Set<Path>> filesByName = new ConcurrentSkipListMap<>();
+
+    private DirectorySnapshot(List<Path> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * Reads all files below the given directories. Directories not existing are ignored.
+     */
+    public static DirectorySnapshot of(List<Path> directories) throws IOException {
+        long startTime = System.currentTimeMillis();
+        DirectorySnapshot snapshot = new DirectorySnapshot(List.copyOf(directories));
+        try (ForkJoinPool pool = new ForkJoinPool(PARALLELISM)) {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(snapshot.roots.stream()
+                                            .filter(Files::isDirectory)
+                                            .map(snapshot::createDirectoryScan)
+                                            .toList());
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw new IOException("Problem in reading the directories " + directories, e.getCause());
+        }
+        LOGGER.debug("Reading {} files in {} took {} ms", snapshot.filesByName.values().stream().mapToInt(Set::size).sum(), directories, System.currentTimeMillis() - startTime);
+        return snapshot;
+    }
+
+    /**
+     * Reads the given directory and forks a task for each subdirectory
+     */
+    private RecursiveAction createDirectoryScan(Path directory) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<RecursiveAction> subdirectoryScans = new ArrayList<>();
+                subdirectoriesByDirectory.putIfAbsent(directory, ConcurrentHashMap.newKeySet());
+                filesByDirectory.putIfAbsent(directory, ConcurrentHashMap.newKeySet());
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                    for (Path path : stream) {
+                        // Follows links as Files.find(..., FileVisitOption.FOLLOW_LINKS) does in the file finders
+                        if (Files.isDirectory(path)) {
+                            if (isLinkCycle(path)) {
+                                continue;
+                            }
+                            subdirectoriesByDirectory.get(directory).add(path);
+                            subdirectoryScans.add(createDirectoryScan(path));
+                        } else {
+                            addFile(path);
+                        }
+                    }
+                } catch (IOException e) {
+                    if (roots.contains(directory)) {
+                        throw new UncheckedIOException(e);
+                    }
+                    LOGGER.debug("Could not read directory {}", directory, e);
+                }
+                invokeAll(subdirectoryScans);
+            }
+        };
+    }
+
+    private static boolean isLinkCycle(Path directory) {
+        if (!Files.isSymbolicLink(directory)) {
+            return false;
+        }
+        try {
+            Path target = directory.toRealPath();
+            Path parent = directory.getParent();
+            return parent != null && parent.toRealPath().startsWith(target);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private void addFile(Path file) {
+        filesByDirectory.computeIfAbsent(file.getParent(), _ -> ConcurrentHashMap.newKeySet()).add(file);
+        filesByName.computeIfAbsent(normalizeFileName(file.getFileName().toString()), _ -> ConcurrentHashMap.newKeySet()).add(file);
+    }
+
+    /**
+     * File names are compared ignoring case and Unicode normalization form, e.g., macOS stores names decomposed (NFD).
+     */
+    private static String normalizeFileName(String fileName) {
+        return Normalizer.normalize(fileName, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return true if the given directory is part of the snapshot, i.e., lookups for it are answered from memory
+     */
+    public boolean contains(Path directory) {
+        return filesByDirectory.containsKey(directory);
+    }
+
+    /**
+     * @return the files directly contained in the given directory
+     */
+    public List<Path> getFiles(Path directory) {
+        return List.copyOf(filesByDirectory.getOrDefault(directory, Set.of()));
+    }
+
+    /**
+     * @return the direct subdirectories of the given directory
+     */
+    public List<Path> getSubdirectories(Path directory) {
+        return List.copyOf(subdirectoriesByDirectory.getOrDefault(directory, Set.of()));
+    }
+
+    /**
+     * @return all direct and indirect subdirectories of the given directory
+     */
+    public List<Path> getAllSubdirectories(Path directory) {
+        List<Path> result = new ArrayList<>();
+        for (Path subdirectory : getSubdirectories(directory)) {
+            result.add(subdirectory);
+            result.addAll(getAllSubdirectories(subdirectory));
+        }
+        return result;
+    }
+
+    /**
+     * @return all files whose name starts with the given prefix, ignoring case and Unicode normalization form. Callers needing an exact match have to filter the result.
+     */
+    public Stream<Path> getFilesStartingWith(String fileNamePrefix) {
+        String normalizedPrefix = normalizeFileName(fileNamePrefix);
+        return filesByName.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, true)
+                          .values().stream()
+                          .flatMap(Collection::stream);
+    }
+}
@@ -0,0 +1,191 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.util.HeadlessExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches a directory tree for changes using the {@link WatchService} of the file system.
+ * <p>
+ * The {@link WatchService} only watches single directories. Thus, each directory of the tree is registered, and directories created later are registered as soon as they are reported.
+ * The listener is called from a background thread.
+ */
+public class DirectoryWatcher implements AutoCloseable {
+
+    /**
+     * Callbacks for changes in the watched tree. All paths are resolved against the watched root.
+     */
+    public interface Listener {
+        default void onFileCreated(Path file) {
+        }
+
+        default void onFileChanged(Path file) {
+        }
+
+        default void onFileDeleted(Path file) {
+        }
+
+        /**
+         * Called for a new directory. The files already contained in it (e.g., if it was moved into the tree) are not reported separately.
+         */
+        default void onDirectoryCreated(Path directory) {
+        }
+
+        default void onDirectoryDeleted(Path directory) {
+        }
+
+        /**
+         * Called if events were lost (e.g., because too many changes happened at once). The listener should re-read the tree.
+         */
+        default void onOverflow() {
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private final Path root;
+    private final Listener listener;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+
+    private DirectoryWatcher(Path root, Listener listener, WatchService watchService) {
+        this.root = root;
+        this.listener = listener;
+        this.watchService = watchService;
+    }
+
+    /**
+     * Starts watching the given directory and all its subdirectories.
+     *
+     * @throws IOException if the file system does not support watching or the tree could not be registered
+     */
+    public static DirectoryWatcher watch(Path root, Listener listener) throws IOException {
+        WatchService watchService = root.getFileSystem().newWatchService();
+        DirectoryWatcher watcher = new DirectoryWatcher(root, listener, watchService);
+        try {
+            watcher.registerTree(root);
+        } catch (IOException | UnsupportedOperationException e) {
+            watchService.close();
+            throw new IOException("Could not watch " + root, e);
+        }
+        HeadlessExecutorService.INSTANCE.executeInterruptableTask(watcher::processEvents, "DirectoryWatcher " + root);
+        return watcher;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    private void registerTree(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                register(dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                LOGGER.debug("Could not watch {}", file, exc);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void register(Path directory) throws IOException {
+        WatchKey key = directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        watchedDirectories.put(key, directory);
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = watchedDirectories.get(key);
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    handleEvent(directory, event);
+                }
+            }
+
+            if (!key.reset() && root.equals(directory)) {
+                // The root is not accessible anymore (e.g., it was deleted)
+                watchedDirectories.clear();
+                return;
+            }
+            // Other directories not accessible anymore stay registered until the deletion event of their parent is handled, so that they are reported as directory
+        }
+    }
+
+    private void handleEvent(Path directory, WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            listener.onOverflow();
+            return;
+        }
+
+        Path path = directory.resolve((Path) event.context());
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+            if (Files.isDirectory(path)) {
+                try {
+                    registerTree(path);
+                } catch (IOException e) {
+                    LOGGER.warn("Could not watch new directory {}", path, e);
+                }
+                listener.onDirectoryCreated(path);
+            } else {
+                listener.onFileCreated(path);
+            }
+        } else if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+            if (!Files.isDirectory(path)) {
+                listener.onFileChanged(path);
+            }
+        } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+            // The path does not exist anymore, thus we can only tell that it was a directory if we watched it
+            if (watchedDirectories.containsValue(path)) {
+                watchedDirectories.entrySet().removeIf(watched -> {
+                    if (watched.getValue().startsWith(path)) {
+                        watched.getKey().cancel();
+                        return true;
+                    }
+                    return false;
+                });
+                listener.onDirectoryDeleted(path);
+            } else {
+                listener.onFileDeleted(path);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close watch service for {}", root, e);
+        }
+        watchedDirectories.clear();
+    }
+}
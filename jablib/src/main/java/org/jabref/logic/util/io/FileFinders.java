@@ -5,13 +5,20 @@ public class FileFinders {
      * Creates a preconfigured file finder based on the given AutoLink preferences.
      */
     public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences) {
+        return constructFromConfiguration(autoLinkPreferences, null);
+    }
+
+    /**
+     * Creates a preconfigured file finder based on the given AutoLink preferences, which looks up the files in the given snapshot instead of walking the directories for each entry.
+     */
+    public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences, DirectorySnapshot directorySnapshot) {
         return switch (autoLinkPreferences.getCitationKeyDependency()) {
             case START ->
-                    new CitationKeyBasedFileFinder(false);
+                    new CitationKeyBasedFileFinder(false, directorySnapshot);
             case EXACT ->
-                    new CitationKeyBasedFileFinder(true);
+                    new CitationKeyBasedFileFinder(true, directorySnapshot);
             case REGEX ->
-                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator());
+                    new RegExpBasedFileFinder(autoLinkPreferences.getRegularExpression(), autoLinkPreferences.getKeywordSeparator(), directorySnapshot);
         };
     }
 }
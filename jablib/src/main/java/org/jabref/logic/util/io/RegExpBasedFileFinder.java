@@ -29,13 +29,22 @@ class RegExpBasedFileFinder implements FileFinder {
 
     private final String regExp;
     private final Character keywordDelimiter;
+    private final DirectorySnapshot directorySnapshot;
 
     /**
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
+        this(regExp, keywordDelimiter, null);
+    }
+
+    /**
+     * @param directorySnapshot if not null, the directories contained in the snapshot are not read from disk
+     */
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, DirectorySnapshot directorySnapshot) {
         this.regExp = regExp;
         this.keywordDelimiter = keywordDelimiter;
+        this.directorySnapshot = directorySnapshot;
     }
 
     /**
@@ -174,6 +183,13 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
+                if (isInSnapshot(actualDirectory)) {
+                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                    for (Path subDir : directorySnapshot.getSubdirectories(actualDirectory)) {
+                        resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp));
+                    }
+                    continue;
+                }
                 File[] subDirs = actualDirectory.toFile().listFiles();
                 if (subDirs != null) {
                     String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
@@ -188,6 +204,13 @@ class RegExpBasedFileFinder implements FileFinder {
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
+                if (isInSnapshot(actualDirectory)) {
+                    for (Path path : directorySnapshot.getAllSubdirectories(actualDirectory)) {
+                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
+                    }
+                    continue;
+                }
+
                 final Path rootDirectory = actualDirectory;
                 try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
                     // We only want to transverse directory (and not the current one; this is already done below)
@@ -202,6 +225,15 @@ class RegExpBasedFileFinder implements FileFinder {
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
+        if (isInSnapshot(actualDirectory)) {
+            // Same paths as found by Files.find with depth 1: the directory itself and its direct children
+            Stream.of(Stream.of(actualDirectory), directorySnapshot.getFiles(actualDirectory).stream(), directorySnapshot.getSubdirectories(actualDirectory).stream())
+                  .flatMap(paths -> paths)
+                  .filter(path -> path.getFileName() != null && toMatch.matcher(path.getFileName().toString()).matches())
+                  .forEach(resultFiles::add);
+            return resultFiles;
+        }
+
         BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
@@ -212,6 +244,10 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    private boolean isInSnapshot(Path directory) {
+        return directorySnapshot != null && directorySnapshot.contains(directory);
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,11 +22,14 @@ import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -32,6 +37,7 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.ParsedEntryLink;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -56,7 +62,8 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    // Observing the change observable instead of the JavaFX observables of the fields, so that these are only created for the entries shown
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(entry -> new Observable[] {entry.getChangeObservable()}));
 
     // BibEntryId to BibEntry
     private final Map<String, BibEntry> entriesId = new HashMap<>();
@@ -65,6 +72,11 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // The open change batches by the thread that started them, and the threads delivering the changes of their batch. Guarded by "changeBatchLock".
+    private final Object changeBatchLock = new Object();
+    private final Map<Thread, OpenChangeBatch> openChangeBatches = new HashMap<>();
+    private final Set<Thread> deliveringThreads = new HashSet<>();
+
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
@@ -253,6 +265,8 @@ public class BibDatabase {
             removeEntryFromIndex(entry);
         });
 
+        // The changes of the entries in an open change batch are delivered while the entries are still in the database
+        postPendingFieldChanges(toBeDeleted);
         entries.setAll(newEntries);
         eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
     }
@@ -628,6 +642,164 @@ public class BibDatabase {
         eventBus.post(event);
     }
 
+    /**
+     * Starts a change batch of the current thread, which ends when the returned batch is closed. Batches can be nested; the outermost one counts.
+     * To be used with try-with-resources around bulk operations, such as cleaning up or editing many entries.
+     * <p>
+     * The field changes made by the current thread in the entries of this database are collected during the batch, and several changes of the same field of an entry are merged into one.
+     * Changes made by other threads, e.g., in the entry editor while a cleanup runs in the background, are delivered immediately.
+     * When the batch ends, each remaining change is posted as {@link FieldChangedEvent}, and then all of them as one {@link EntriesChangedEvent}.
+     * Listeners can process that event instead of each single change (see {@link FieldChangedEvent#isPartOfChangeBatch()}).
+     * The observers of {@link BibEntry#getChangeObservable()} are notified once per changed entry, too.
+     * <p>
+     * The changes are visible in the entries immediately; only the notifications are delayed.
+     */
+    public ChangeBatch startChangeBatch() {
+        Thread thread = Thread.currentThread();
+        synchronized (changeBatchLock) {
+            openChangeBatches.computeIfAbsent(thread, _ -> new OpenChangeBatch()).depth++;
+        }
+        return new ChangeBatch(thread);
+    }
+
+    /**
+     * Called by the entries of this database for each field change.
+     *
+     * @return true if the current thread has an open change batch and the change is delivered when it ends, false if the change has to be delivered now
+     */
+    public boolean deferFieldChange(FieldChangedEvent event) {
+        synchronized (changeBatchLock) {
+            OpenChangeBatch batch = openChangeBatches.get(Thread.currentThread());
+            if (batch == null) {
+                return false;
+            }
+            batch.fieldChanges.add(event);
+            return true;
+        }
+    }
+
+    /**
+     * Checks if the current thread is delivering the changes of its change batch that just ended.
+     * Then, the observers of {@link BibEntry#getChangeObservable()} can skip the entries, because they are contained in the {@link EntriesChangedEvent} posted afterwards.
+     */
+    public boolean isDeliveringChangeBatch() {
+        synchronized (changeBatchLock) {
+            return deliveringThreads.contains(Thread.currentThread());
+        }
+    }
+
+    private void endChangeBatch(Thread thread) {
+        List<FieldChangedEvent> changes;
+        synchronized (changeBatchLock) {
+            OpenChangeBatch batch = openChangeBatches.get(thread);
+            batch.depth--;
+            if (batch.depth > 0) {
+                return;
+            }
+            openChangeBatches.remove(thread);
+            changes = batch.fieldChanges;
+        }
+        postFieldChanges(changes);
+    }
+
+    /**
+     * Delivers the changes of the given entries that are pending in the open change batches of any thread
+     */
+    private void postPendingFieldChanges(List<BibEntry> changedEntries) {
+        Set<BibEntry> entriesToPost = Collections.newSetFromMap(new IdentityHashMap<>());
+        entriesToPost.addAll(changedEntries);
+        List<FieldChangedEvent> changes = new ArrayList<>();
+        synchronized (changeBatchLock) {
+            for (OpenChangeBatch batch : openChangeBatches.values()) {
+                Iterator<FieldChangedEvent> iterator = batch.fieldChanges.iterator();
+                while (iterator.hasNext()) {
+                    FieldChangedEvent change = iterator.next();
+                    if (entriesToPost.contains(change.getBibEntry())) {
+                        changes.add(change);
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        postFieldChanges(changes);
+    }
+
+    private void postFieldChanges(List<FieldChangedEvent> pendingChanges) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        List<FieldChangedEvent> changes = mergeFieldChanges(pendingChanges);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> changedEntries = new ArrayList<>();
+        Set<BibEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChangedEvent change : changes) {
+            if (seen.add(change.getBibEntry())) {
+                changedEntries.add(change.getBibEntry());
+            }
+        }
+
+        Thread thread = Thread.currentThread();
+        synchronized (changeBatchLock) {
+            deliveringThreads.add(thread);
+        }
+        try {
+            for (BibEntry entry : changedEntries) {
+                entry.notifyChangeObservers();
+            }
+            for (FieldChangedEvent change : changes) {
+                eventBus.post(change);
+            }
+            eventBus.post(new EntriesChangedEvent(changedEntries, changes, changes.getFirst().getEntriesEventSource()));
+        } finally {
+            synchronized (changeBatchLock) {
+                deliveringThreads.remove(thread);
+            }
+        }
+    }
+
+    /**
+     * Merges the changes of the same field of the same entry into one, from the first old value to the last new value.
+     * Changes that end with the value they started with are dropped.
+     */
+    private static List<FieldChangedEvent> mergeFieldChanges(List<FieldChangedEvent> changes) {
+        // BibEntry#equals compares the content, which changes. Thus, entries are told apart by identity.
+        Map<BibEntry, Map<Field, List<FieldChangedEvent>>> changesOfFields = new IdentityHashMap<>();
+        List<List<FieldChangedEvent>> changesInOrder = new ArrayList<>();
+        for (FieldChangedEvent change : changes) {
+            List<FieldChangedEvent> changesOfField = changesOfFields.computeIfAbsent(change.getBibEntry(), _ -> new HashMap<>())
+                                                                    .computeIfAbsent(change.getField(), _ -> new ArrayList<>());
+            if (changesOfField.isEmpty()) {
+                changesInOrder.add(changesOfField);
+            }
+            changesOfField.add(change);
+        }
+
+        List<FieldChangedEvent> merged = new ArrayList<>(changesInOrder.size());
+        for (List<FieldChangedEvent> changesOfField : changesInOrder) {
+            FieldChangedEvent first = changesOfField.getFirst();
+            FieldChangedEvent last = changesOfField.getLast();
+            FieldChangedEvent change;
+            if (first == last) {
+                change = first;
+            } else if (Objects.equals(first.getOldValue(), last.getNewValue())) {
+                continue;
+            } else {
+                FieldChange fieldChange = new FieldChange(first.getBibEntry(), first.getField(), first.getOldValue(), last.getNewValue());
+                if ((first.getOldValue() == null) || (last.getNewValue() == null)) {
+                    change = new FieldAddedOrRemovedEvent(fieldChange, last.getEntriesEventSource());
+                } else {
+                    change = new FieldChangedEvent(fieldChange, last.getEntriesEventSource());
+                }
+            }
+            change.setPartOfChangeBatch(true);
+            merged.add(change);
+        }
+        return merged;
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -731,4 +903,36 @@ public class BibDatabase {
     public int hashCode() {
         return Objects.hash(entries, bibtexStrings, preamble, epilog, sharedDatabaseID, newLineSeparator);
     }
+
+    /**
+     * The state of the change batch of a thread. Guarded by "changeBatchLock".
+     */
+    private static class OpenChangeBatch {
+        // Field changes made in the batch, in the order they were made
+        private final List<FieldChangedEvent> fieldChanges = new ArrayList<>();
+        private int depth;
+    }
+
+    /**
+     * A change batch of the database. Closing it ends the batch of the thread that started it; closing it again does nothing.
+     */
+    public final class ChangeBatch implements AutoCloseable {
+        private final Thread thread;
+        private boolean closed;
+
+        private ChangeBatch(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            endChangeBatch(thread);
+        }
+    }
 }
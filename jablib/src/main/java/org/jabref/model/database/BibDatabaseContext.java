@@ -11,6 +11,7 @@ import java.util.UUID;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.comparator.SortKeyCache;
 import org.jabref.logic.crawler.Crawler;
 import org.jabref.logic.crawler.StudyRepository;
 import org.jabref.logic.shared.DatabaseLocation;
@@ -59,6 +60,8 @@ public class BibDatabaseContext {
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
 
+    private SortKeyCache sortKeyCache;
+
     public BibDatabaseContext() {
         this(new BibDatabase());
     }
@@ -124,6 +127,17 @@ public class BibDatabaseContext {
         this.metaData = Objects.requireNonNull(metaData);
     }
 
+    /**
+     * Returns the sort keys of the entries of this library, which are kept until an entry changes.
+     * Saving sorts by these keys, and they can be computed in advance in the background.
+     */
+    public synchronized SortKeyCache getSortKeyCache() {
+        if (sortKeyCache == null) {
+            sortKeyCache = new SortKeyCache(database);
+        }
+        return sortKeyCache;
+    }
+
     public boolean isBiblatexMode() {
         return getMode() == BibDatabaseMode.BIBLATEX;
     }
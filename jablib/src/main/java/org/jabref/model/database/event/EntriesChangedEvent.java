@@ -0,0 +1,34 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * <code>EntriesChangedEvent</code> is fired when a change batch of the database ends (see {@link org.jabref.model.database.BibDatabase#startChangeBatch()}).
+ * It contains the field changes made in the batch, at most one per entry and field.
+ * <p>
+ * Each of these changes is also fired as a {@link FieldChangedEvent} of its own, just before this event, marked as {@link FieldChangedEvent#isPartOfChangeBatch() part of the batch}.
+ * Thus, listeners that process the changes of a batch at once can skip these.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChanges;
+
+    /**
+     * @param bibEntries   <code>List</code> of <code>BibEntry</code> objects which have been changed, each once
+     * @param fieldChanges the changes of the fields
+     * @param location     Location affected by this event
+     */
+    public EntriesChangedEvent(List<BibEntry> bibEntries, List<FieldChangedEvent> fieldChanges, EntriesEventSource location) {
+        super(bibEntries, location);
+        this.fieldChanges = fieldChanges;
+    }
+
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
+}
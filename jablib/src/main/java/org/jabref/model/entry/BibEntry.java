@@ -20,6 +20,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -101,28 +102,49 @@ public class BibEntry implements Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    // A library may hold hundreds of thousands of entries, most of them never observed, edited, or searched.
+    // Therefore, the caches, the event bus, and the JavaFX observables are created when they are used for the first time.
+
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Guarded by the lock on this entry.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>). Guarded by the lock on this entry.
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
+
+    private volatile EventBus eventBus;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * The first database registered as listener. Each entry of a library has its database as listener,
+     * which is notified directly, so that the entry does not need an event bus only for that.
+     */
+    private volatile BibDatabase owningDatabase;
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    /**
+     * The type, as long as {@link #typeProperty} is not created. Afterward, the property holds the type.
+     */
+    private EntryType type = DEFAULT_TYPE;
+
+    private volatile ObjectProperty<EntryType> typeProperty;
+
+    private FieldMap fields = new FieldMap();
+
+    /**
+     * Wraps {@link #fields}. If present, all changes go through it, so that its listeners are notified.
+     */
+    private volatile ObservableMap<Field, String> observableFields;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private volatile ChangeObservable changeObservable;
 
     /**
      * The part before the start of the entry
@@ -131,9 +153,14 @@ public class BibEntry implements Cloneable {
 
     /**
      * Stores the text "rendering" of the entry as read by the BibTeX reader. Includes comments.
+     * Not used if the text is kept in {@link #serializationBuffer}.
      */
     private String parsedSerialization = "";
 
+    private ParsedSerializationBuffer serializationBuffer;
+    private long serializationPosition;
+    private int serializationLength;
+
     /**
      * Marks whether the complete serialization, which was read from file, should be used.
      * <p>
@@ -331,7 +358,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(getType().getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -344,8 +371,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().getType();
+                EntryType targetEntry = getType();
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -381,7 +408,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -422,11 +449,22 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        ObjectProperty<EntryType> property = typeProperty;
+        return property == null ? type : property.getValue();
     }
 
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property == null) {
+            synchronized (this) {
+                property = typeProperty;
+                if (property == null) {
+                    property = new SimpleObjectProperty<>(type);
+                    typeProperty = property;
+                }
+            }
+        }
+        return property;
     }
 
     /**
@@ -443,16 +481,21 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = getType();
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property == null) {
+            this.type = newType;
+        } else {
+            property.setValue(newType);
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -482,15 +525,15 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+            return Optional.of(getType().getDisplayName());
+        } else if ((latexFreeFields != null) && latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFields().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -636,13 +679,13 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        getWritableFields().put(field, value.intern());
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -682,10 +725,10 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.remove(field);
+        getWritableFields().remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -710,10 +753,13 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        BibEntry clone = new BibEntry(getType());
+        clone.fields = new FieldMap(fields);
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
+        clone.serializationBuffer = serializationBuffer;
+        clone.serializationPosition = serializationPosition;
+        clone.serializationLength = serializationLength;
         clone.changed = changed;
         return clone;
     }
@@ -785,12 +831,27 @@ public class BibEntry implements Cloneable {
     }
 
     public String getParsedSerialization() {
+        if (serializationBuffer != null) {
+            return serializationBuffer.get(serializationPosition, serializationLength);
+        }
         return parsedSerialization;
     }
 
     public void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        this.serializationBuffer = null;
+    }
+
+    /**
+     * Sets the parsed serialization, but keeps it in the given buffer instead of in this entry
+     */
+    public void setParsedSerialization(String parsedSerialization, ParsedSerializationBuffer buffer) {
+        changed = false;
+        this.parsedSerialization = "";
+        this.serializationPosition = buffer.append(parsedSerialization);
+        this.serializationLength = parsedSerialization.length();
+        this.serializationBuffer = buffer;
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
@@ -910,7 +971,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<Field, String> getFieldMap() {
-        return fields;
+        return getWritableFields();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -937,7 +998,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(getType(), entry.getType())
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -955,16 +1016,47 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(getType(), fields, commentsBeforeEntry);
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        if (object instanceof BibDatabase database) {
+            synchronized (this) {
+                if (owningDatabase == null) {
+                    owningDatabase = database;
+                    return;
+                }
+                if (owningDatabase == database) {
+                    return;
+                }
+            }
+        }
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        synchronized (this) {
+            if (owningDatabase == object) {
+                owningDatabase = null;
+                return;
+            }
+        }
+        EventBus bus = eventBus;
+        if (bus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
@@ -981,7 +1073,8 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = new FieldMap(content);
+        this.observableFields = null;
         this.setChanged(false);
         return this;
     }
@@ -1021,26 +1114,37 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
-        if (storedList != null) {
-            return storedList;
-        } else {
-            String fieldValue = fields.get(field);
-            if (fieldValue == null) {
-                return Set.of();
-            } else {
-                HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
-                return words;
+        // The cache is guarded by the lock on this entry, because entries are read by several threads (e.g., by the integrity check)
+        synchronized (this) {
+            if (fieldsAsWords == null) {
+                fieldsAsWords = new HashMap<>();
             }
+            Set<String> storedList = fieldsAsWords.get(field);
+            if (storedList != null) {
+                return storedList;
+            }
+        }
+        String fieldValue = fields.get(field);
+        if (fieldValue == null) {
+            return Set.of();
+        }
+        Set<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
+        synchronized (this) {
+            fieldsAsWords.put(field, words);
         }
+        return words;
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
         if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
-            if (storedList.isPresent()) {
-                return storedList.get();
+            synchronized (this) {
+                if (fieldsAsKeywords == null) {
+                    fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+                }
+                Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
+                if (storedList.isPresent()) {
+                    return storedList.get();
+                }
             }
         }
 
@@ -1049,7 +1153,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+            synchronized (this) {
+                fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+            }
         }
         return keywords;
     }
@@ -1059,14 +1165,61 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> latexFree = latexFreeFields;
+        if (latexFree != null) {
+            latexFree.remove(field);
+        }
+        synchronized (this) {
+            if (fieldsAsWords != null) {
+                fieldsAsWords.remove(field);
+            }
+            if ((fieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
+                fieldsAsKeywords.remove(standardField);
+            }
+        }
+    }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+    private Map<Field, String> getLatexFreeFields() {
+        Map<Field, String> latexFree = latexFreeFields;
+        if (latexFree == null) {
+            synchronized (this) {
+                latexFree = latexFreeFields;
+                if (latexFree == null) {
+                    latexFree = new ConcurrentHashMap<>();
+                    latexFreeFields = latexFree;
+                }
+            }
+        }
+        return latexFree;
+    }
+
+    /**
+     * Posts the given event to the listeners of this entry. If nobody except the database ever registered, there is no event bus.
+     */
+    private void post(FieldChangedEvent event) {
+        BibDatabase database = owningDatabase;
+        // In a change batch of the database, the database notifies the change observers and posts the event when the batch ends
+        if ((database == null) || !database.deferFieldChange(event)) {
+            notifyChangeObservers();
+            if (database != null) {
+                // Same as the database subscribing to the event
+                database.postEvent(event);
+            }
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
         }
     }
 
+    /**
+     * Changes of the fields have to go through the observable map as soon as it exists. Otherwise, its listeners would miss them.
+     */
+    private Map<Field, String> getWritableFields() {
+        ObservableMap<Field, String> observable = observableFields;
+        return observable == null ? fields : observable;
+    }
+
     // region files
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
@@ -1162,9 +1315,9 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        return EasyBind.valueAt(getFieldsObservable(), field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
@@ -1172,14 +1325,55 @@ public class BibEntry implements Cloneable {
     }
 
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        ObservableMap<Field, String> observable = observableFields;
+        if (observable == null) {
+            synchronized (this) {
+                observable = observableFields;
+                if (observable == null) {
+                    observable = FXCollections.observableMap(fields);
+                    observableFields = observable;
+                }
+            }
+        }
+        return observable;
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {getFieldsObservable(), typeProperty()};
+    }
+
+    /**
+     * Returns an observable that is invalidated on each change of the entry.
+     * In a change batch of the library, it is invalidated once when the batch ends (see {@link BibDatabase#startChangeBatch()}).
+     * <p>
+     * In contrast to {@link #getObservables()}, this does not create the JavaFX observables of the fields and the type.
+     * Thus, it is cheap enough to be observed for each entry of a large library.
+     */
+    public Observable getChangeObservable() {
+        ChangeObservable observable = changeObservable;
+        if (observable == null) {
+            synchronized (this) {
+                observable = changeObservable;
+                if (observable == null) {
+                    observable = new ChangeObservable();
+                    changeObservable = observable;
+                }
+            }
+        }
+        return observable;
+    }
+
+    /**
+     * Invalidates {@link #getChangeObservable()}. To be called by the library only, when a change batch ends.
+     */
+    public void notifyChangeObservers() {
+        ChangeObservable observable = changeObservable;
+        if (observable != null) {
+            observable.fireInvalidated();
+        }
     }
 
     /**
@@ -1278,4 +1472,30 @@ public class BibEntry implements Cloneable {
         }
         return StandardField.AUTOMATIC_FIELDS.containsAll(this.getFields());
     }
+
+    private static class ChangeObservable implements Observable {
+        // Usually, the list of entries of the library is the only listener
+        private volatile InvalidationListener[] listeners = new InvalidationListener[0];
+
+        @Override
+        public synchronized void addListener(InvalidationListener listener) {
+            InvalidationListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+            newListeners[listeners.length] = Objects.requireNonNull(listener);
+            listeners = newListeners;
+        }
+
+        @Override
+        public synchronized void removeListener(InvalidationListener listener) {
+            List<InvalidationListener> newListeners = new ArrayList<>(Arrays.asList(listeners));
+            if (newListeners.remove(listener)) {
+                listeners = newListeners.toArray(InvalidationListener[]::new);
+            }
+        }
+
+        void fireInvalidated() {
+            for (InvalidationListener listener : listeners) {
+                listener.invalidated(this);
+            }
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The fields of a {@link BibEntry}.
+ * <p>
+ * An entry has a dozen fields or so. A hash map stores each of them in a node object of its own, next to a table that is mostly empty.
+ * This map stores keys and values alternating in a single open-addressed array (linear probing), which is sized to the number of fields.
+ * <p>
+ * The array is never modified, but replaced on each change (copy-on-write). Thus, reading and iterating does not lock and always sees a consistent state,
+ * also while another thread changes the fields. Entries are changed far less often than read, so that copying a few references on a change does not matter.
+ */
+final class FieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY_TABLE = new Object[0];
+
+    // Keys at even, values at odd positions. The number of slots (half the length) is a power of two, and at least one slot is always free.
+    private volatile Object[] table = EMPTY_TABLE;
+    private volatile int size;
+
+    FieldMap() {
+    }
+
+    FieldMap(Map<Field, String> fields) {
+        putAll(fields);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @Nullable String get(Object key) {
+        Object[] tab = table;
+        if ((key == null) || (tab.length == 0)) {
+            return null;
+        }
+        int slot = indexOf(tab, key);
+        return slot < 0 ? null : (String) tab[slot + 1];
+    }
+
+    @Override
+    public synchronized @Nullable String put(Field key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        Object[] tab = table;
+        if (tab.length > 0) {
+            int slot = indexOf(tab, key);
+            if (slot >= 0) {
+                String oldValue = (String) tab[slot + 1];
+                Object[] newTable = tab.clone();
+                newTable[slot + 1] = value;
+                table = newTable;
+                return oldValue;
+            }
+        }
+
+        Object[] newTable = rehash(tab, size + 1);
+        insert(newTable, key, value);
+        table = newTable;
+        size++;
+        return null;
+    }
+
+    @Override
+    public synchronized void putAll(Map<? extends Field, ? extends String> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        // Sized for the case that all fields are new. Thus, there is a single copy only.
+        Object[] newTable = rehash(table, size + fields.size());
+        int newSize = size;
+        for (Entry<? extends Field, ? extends String> field : fields.entrySet()) {
+            Field key = Objects.requireNonNull(field.getKey());
+            String value = Objects.requireNonNull(field.getValue());
+            int slot = indexOf(newTable, key);
+            if (slot >= 0) {
+                newTable[slot + 1] = value;
+            } else {
+                insert(newTable, key, value);
+                newSize++;
+            }
+        }
+        table = newTable;
+        size = newSize;
+    }
+
+    @Override
+    public synchronized @Nullable String remove(Object key) {
+        Object[] tab = table;
+        if ((key == null) || (tab.length == 0)) {
+            return null;
+        }
+        int removedSlot = indexOf(tab, key);
+        if (removedSlot < 0) {
+            return null;
+        }
+
+        // Reinserting the other fields avoids tombstones in the probe sequences
+        Object[] newTable = newTable(size - 1);
+        for (int i = 0; i < tab.length; i += 2) {
+            if ((tab[i] != null) && (i != removedSlot)) {
+                insert(newTable, tab[i], tab[i + 1]);
+            }
+        }
+        table = newTable;
+        size--;
+        return (String) tab[removedSlot + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        table = EMPTY_TABLE;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Field, String>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * @return the position of the key in the table, or -1 if it is not contained
+     */
+    private static int indexOf(Object[] tab, Object key) {
+        int mask = tab.length - 2;
+        for (int i = hash(key) & mask; ; i = (i + 2) & mask) {
+            Object candidate = tab[i];
+            if (candidate == null) {
+                return -1;
+            }
+            if ((candidate == key) || candidate.equals(key)) {
+                return i;
+            }
+        }
+    }
+
+    private static void insert(Object[] tab, Object key, Object value) {
+        int mask = tab.length - 2;
+        int i = hash(key) & mask;
+        while (tab[i] != null) {
+            i = (i + 2) & mask;
+        }
+        tab[i] = key;
+        tab[i + 1] = value;
+    }
+
+    /**
+     * @return a new table sized for the given number of fields, containing the fields of the given table
+     */
+    private static Object[] rehash(Object[] tab, int capacity) {
+        Object[] newTable = newTable(capacity);
+        for (int i = 0; i < tab.length; i += 2) {
+            if (tab[i] != null) {
+                insert(newTable, tab[i], tab[i + 1]);
+            }
+        }
+        return newTable;
+    }
+
+    /**
+     * The table is filled to three quarters at most, so that probe sequences stay short
+     */
+    private static Object[] newTable(int capacity) {
+        if (capacity == 0) {
+            return EMPTY_TABLE;
+        }
+        int slots = Integer.highestOneBit(Math.max(2, capacity + ((capacity + 2) / 3)) - 1) << 1;
+        return new Object[2 * slots];
+    }
+
+    /**
+     * Positions are even. The high bits are spread to the low ones, as only the low ones select the slot.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) << 1;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Field, String>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return (o instanceof Entry<?, ?> entry) && (entry.getValue() != null) && entry.getValue().equals(get(entry.getKey()));
+        }
+
+        @Override
+        public Iterator<Entry<Field, String>> iterator() {
+            return new EntryIterator(table);
+        }
+
+        @Override
+        public void clear() {
+            FieldMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates over the table at the time the iterator was created
+     */
+    private class EntryIterator implements Iterator<Entry<Field, String>> {
+        private final Object[] tab;
+        private int next;
+        private @Nullable Field lastKey;
+
+        EntryIterator(Object[] tab) {
+            this.tab = tab;
+            advance(0);
+        }
+
+        private void advance(int from) {
+            next = from;
+            while ((next < tab.length) && (tab[next] == null)) {
+                next += 2;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < tab.length;
+        }
+
+        @Override
+        public Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastKey = (Field) tab[next];
+            Entry<Field, String> entry = new SimpleImmutableEntry<>(lastKey, (String) tab[next + 1]);
+            advance(next + 2);
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            FieldMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+}
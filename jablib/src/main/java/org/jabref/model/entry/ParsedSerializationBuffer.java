@@ -0,0 +1,113 @@
+package org.jabref.model.entry;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Holds the parsed serializations of the entries of a library, i.e., the text the entries were read from, in compressed form.
+ * <p>
+ * An entry that is not changed is written as it was read (see {@link BibEntry#getParsedSerialization()}).
+ * Keeping that text as a string in each entry keeps the whole library text on the heap, next to the parsed fields.
+ * Here, the texts are appended to chunks of some kilobytes, and each full chunk is compressed. An entry only remembers where its text is.
+ * The text is decompressed when it is needed, i.e., when the library is saved.
+ * <p>
+ * The buffer holds a copy of the text read, not a view on the file. Thus, changes of the file on disk do not affect the entries read before.
+ */
+public class ParsedSerializationBuffer {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    // All following fields are guarded by "this"
+    private final List<CompressedChunk> compressedChunks = new ArrayList<>();
+    private final StringBuilder currentChunk = new StringBuilder();
+
+    // The chunk decompressed last. When saving in the order of the file, each chunk is decompressed once only.
+    private int cachedChunkIndex = -1;
+    private SoftReference<String> cachedChunk = new SoftReference<>(null);
+
+    /**
+     * @return the position of the text, to be passed to {@link #get(long, int)} together with the length of the text
+     */
+    public synchronized long append(String text) {
+        long position = ((long) compressedChunks.size() << 32) | currentChunk.length();
+        currentChunk.append(text);
+        if (currentChunk.length() >= CHUNK_SIZE) {
+            compressCurrentChunk();
+        }
+        return position;
+    }
+
+    /**
+     * Compresses the texts appended last. To be called as soon as all texts are appended.
+     */
+    public synchronized void seal() {
+        if (!currentChunk.isEmpty()) {
+            compressCurrentChunk();
+        }
+    }
+
+    public synchronized String get(long position, int length) {
+        int chunkIndex = (int) (position >>> 32);
+        int offset = (int) position;
+        if (chunkIndex == compressedChunks.size()) {
+            return currentChunk.substring(offset, offset + length);
+        }
+
+        String chunk = cachedChunkIndex == chunkIndex ? cachedChunk.get() : null;
+        if (chunk == null) {
+            chunk = compressedChunks.get(chunkIndex).decompress();
+            cachedChunkIndex = chunkIndex;
+            cachedChunk = new SoftReference<>(chunk);
+        }
+        return chunk.substring(offset, offset + length);
+    }
+
+    private void compressCurrentChunk() {
+        byte[] bytes = currentChunk.toString().getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                compressed.write(buffer, 0, count);
+            }
+            compressedChunks.add(new CompressedChunk(compressed.toByteArray(), bytes.length));
+        } finally {
+            deflater.end();
+        }
+        currentChunk.setLength(0);
+    }
+
+    private record CompressedChunk(byte[] data, int length) {
+        String decompress() {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(data);
+                byte[] bytes = new byte[length];
+                int count = 0;
+                while (count < length) {
+                    int inflated = inflater.inflate(bytes, count, length - count);
+                    if ((inflated == 0) && (inflater.finished() || inflater.needsInput())) {
+                        break;
+                    }
+                    count += inflated;
+                }
+                return new String(bytes, 0, count, StandardCharsets.UTF_8);
+            } catch (DataFormatException e) {
+                // The data is compressed by this class. Thus, it can only be corrupt if the memory is.
+                throw new IllegalStateException("Could not decompress parsed serialization", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class FieldChangedEvent extends EntryChangedEvent {
     private final String newValue;
     private final String oldValue;
     private int majorCharacterChange = 0;
+    private boolean partOfChangeBatch;
 
     /**
      * @param bibEntry Affected BibEntry object
@@ -90,4 +91,16 @@ public class FieldChangedEvent extends EntryChangedEvent {
     public int getMajorCharacterChange() {
         return majorCharacterChange;
     }
+
+    /**
+     * Checks if this change was made in a change batch of the library (see {@link org.jabref.model.database.BibDatabase#startChangeBatch()}).
+     * The changes of a batch are also delivered at once by an {@link org.jabref.model.database.event.EntriesChangedEvent}, which listeners may process instead.
+     */
+    public boolean isPartOfChangeBatch() {
+        return partOfChangeBatch;
+    }
+
+    public void setPartOfChangeBatch(boolean partOfChangeBatch) {
+        this.partOfChangeBatch = partOfChangeBatch;
+    }
 }
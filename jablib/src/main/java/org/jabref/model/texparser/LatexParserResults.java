@@ -15,9 +15,12 @@ import com.google.common.collect.Multimap;
 
 public class LatexParserResults {
     private final Map<Path, LatexParserResult> parsedTexFiles;
+    // The citations of all parsed files, so that the citations of a key can be looked up without going through all files
+    private final Multimap<String, Citation> citationsByKey;
 
     public LatexParserResults() {
         this.parsedTexFiles = new HashMap<>();
+        this.citationsByKey = HashMultimap.create();
     }
 
     @VisibleForTesting
@@ -28,34 +31,47 @@ public class LatexParserResults {
         }
     }
 
-    public void add(Path texFile, LatexParserResult parsedFile) {
-        parsedTexFiles.put(texFile, parsedFile);
+    public synchronized void add(Path texFile, LatexParserResult parsedFile) {
+        LatexParserResult previousResult = parsedTexFiles.put(texFile, parsedFile);
+        if (previousResult != null) {
+            removeCitations(previousResult);
+        }
+        citationsByKey.putAll(parsedFile.getCitations());
+    }
+
+    public synchronized void addAll(LatexParserResults parsedFiles) {
+        parsedFiles.parsedTexFiles.forEach(this::add);
+    }
+
+    public synchronized LatexParserResult remove(Path texFile) {
+        LatexParserResult removedResult = parsedTexFiles.remove(texFile);
+        if (removedResult != null) {
+            removeCitations(removedResult);
+        }
+        return removedResult;
     }
 
-    public LatexParserResult remove(Path texFile) {
-        return parsedTexFiles.remove(texFile);
+    private void removeCitations(LatexParserResult parsedFile) {
+        parsedFile.getCitations().forEach(citationsByKey::remove);
     }
 
-    public Set<Path> getBibFiles() {
+    public synchronized Set<Path> getBibFiles() {
         Set<Path> bibFiles = new HashSet<>();
         parsedTexFiles.values().forEach(result -> bibFiles.addAll(result.getBibFiles()));
         return bibFiles;
     }
 
-    public Multimap<String, Citation> getCitations() {
-        Multimap<String, Citation> citations = HashMultimap.create();
-        parsedTexFiles.forEach((path, result) -> citations.putAll(result.getCitations()));
-        return citations;
+    public synchronized Multimap<String, Citation> getCitations() {
+        return HashMultimap.create(citationsByKey);
     }
 
-    public Collection<Citation> getCitationsByKey(String key) {
-        Collection<Citation> citations = new ArrayList<>();
-        parsedTexFiles.values().forEach(result -> citations.addAll(result.getCitationsByKey(key)));
-        return citations;
+    public synchronized Collection<Citation> getCitationsByKey(String key) {
+        return new ArrayList<>(citationsByKey.get(key));
     }
 
-    public void clear() {
+    public synchronized void clear() {
         parsedTexFiles.clear();
+        citationsByKey.clear();
     }
 
     @Override
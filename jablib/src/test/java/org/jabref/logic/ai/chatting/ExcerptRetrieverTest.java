@@ -0,0 +1,138 @@
+package org.jabref.logic.ai.chatting;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.ai.AiDefaultPreferences;
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.search.IndexManager;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ExcerptRetrieverTest {
+
+    private static final String QUESTION = "question";
+
+    private final List<String> links = IntStream.range(0, AiDefaultPreferences.RAG_PRE_FILTER_MIN_FILES)
+                                                .mapToObj(i -> "file" + i + ".pdf")
+                                                .toList();
+
+    private final AiPreferences aiPreferences = mock(AiPreferences.class);
+    private final EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+    @SuppressWarnings("unchecked")
+    private final EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+    private final IndexManager indexManager = mock(IndexManager.class);
+
+    @BeforeEach
+    void setUp() {
+        when(aiPreferences.getRagMaxResultsCount()).thenReturn(10);
+        when(aiPreferences.getRagMinScore()).thenReturn(0.3);
+        when(aiPreferences.getRagFullTextPreFilter()).thenReturn(AiDefaultPreferences.RAG_FULL_TEXT_PRE_FILTER);
+        when(aiPreferences.getRagPreFilterMinFiles()).thenReturn(AiDefaultPreferences.RAG_PRE_FILTER_MIN_FILES);
+        when(aiPreferences.getRagPreFilterMaxPages()).thenReturn(AiDefaultPreferences.RAG_PRE_FILTER_MAX_PAGES);
+        when(aiPreferences.getRagPreFilterMaxFiles()).thenReturn(AiDefaultPreferences.RAG_PRE_FILTER_MAX_FILES);
+        when(embeddingModel.embed(anyString())).thenReturn(Response.from(Embedding.from(new float[] {1})));
+        when(embeddingStore.search(any())).thenReturn(new EmbeddingSearchResult<>(List.of()));
+        when(indexManager.findIndexedFiles(any())).thenReturn(Set.copyOf(links));
+    }
+
+    @Test
+    void searchesBestRankedFiles() {
+        when(indexManager.findMostRelevantFiles(eq(QUESTION), eq(links), anyInt())).thenReturn(Optional.of(List.of("file3.pdf", "file1.pdf")));
+
+        retrieve(Optional.of(indexManager), links);
+
+        assertEquals(Set.of("file3.pdf", "file1.pdf"), searchedLinks());
+    }
+
+    @Test
+    void keepsFilesNotInIndex() {
+        when(indexManager.findMostRelevantFiles(eq(QUESTION), eq(links), anyInt())).thenReturn(Optional.of(List.of("file3.pdf")));
+        when(indexManager.findIndexedFiles(links)).thenReturn(Set.copyOf(links.subList(0, links.size() - 1)));
+
+        retrieve(Optional.of(indexManager), links);
+
+        assertEquals(Set.of("file3.pdf", links.getLast()), searchedLinks());
+    }
+
+    @Test
+    void keepsAtMostMaxFiles() {
+        List<String> manyLinks = IntStream.range(0, 2 * AiDefaultPreferences.RAG_PRE_FILTER_MAX_FILES)
+                                          .mapToObj(i -> "file" + i + ".pdf")
+                                          .toList();
+        when(indexManager.findMostRelevantFiles(eq(QUESTION), eq(manyLinks), anyInt())).thenReturn(Optional.of(manyLinks));
+        when(indexManager.findIndexedFiles(manyLinks)).thenReturn(Set.copyOf(manyLinks));
+
+        retrieve(Optional.of(indexManager), manyLinks);
+
+        assertEquals(Set.copyOf(manyLinks.subList(0, AiDefaultPreferences.RAG_PRE_FILTER_MAX_FILES)), searchedLinks());
+    }
+
+    @Test
+    void searchesAllFilesIfNoWordIsFound() {
+        when(indexManager.findMostRelevantFiles(eq(QUESTION), eq(links), anyInt())).thenReturn(Optional.of(List.of()));
+
+        retrieve(Optional.of(indexManager), links);
+
+        assertEquals(Set.copyOf(links), searchedLinks());
+    }
+
+    @Test
+    void searchesAllFilesOfSmallChat() {
+        List<String> fewLinks = links.subList(0, AiDefaultPreferences.RAG_PRE_FILTER_MIN_FILES - 1);
+
+        retrieve(Optional.of(indexManager), fewLinks);
+
+        assertEquals(Set.copyOf(fewLinks), searchedLinks());
+        verifyNoInteractions(indexManager);
+    }
+
+    @Test
+    void searchesAllFilesIfPreFilterIsTurnedOff() {
+        when(aiPreferences.getRagFullTextPreFilter()).thenReturn(false);
+
+        retrieve(Optional.of(indexManager), links);
+
+        assertEquals(Set.copyOf(links), searchedLinks());
+        verifyNoInteractions(indexManager);
+    }
+
+    @Test
+    void searchesAllFilesWithoutIndex() {
+        retrieve(Optional.empty(), links);
+
+        assertEquals(Set.copyOf(links), searchedLinks());
+    }
+
+    private void retrieve(Optional<IndexManager> optionalIndexManager, List<String> chatLinks) {
+        new ExcerptRetriever(aiPreferences, embeddingModel, embeddingStore, optionalIndexManager).retrieve(QUESTION, chatLinks);
+    }
+
+    private Set<?> searchedLinks() {
+        ArgumentCaptor<EmbeddingSearchRequest> request = ArgumentCaptor.forClass(EmbeddingSearchRequest.class);
+        verify(embeddingStore).search(request.capture());
+        return Set.copyOf(((IsIn) request.getValue().filter()).comparisonValues());
+    }
+}
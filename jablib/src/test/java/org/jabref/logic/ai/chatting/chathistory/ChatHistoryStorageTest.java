@@ -60,4 +60,43 @@ abstract class ChatHistoryStorageTest {
         reopen();
         assertEquals(messages, storage.loadMessagesForGroup(tempDir.resolve("test.bib"), "group"));
     }
+
+    @Test
+    void addedMessagesAreStored() {
+        List<ChatMessage> messages = List.of(
+                new UserMessage("hi!"),
+                new AiMessage("hello!"),
+                new UserMessage("how are you?")
+        );
+
+        storage.storeMessagesForEntry(tempDir.resolve("test.bib"), "citationKey", messages.subList(0, 2));
+        storage.storeMessagesForEntry(tempDir.resolve("test.bib"), "citationKey", messages);
+        reopen();
+        assertEquals(messages, storage.loadMessagesForEntry(tempDir.resolve("test.bib"), "citationKey"));
+    }
+
+    @Test
+    void removedMessagesAreNotLoaded() {
+        List<ChatMessage> messages = List.of(
+                new UserMessage("hi!"),
+                new AiMessage("hello!")
+        );
+
+        storage.storeMessagesForEntry(tempDir.resolve("test.bib"), "citationKey", messages);
+        storage.storeMessagesForEntry(tempDir.resolve("test.bib"), "citationKey", List.of(new UserMessage("bye!")));
+        reopen();
+        assertEquals(List.of(new UserMessage("bye!")), storage.loadMessagesForEntry(tempDir.resolve("test.bib"), "citationKey"));
+    }
+
+    @Test
+    void chatHistoriesAreSeparate() {
+        List<ChatMessage> messages = List.of(new UserMessage("hi!"));
+
+        storage.storeMessagesForEntry(tempDir.resolve("test.bib"), "citationKey", messages);
+        storage.storeMessagesForEntry(tempDir.resolve("test.bib"), "citationKey2", List.of(new UserMessage("bye!")));
+        storage.storeMessagesForGroup(tempDir.resolve("test.bib"), "citationKey", List.of());
+        reopen();
+        assertEquals(messages, storage.loadMessagesForEntry(tempDir.resolve("test.bib"), "citationKey"));
+        assertEquals(List.of(), storage.loadMessagesForGroup(tempDir.resolve("test.bib"), "citationKey"));
+    }
 }
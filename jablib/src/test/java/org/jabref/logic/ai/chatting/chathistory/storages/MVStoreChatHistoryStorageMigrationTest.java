@@ -0,0 +1,72 @@
+package org.jabref.logic.ai.chatting.chathistory.storages;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MVStoreChatHistoryStorageMigrationTest {
+    @TempDir Path tempDir;
+
+    private final List<ChatMessage> messages = List.of(new UserMessage("question"), new AiMessage("answer"));
+
+    @Test
+    void migratesMapOfEntryChat() {
+        Path storageFile = tempDir.resolve("chat-histories.mv");
+        Path bibPath = tempDir.resolve("library.bib");
+        writeOldMap(storageFile, bibPath + "-entry-citationKey");
+
+        MVStoreChatHistoryStorage storage = new MVStoreChatHistoryStorage(storageFile, mock(NotificationService.class));
+        storage.close();
+
+        assertFalse(getMapNames(storageFile).contains(bibPath + "-entry-citationKey"));
+        storage = new MVStoreChatHistoryStorage(storageFile, mock(NotificationService.class));
+        assertEquals(messages, storage.loadMessagesForEntry(bibPath, "citationKey"));
+        storage.close();
+    }
+
+    @Test
+    void keepsMapOfAmbiguousNameUntilChatIsOpened() {
+        Path storageFile = tempDir.resolve("chat-histories.mv");
+        Path bibPath = tempDir.resolve("my-group-work").resolve("library.bib");
+        String oldMapName = bibPath + "-group-Papers";
+        writeOldMap(storageFile, oldMapName);
+
+        MVStoreChatHistoryStorage storage = new MVStoreChatHistoryStorage(storageFile, mock(NotificationService.class));
+        storage.close();
+
+        assertTrue(getMapNames(storageFile).contains(oldMapName));
+        storage = new MVStoreChatHistoryStorage(storageFile, mock(NotificationService.class));
+        assertEquals(messages, storage.loadMessagesForGroup(bibPath, "Papers"));
+        storage.close();
+        assertFalse(getMapNames(storageFile).contains(oldMapName));
+    }
+
+    private void writeOldMap(Path storageFile, String mapName) {
+        try (MVStore mvStore = new MVStore.Builder().fileName(storageFile.toString()).open()) {
+            Map<Integer, MVStoreChatHistoryStorage.ChatHistoryRecord> oldMap = mvStore.openMap(mapName);
+            for (int i = 0; i < messages.size(); i++) {
+                oldMap.put(i, MVStoreChatHistoryStorage.ChatHistoryRecord.fromLangchainMessage(messages.get(i)));
+            }
+        }
+    }
+
+    private static List<String> getMapNames(Path storageFile) {
+        try (MVStore mvStore = new MVStore.Builder().fileName(storageFile.toString()).readOnly().open()) {
+            return List.copyOf(mvStore.getMapNames());
+        }
+    }
+}
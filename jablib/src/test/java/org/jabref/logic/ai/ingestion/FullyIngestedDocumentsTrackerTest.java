@@ -2,6 +2,7 @@ package org.jabref.logic.ai.ingestion;
 
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,17 +37,29 @@ abstract class FullyIngestedDocumentsTrackerTest {
 
     @Test
     void markDocumentAsFullyIngested() {
-        tracker.markDocumentAsFullyIngested("link", 1L);
+        tracker.markDocumentAsFullyIngested("link", 1L, 2L);
         reopen();
         assertEquals(Optional.of(1L), tracker.getIngestedDocumentModificationTimeInSeconds("link"));
+        assertEquals(Optional.of(2L), tracker.getIngestedDocumentSizeInBytes("link"));
     }
 
     @Test
     void unmarkDocumentAsFullyIngested() {
-        tracker.markDocumentAsFullyIngested("link", 1L);
+        tracker.markDocumentAsFullyIngested("link", 1L, 2L);
         reopen();
         tracker.unmarkDocumentAsFullyIngested("link");
         reopen();
         assertEquals(Optional.empty(), tracker.getIngestedDocumentModificationTimeInSeconds("link"));
+        assertEquals(Optional.empty(), tracker.getIngestedDocumentSizeInBytes("link"));
+    }
+
+    @Test
+    void markDocumentAsQueued() {
+        tracker.markDocumentAsQueued("first");
+        tracker.markDocumentAsQueued("second");
+        reopen();
+        tracker.unmarkDocumentAsQueued("first");
+        reopen();
+        assertEquals(Set.of("second"), tracker.getQueuedDocuments());
     }
 }
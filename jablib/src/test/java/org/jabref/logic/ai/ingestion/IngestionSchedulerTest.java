@@ -0,0 +1,166 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.DelayTaskThrottler;
+import org.jabref.logic.util.TaskExecutor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class IngestionSchedulerTest {
+
+    private final BooleanProperty shutdownSignal = new SimpleBooleanProperty(false);
+    private final RecordingTaskExecutor taskExecutor = new RecordingTaskExecutor();
+    private FullyIngestedDocumentsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = mock(FullyIngestedDocumentsTracker.class);
+    }
+
+    @Test
+    void ingestsSelectedEntryFirst() {
+        IngestionScheduler scheduler = new IngestionScheduler(tracker, shutdownSignal, taskExecutor, 1);
+        BackgroundTask<Void> running = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> background = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> previouslySelected = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> selected = BackgroundTask.wrap(() -> { });
+
+        scheduler.submit("running", IngestionScheduler.Priority.BACKGROUND, running);
+        scheduler.submit("background", IngestionScheduler.Priority.BACKGROUND, background);
+        scheduler.submit("previouslySelected", IngestionScheduler.Priority.SELECTED_ENTRY, previouslySelected);
+        scheduler.submit("selected", IngestionScheduler.Priority.SELECTED_ENTRY, selected);
+        taskExecutor.finishAll();
+
+        assertEquals(List.of(running, selected, previouslySelected, background), taskExecutor.startedTasks);
+    }
+
+    @Test
+    void groupChatIsNotDemotedBySelectingEntry() {
+        IngestionScheduler scheduler = new IngestionScheduler(tracker, shutdownSignal, taskExecutor, 1);
+        BackgroundTask<Void> running = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> previouslySelected = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> groupChat = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> selected = BackgroundTask.wrap(() -> { });
+
+        scheduler.submit("running", IngestionScheduler.Priority.BACKGROUND, running);
+        scheduler.submit("previouslySelected", IngestionScheduler.Priority.SELECTED_ENTRY, previouslySelected);
+        scheduler.submit("groupChat", IngestionScheduler.Priority.GROUP_CHAT, groupChat);
+        scheduler.submit("selected", IngestionScheduler.Priority.SELECTED_ENTRY, selected);
+        taskExecutor.finishAll();
+
+        assertEquals(List.of(running, selected, groupChat, previouslySelected), taskExecutor.startedTasks);
+    }
+
+    @Test
+    void prioritizeRaisesPriorityOfWaitingDocument() {
+        IngestionScheduler scheduler = new IngestionScheduler(tracker, shutdownSignal, taskExecutor, 1);
+        BackgroundTask<Void> running = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> first = BackgroundTask.wrap(() -> { });
+        BackgroundTask<Void> second = BackgroundTask.wrap(() -> { });
+
+        scheduler.submit("running", IngestionScheduler.Priority.BACKGROUND, running);
+        scheduler.submit("first", IngestionScheduler.Priority.BACKGROUND, first);
+        scheduler.submit("second", IngestionScheduler.Priority.BACKGROUND, second);
+        scheduler.prioritize("second", IngestionScheduler.Priority.SELECTED_ENTRY);
+        taskExecutor.finishAll();
+
+        assertEquals(List.of(running, second, first), taskExecutor.startedTasks);
+    }
+
+    @Test
+    void limitsConcurrentJobs() {
+        IngestionScheduler scheduler = new IngestionScheduler(tracker, shutdownSignal, taskExecutor, 2);
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            completions.add(scheduler.submit("link" + i, IngestionScheduler.Priority.BACKGROUND, BackgroundTask.wrap(() -> { })));
+        }
+
+        assertEquals(2, taskExecutor.startedTasks.size());
+
+        taskExecutor.finishAll();
+
+        assertEquals(3, taskExecutor.startedTasks.size());
+        assertTrue(completions.stream().allMatch(CompletableFuture::isDone));
+    }
+
+    @Test
+    void waitsWhileUserTypes() {
+        IngestionScheduler scheduler = new IngestionScheduler(tracker, shutdownSignal, taskExecutor, 1);
+        scheduler.notifyUserInput();
+
+        scheduler.submit("link", IngestionScheduler.Priority.SELECTED_ENTRY, BackgroundTask.wrap(() -> { }));
+
+        assertEquals(List.of(), taskExecutor.startedTasks);
+        assertEquals(1, taskExecutor.scheduledTasks.size());
+    }
+
+    @Test
+    void keepsDocumentQueuedOnShutdown() {
+        IngestionScheduler scheduler = new IngestionScheduler(tracker, shutdownSignal, taskExecutor, 1);
+        scheduler.submit("link", IngestionScheduler.Priority.BACKGROUND, BackgroundTask.wrap(() -> { }));
+        verify(tracker).markDocumentAsQueued("link");
+
+        shutdownSignal.set(true);
+        taskExecutor.finishAll();
+
+        verify(tracker, never()).unmarkDocumentAsQueued("link");
+    }
+
+    /**
+     * Records the started tasks and finishes them on request only
+     */
+    private static class RecordingTaskExecutor implements TaskExecutor {
+        private final List<BackgroundTask<?>> startedTasks = new ArrayList<>();
+        private final List<BackgroundTask<?>> scheduledTasks = new ArrayList<>();
+        private int finishedTasks;
+
+        void finishAll() {
+            while (finishedTasks < startedTasks.size()) {
+                finish(startedTasks.get(finishedTasks++));
+            }
+        }
+
+        private <V> void finish(BackgroundTask<V> task) {
+            if (task.getOnSuccess() != null) {
+                task.getOnSuccess().accept(null);
+            }
+        }
+
+        @Override
+        public <V> Future<V> execute(BackgroundTask<V> task) {
+            startedTasks.add(task);
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public <V> Future<?> schedule(BackgroundTask<V> task, long delay, TimeUnit unit) {
+            scheduledTasks.add(task);
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public DelayTaskThrottler createThrottler(int delay) {
+            return new DelayTaskThrottler(delay);
+        }
+    }
+}
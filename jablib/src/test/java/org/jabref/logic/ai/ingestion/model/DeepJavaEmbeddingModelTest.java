@@ -0,0 +1,57 @@
+package org.jabref.logic.ai.ingestion.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.djl.translate.TranslateException;
+import dev.langchain4j.data.embedding.Embedding;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DeepJavaEmbeddingModelTest {
+
+    private final List<List<String>> batches = new ArrayList<>();
+
+    /**
+     * Embeds each text as its length, so that the embedding tells which text it belongs to
+     */
+    private List<float[]> predict(List<String> texts) {
+        batches.add(texts);
+        return texts.stream().map(text -> new float[] {text.length()}).toList();
+    }
+
+    @Test
+    void embeddingsAreInOrderOfTexts() throws TranslateException {
+        List<String> texts = List.of("ccc", "a", "dddd", "bb");
+
+        List<Embedding> embeddings = DeepJavaEmbeddingModel.embedInBatches(texts, 2, this::predict);
+
+        assertEquals(List.of(3f, 1f, 4f, 2f), embeddings.stream().map(embedding -> embedding.vector()[0]).toList());
+    }
+
+    @Test
+    void textsAreBatchedByLength() throws TranslateException {
+        List<String> texts = List.of("ccc", "a", "dddd", "bb");
+
+        DeepJavaEmbeddingModel.embedInBatches(texts, 2, this::predict);
+
+        assertEquals(List.of(List.of("a", "bb"), List.of("ccc", "dddd")), batches);
+    }
+
+    @Test
+    void lastBatchMayBeSmaller() throws TranslateException {
+        List<String> texts = List.of("eeeee", "a", "ccc", "bb", "dddd");
+
+        List<Embedding> embeddings = DeepJavaEmbeddingModel.embedInBatches(texts, 2, this::predict);
+
+        assertEquals(List.of(List.of("a", "bb"), List.of("ccc", "dddd"), List.of("eeeee")), batches);
+        assertEquals(List.of(5f, 1f, 3f, 2f, 4f), embeddings.stream().map(embedding -> embedding.vector()[0]).toList());
+    }
+
+    @Test
+    void noTextsNeedNoBatch() throws TranslateException {
+        assertEquals(List.of(), DeepJavaEmbeddingModel.embedInBatches(List.of(), 2, this::predict));
+        assertEquals(List.of(), batches);
+    }
+}
@@ -0,0 +1,103 @@
+package org.jabref.logic.ai.summarization;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.templates.TemplatesService;
+import org.jabref.model.ai.AiProvider;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GenerateSummaryTaskTest {
+
+    private static final int CONTEXT_WINDOW_SIZE = 400;
+    // The chunk size GenerateSummaryTask derives from the context window size, if the templates are empty
+    private static final int CHUNK_SIZE = CONTEXT_WINDOW_SIZE - 200;
+    private static final int MAX_CONCURRENT_REQUESTS = 2;
+
+    private final String document = IntStream.range(0, 20)
+                                             .mapToObj(i -> "This is paragraph number " + i + " of the document. It has a few words so that each paragraph is a chunk.")
+                                             .collect(Collectors.joining("\n\n"));
+    private final List<String> chunks = DocumentSplitters.recursive(CHUNK_SIZE, 100).split(new Document(document)).stream().map(TextSegment::text).toList();
+
+    private final AtomicInteger runningRequests = new AtomicInteger();
+    private final AtomicInteger maxRunningRequests = new AtomicInteger();
+
+    private final AiPreferences aiPreferences = mock(AiPreferences.class);
+    private final TemplatesService templatesService = mock(TemplatesService.class);
+    private final ChatLanguageModel chatLanguageModel = mock(ChatLanguageModel.class);
+
+    private GenerateSummaryTask task;
+
+    @BeforeEach
+    void setUp() {
+        when(aiPreferences.getContextWindowSize()).thenReturn(CONTEXT_WINDOW_SIZE);
+        when(aiPreferences.getTemplate(any())).thenReturn("");
+        when(aiPreferences.getMaxConcurrentRequests()).thenReturn(MAX_CONCURRENT_REQUESTS);
+        when(aiPreferences.getAiProvider()).thenReturn(AiProvider.OPEN_AI);
+        when(aiPreferences.getSelectedChatModel()).thenReturn("model");
+
+        when(templatesService.makeSummarizationChunk(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(templatesService.makeSummarizationCombine(anyList())).thenReturn("combine");
+
+        // Earlier chunks take longer, so that the summaries are finished in reverse order
+        when(chatLanguageModel.generate(anyString())).thenAnswer(invocation -> {
+            int chunk = chunks.indexOf(invocation.<String>getArgument(0));
+            if (chunk < 0) {
+                return "summary";
+            }
+            maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+            Thread.sleep(10L * (chunks.size() - chunk));
+            runningRequests.decrementAndGet();
+            return "summary of chunk " + chunk;
+        });
+
+        task = new GenerateSummaryTask(
+                new BibEntry().withCitationKey("key"),
+                new BibDatabaseContext(),
+                mock(SummariesStorage.class),
+                chatLanguageModel,
+                templatesService,
+                new SimpleBooleanProperty(false),
+                aiPreferences,
+                mock(FilePreferences.class));
+    }
+
+    @Test
+    void chunkSummariesAreCombinedInOrderOfChunks() throws InterruptedException {
+        assertTrue(chunks.size() > MAX_CONCURRENT_REQUESTS);
+
+        task.summarizeOneDocument("file", document);
+
+        verify(templatesService).makeSummarizationCombine(IntStream.range(0, chunks.size()).mapToObj(i -> "summary of chunk " + i).toList());
+    }
+
+    @Test
+    void limitsConcurrentRequests() throws InterruptedException {
+        task.summarizeOneDocument("file", document);
+
+        assertEquals(MAX_CONCURRENT_REQUESTS, maxRunningRequests.get());
+    }
+}
@@ -1,10 +1,19 @@
 package org.jabref.logic.ai.summarization;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.jabref.logic.ai.summarization.storages.MVStoreSummariesStorage;
 import org.jabref.logic.util.NotificationService;
+import org.jabref.model.ai.AiProvider;
 
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
 class MVStoreSummariesStorageTest extends SummariesStorageTest {
@@ -17,4 +26,35 @@ class MVStoreSummariesStorageTest extends SummariesStorageTest {
     void close(SummariesStorage summariesStorage) {
         ((MVStoreSummariesStorage) summariesStorage).close();
     }
+
+    @Test
+    void migratesMapOfLibrary() {
+        Path storageFile = tempDir.resolve("summaries.mv");
+        Path bibPath = tempDir.resolve("library.bib");
+        try (MVStore mvStore = new MVStore.Builder().fileName(storageFile.toString()).open()) {
+            mvStore.openMap("summaries-" + bibPath).put("citationKey", new Summary(LocalDateTime.now(), AiProvider.OPEN_AI, "model", "contents"));
+        }
+
+        MVStoreSummariesStorage summariesStorage = new MVStoreSummariesStorage(storageFile, mock(NotificationService.class));
+
+        assertEquals(Optional.of("contents"), summariesStorage.get(bibPath, "citationKey").map(Summary::content));
+        summariesStorage.close();
+    }
+
+    @Test
+    void removesOldChunkSummaries() {
+        Path storageFile = tempDir.resolve("summaries.mv");
+        try (MVStore mvStore = new MVStore.Builder().fileName(storageFile.toString()).open()) {
+            mvStore.openMap("chunkSummaries").put("old", "old chunk summary");
+            mvStore.openMap("chunkSummaryTimes").put("old", Instant.now().minus(Duration.ofDays(30)).getEpochSecond());
+            mvStore.openMap("chunkSummaries").put("recent", "recent chunk summary");
+            mvStore.openMap("chunkSummaryTimes").put("recent", Instant.now().getEpochSecond());
+        }
+
+        MVStoreSummariesStorage summariesStorage = new MVStoreSummariesStorage(storageFile, mock(NotificationService.class));
+
+        assertEquals(Optional.empty(), summariesStorage.getChunkSummary("old"));
+        assertEquals(Optional.of("recent chunk summary"), summariesStorage.getChunkSummary("recent"));
+        summariesStorage.close();
+    }
 }
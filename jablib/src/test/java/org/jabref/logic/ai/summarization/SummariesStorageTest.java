@@ -54,4 +54,20 @@ abstract class SummariesStorageTest {
         reopen();
         assertEquals(Optional.empty(), summariesStorage.get(bibPath, "citationKey"));
     }
+
+    @Test
+    void setChunkSummary() {
+        summariesStorage.setChunkSummary("key", "chunk summary");
+        reopen();
+        assertEquals(Optional.of("chunk summary"), summariesStorage.getChunkSummary("key"));
+    }
+
+    @Test
+    void clearChunkSummary() {
+        summariesStorage.setChunkSummary("key", "chunk summary");
+        reopen();
+        summariesStorage.clearChunkSummary("key");
+        reopen();
+        assertEquals(Optional.empty(), summariesStorage.getChunkSummary("key"));
+    }
 }
@@ -0,0 +1,58 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SortKeyCacheTest {
+
+    private final FieldComparator comparator = new FieldComparator(StandardField.TITLE);
+    private final BibEntry first = new BibEntry().withField(StandardField.TITLE, "a");
+    private final BibEntry second = new BibEntry().withField(StandardField.TITLE, "b");
+    private final BibDatabase database = new BibDatabase(List.of(first, second));
+    private final SortKeyCache sortKeyCache = new SortKeyCache(database);
+
+    @Test
+    void cachedComparatorComparesAsFieldComparator() {
+        BibEntry numeric = new BibEntry().withField(StandardField.PMID, "123");
+        BibEntry unparsable = new BibEntry().withField(StandardField.PMID, "abc");
+        BibEntry absent = new BibEntry();
+        FieldComparator numericComparator = new FieldComparator(StandardField.PMID);
+
+        for (BibEntry e1 : List.of(numeric, unparsable, absent)) {
+            for (BibEntry e2 : List.of(numeric, unparsable, absent)) {
+                assertEquals(numericComparator.compare(e1, e2), sortKeyCache.cached(numericComparator).compare(e1, e2));
+            }
+        }
+    }
+
+    @Test
+    void sortKeyIsKeptUntilEntryChanges() {
+        sortKeyCache.precompute(database.getEntries(), List.of(comparator));
+        FieldComparator.SortKey key = sortKeyCache.getSortKey(comparator, first);
+
+        assertSame(key, sortKeyCache.getSortKey(comparator, first));
+
+        first.setField(StandardField.TITLE, "c");
+
+        assertNotSame(key, sortKeyCache.getSortKey(comparator, first));
+        assertEquals(1, sortKeyCache.cached(comparator).compare(first, second));
+    }
+
+    @Test
+    void sortKeyOfRemovedEntryIsDropped() {
+        FieldComparator.SortKey key = sortKeyCache.getSortKey(comparator, second);
+
+        database.removeEntry(second);
+
+        assertNotSame(key, sortKeyCache.getSortKey(comparator, second));
+    }
+}
@@ -2,10 +2,12 @@ package org.jabref.logic.bst;
 
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
@@ -53,6 +55,48 @@ class BstPreviewLayoutTest {
         assertEquals("T. Diez, \"Slice theorem for fréchet group actions and covariant symplectic field theory\" May 2014.", preview);
     }
 
+    @Test
+    void generatePreviewResolvesStringsOfLibrary() throws URISyntaxException {
+        BstPreviewLayout bstPreviewLayout = new BstPreviewLayout(Path.of(BstPreviewLayoutTest.class.getResource("abbrv.bst").toURI()));
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().addString(new BibtexString("topic", "Development"));
+        BibEntry entry = new BibEntry().withField(StandardField.AUTHOR, "Oliver Kopp")
+                                       .withField(StandardField.TITLE, "Thoughts on #topic#");
+
+        assertEquals("O. Kopp. Thoughts on development.", bstPreviewLayout.generatePreview(entry, databaseContext));
+        assertEquals(List.of("O. Kopp. Thoughts on development."), bstPreviewLayout.generatePreviews(List.of(entry), databaseContext));
+    }
+
+    @Test
+    void generatePreviewsKeepsOrderOfEntries() throws URISyntaxException {
+        BstPreviewLayout bstPreviewLayout = new BstPreviewLayout(Path.of(BstPreviewLayoutTest.class.getResource("abbrv.bst").toURI()));
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, "Oliver Kopp")
+                                       .withField(StandardField.TITLE, "Thoughts on Development");
+        List<BibEntry> entries = List.of(first, getSliceTheoremPaper(), first);
+
+        List<String> previews = bstPreviewLayout.generatePreviews(entries, bibDatabaseContext);
+
+        assertEquals(List.of(
+                "O. Kopp. Thoughts on development.",
+                "T. Diez. Slice theorem for fréchet group actions and covariant symplectic field theory. May 2014.",
+                "O. Kopp. Thoughts on development."), previews);
+    }
+
+    @Test
+    void toPreviewRemovesLatexStructure() {
+        String renderedBibliography = """
+                % Generated by a bst file
+                \\begin{thebibliography}{1}
+
+                \\bibitem{Kopp}
+                O. Kopp.
+                \\newblock Thoughts on development.
+
+                \\end{thebibliography}
+                """;
+        assertEquals("O. Kopp. Thoughts on development.", BstPreviewLayout.toPreview(renderedBibliography));
+    }
+
     private static BibEntry getSliceTheoremPaper() {
         return new BibEntry(StandardEntryType.Article)
                 .withField(StandardField.AUTHOR, "Tobias Diez")
@@ -140,6 +140,47 @@ public class BstVMTest {
         assertEquals(BstVM.TRUE, vm.latestContext.stack().pop());
     }
 
+    @Test
+    void entryVariablesTakePrecedenceOverGlobalVariables() throws RecognitionException {
+        BstVM vm = new BstVM("""
+                ENTRY { title } { } { label }
+                STRINGS { label }
+                FUNCTION { set.label } {
+                    "entry" 'label :=
+                }
+                FUNCTION { push.values } {
+                    label title
+                }
+                READ
+                ITERATE { set.label }
+                ITERATE { push.values }
+                """);
+
+        vm.render(List.of(new BibEntry().withField(StandardField.TITLE, "Title")));
+
+        assertEquals("Title", vm.latestContext.stack().pop());
+        assertEquals("entry", vm.latestContext.stack().pop());
+    }
+
+    @Test
+    void variableDeclaredAfterFunctionIsResolved() throws RecognitionException {
+        BstVM vm = new BstVM("""
+                FUNCTION { push.t } {
+                    t
+                }
+                STRINGS { t }
+                FUNCTION { set.t } {
+                    "declared later" 't :=
+                }
+                EXECUTE { set.t }
+                EXECUTE { push.t }
+                """);
+
+        vm.render(List.of());
+
+        assertEquals("declared later", vm.latestContext.stack().pop());
+    }
+
     @Test
     void hyphenatedName() throws URISyntaxException, IOException {
         BstVM vm = new BstVM(Path.of(BstVMTest.class.getResource("abbrv.bst").toURI()));
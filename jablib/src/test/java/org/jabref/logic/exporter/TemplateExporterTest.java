@@ -0,0 +1,107 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.SimpleStringProperty;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.preferences.DOIPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    private static final SelfContainedSaveOrder SORT_BY_TITLE = new SelfContainedSaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(new SaveOrder.SortCriterion(StandardField.TITLE, false)));
+
+    @TempDir
+    private Path tempDir;
+
+    private Path layoutFile;
+    private TemplateExporter exporter;
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+
+    @BeforeEach
+    void setUp() {
+        layoutFile = tempDir.resolve("numbered.layout");
+        exporter = new TemplateExporter(
+                "Numbered",
+                "numbered",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SORT_BY_TITLE);
+        exporter.setCustomExport(true);
+    }
+
+    @Test
+    void exportNumbersEntriesInSortedOrder() throws IOException {
+        Files.writeString(layoutFile, "\\format[Number]{\\title} \\title\n");
+        // Reversed, so that the export has to sort them
+        List<BibEntry> entries = IntStream.range(0, 500)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title %03d".formatted(499 - i)))
+                                          .toList();
+        Path file = tempDir.resolve("export.txt");
+
+        exporter.export(databaseContext, file, entries);
+
+        List<String> expected = IntStream.range(0, 500)
+                                         .mapToObj(i -> "%d Title %03d".formatted(i + 1, i))
+                                         .toList();
+        assertEquals(expected, Files.readAllLines(file));
+    }
+
+    @Test
+    void exportUsesChangedLayoutFile() throws IOException {
+        List<BibEntry> entries = List.of(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title"));
+        Path file = tempDir.resolve("export.txt");
+        Files.writeString(layoutFile, "first \\title\n");
+        Files.setLastModifiedTime(layoutFile, FileTime.fromMillis(1000));
+        exporter.export(databaseContext, file, entries);
+
+        Files.writeString(layoutFile, "second \\title\n");
+        Files.setLastModifiedTime(layoutFile, FileTime.fromMillis(2000));
+        exporter.export(databaseContext, file, entries);
+
+        assertEquals(List.of("second Title"), Files.readAllLines(file));
+    }
+
+    @Test
+    void exportUsesChangedNameFormatter() throws IOException {
+        NameFormatterPreferences nameFormatterPreferences = new NameFormatterPreferences(List.of("MyNames"), List.of("1@*@{ll}"));
+        LayoutFormatterPreferences layoutPreferences = new LayoutFormatterPreferences(nameFormatterPreferences, mock(DOIPreferences.class), new SimpleStringProperty(""));
+        TemplateExporter namesExporter = new TemplateExporter("Names", "names", layoutFile.toString(), null, StandardFileType.TXT, layoutPreferences, SORT_BY_TITLE);
+        namesExporter.setCustomExport(true);
+        // The same repository for both exports, so that only the changed preferences can cause the layout to be parsed again
+        JournalAbbreviationRepository abbreviationRepository = new JournalAbbreviationRepository();
+        List<BibEntry> entries = List.of(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Albert Einstein"));
+        Path file = tempDir.resolve("export.txt");
+        Files.writeString(layoutFile, "\\format[MyNames]{\\author}\n");
+        namesExporter.export(databaseContext, file, entries, List.of(), abbreviationRepository);
+
+        nameFormatterPreferences.setNameFormatterValue(List.of("1@*@{ff}"));
+        namesExporter.export(databaseContext, file, entries, List.of(), abbreviationRepository);
+
+        assertEquals(List.of("Albert"), Files.readAllLines(file));
+    }
+}
@@ -159,6 +159,26 @@ class BibtexParserTest {
         assertEquals(Optional.empty(), parsed);
     }
 
+    @Test
+    void parseHandsOverEntriesToConsumerInsteadOfDatabase() throws IOException {
+        List<BibEntry> consumedEntries = new ArrayList<>();
+        List<String> resolvedJournals = new ArrayList<>();
+        ParserResult result = parser.parse(Reader.of("""
+                        @string{jab = {JabRef Journal}}
+                        @article{test, journal = jab}
+                        @book{other}"""),
+                (entry, database) -> {
+                    consumedEntries.add(entry);
+                    entry.getResolvedFieldOrAlias(StandardField.JOURNAL, database).ifPresent(resolvedJournals::add);
+                });
+
+        assertEquals(List.of(new BibEntry(StandardEntryType.Article).withCitationKey("test").withField(StandardField.JOURNAL, "#jab#"),
+                        new BibEntry(StandardEntryType.Book).withCitationKey("other")),
+                consumedEntries);
+        assertEquals(List.of("JabRef Journal"), resolvedJournals);
+        assertEquals(List.of(), result.getDatabase().getEntries());
+    }
+
     @Test
     void parseRecognizesEntry() throws IOException {
         ParserResult result = parser
@@ -41,4 +41,15 @@ class CitationKeyDuplicationCheckerTest {
                 new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
         assertEquals(expected, checker.check(entry));
     }
+
+    @Test
+    void hasDuplicateCitationKeyInIndex() {
+        BibEntry entry = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2014");
+        BibEntry entry2 = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2014");
+        BibEntry entry3 = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2015");
+        CitationKeyDuplicationChecker checker = new CitationKeyDuplicationChecker(CitationKeyIndex.of(new BibDatabase(List.of(entry, entry2, entry3))));
+
+        assertEquals(List.of(new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY)), checker.check(entry));
+        assertEquals(List.of(), checker.check(entry3));
+    }
 }
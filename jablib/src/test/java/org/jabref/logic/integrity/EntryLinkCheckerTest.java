@@ -2,6 +2,7 @@ package org.jabref.logic.integrity;
 
 import java.util.List;
 
+import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -96,4 +97,16 @@ class EntryLinkCheckerTest {
         List<IntegrityMessage> message = checker.check(entry1);
         assertFalse(message.isEmpty(), message.toString());
     }
+
+    @Test
+    void checkRelatedWithIndex() {
+        entry.setField(StandardField.RELATED, "banana,pineapple");
+
+        BibEntry entry2 = new BibEntry();
+        entry2.setCitationKey("banana");
+        database.insertEntry(entry2);
+
+        List<IntegrityMessage> message = new EntryLinkChecker(CitationKeyIndex.of(database)).check(entry);
+        assertEquals(List.of(new IntegrityMessage(Localization.lang("Referenced citation key '%0' does not exist", "pineapple"), entry, StandardField.RELATED)), message);
+    }
 }
@@ -6,6 +6,8 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
@@ -146,6 +148,27 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkReturnsMessagesInOrderOfLibrary() {
+        List<BibEntry> entries = IntStream.range(0, 100)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withCitationKey("key" + i)
+                                                  .withField(StandardField.TITLE, "{unbalanced"))
+                                          .toList();
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(entries));
+        AtomicInteger checkedEntries = new AtomicInteger();
+
+        List<IntegrityMessage> messages = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false)
+                .check(_ -> checkedEntries.incrementAndGet(), () -> false);
+
+        assertEquals(entries.size(), checkedEntries.get());
+        assertEquals(entries, messages.stream().map(IntegrityMessage::entry).distinct().toList());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
@@ -0,0 +1,46 @@
+package org.jabref.logic.journals;
+
+import java.util.List;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "Nature",
+            "Cell",
+            "Science",
+            "Physical Review Letters",
+            "Physical Review B",
+            "Journal of the American Chemical Society",
+            "Journal of Applied Physics",
+            "Annals of Mathematics",
+            "ACM Computing Surveys");
+
+    private final StringSimilarity similarity = new StringSimilarity();
+    private final FuzzyNameIndex index = new FuzzyNameIndex(NAMES, similarity.getMetricThreshold());
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Natur", "Nautre", "Cells", "Sceince", "Physical Reveiw Letters", "physical review b", "Physical Review C",
+            "Journal of the Amercan Chemical Society", "Journal of Aplied Physics", "Anals of Mathematics", "", "X",
+            "Proceedings of the International Conference on Software Engineering"})
+    void candidatesContainAllSimilarNames(String input) {
+        List<String> similarNames = NAMES.stream()
+                                         .filter(name -> similarity.isSimilar(input, name))
+                                         .toList();
+
+        assertTrue(index.getCandidates(input).containsAll(similarNames));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Proceedings of the International Conference on Software Engineering", "Journal of Software"})
+    void longDissimilarNameHasNoCandidates(String input) {
+        assertEquals(List.of(), index.getCandidates(input));
+    }
+}
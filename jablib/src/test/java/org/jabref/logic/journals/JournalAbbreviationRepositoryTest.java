@@ -0,0 +1,65 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.journals.ltwa.LtwaRepository;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalAbbreviationRepositoryTest {
+
+    private static final Abbreviation PHYSICAL_REVIEW_LETTERS = new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL");
+
+    /**
+     * @param withLookupMaps whether the file contains the lookup maps, as generated by the current generator
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void readsAbbreviationsFromJournalList(boolean withLookupMaps, @TempDir Path tempDir) {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
+            fullToAbbreviation.put(PHYSICAL_REVIEW_LETTERS.getName(), PHYSICAL_REVIEW_LETTERS);
+            if (withLookupMaps) {
+                JournalAbbreviationRepository.fillLookupMaps(
+                        fullToAbbreviation,
+                        store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP_NAME),
+                        store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP_NAME),
+                        store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP_NAME));
+            }
+        }
+
+        try (JournalAbbreviationRepository repository = new JournalAbbreviationRepository(journalList, new LtwaRepository())) {
+            assertEquals(Optional.of(PHYSICAL_REVIEW_LETTERS), repository.get("Physical Review Letters"));
+            assertEquals(Optional.of(PHYSICAL_REVIEW_LETTERS), repository.get("Phys. Rev. Lett."));
+            assertEquals(Optional.of(PHYSICAL_REVIEW_LETTERS), repository.get("Phys Rev Lett"));
+            assertEquals(Optional.of(PHYSICAL_REVIEW_LETTERS), repository.get("PRL"));
+            assertTrue(repository.isAbbreviatedName("Phys Rev Lett"));
+            assertFalse(repository.isAbbreviatedName("Physical Review Letters"));
+            assertEquals(List.of(PHYSICAL_REVIEW_LETTERS), List.copyOf(repository.getAllLoaded()));
+        }
+    }
+
+    @Test
+    void closingRepositoryKeepsBuiltInListOpenForOthers() {
+        JournalAbbreviationRepository previous = JournalAbbreviationLoader.loadBuiltInRepository();
+        try (JournalAbbreviationRepository reloaded = JournalAbbreviationLoader.loadBuiltInRepository()) {
+            Set<String> fullNames = Set.copyOf(previous.getFullNames());
+            previous.close();
+
+            assertEquals(fullNames, Set.copyOf(reloaded.getFullNames()));
+        }
+    }
+}
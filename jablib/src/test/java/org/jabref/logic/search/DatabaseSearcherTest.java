@@ -54,6 +54,8 @@ public class DatabaseSearcherTest {
         when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
 
         postgreServer = new PostgreServer();
+        // Ensures that the searches use the index and not the in-memory fallback
+        postgreServer.awaitReady();
     }
 
     @AfterEach
@@ -71,6 +73,16 @@ public class DatabaseSearcherTest {
         assertEquals(expectedMatches, matches);
     }
 
+    @ParameterizedTest
+    @MethodSource("databaseSearcher")
+    void inMemoryDatabaseSearcher(List<BibEntry> expectedMatches, SearchQuery query, List<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            databaseContext.getDatabase().insertEntry(entry);
+        }
+        List<BibEntry> matches = new DatabaseSearcher(query, databaseContext, preferences).getMatches();
+        assertEquals(expectedMatches, matches);
+    }
+
     private static Stream<Arguments> databaseSearcher() {
         BibEntry emptyEntry = new BibEntry();
 
@@ -30,6 +30,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -86,6 +87,8 @@ class DatabaseSearcherWithBibFilesTest {
     @BeforeEach
     void setUp() {
         postgreServer = new PostgreServer();
+        // Ensures that the searches use the index and not the in-memory fallback
+        postgreServer.awaitReady();
     }
 
     @AfterEach
@@ -154,4 +157,24 @@ class DatabaseSearcherWithBibFilesTest {
         List<BibEntry> matches = new DatabaseSearcher(new SearchQuery(query, flags), databaseContext, TASK_EXECUTOR, preferences, postgreServer).getMatches();
         assertThat(expected, Matchers.containsInAnyOrder(matches.toArray()));
     }
+
+    @ParameterizedTest
+    @MethodSource("searchLibrary")
+    void searchLibraryInMemory(List<BibEntry> expected, String testFile, String query, boolean isFullText) throws URISyntaxException, IOException {
+        // The in-memory searcher does not support full-text search
+        Assumptions.assumeFalse(isFullText);
+        BibDatabaseContext databaseContext = initializeDatabaseFromPath(testFile);
+        List<BibEntry> matches = new DatabaseSearcher(new SearchQuery(query), databaseContext, preferences).getMatches();
+        assertThat(expected, Matchers.containsInAnyOrder(matches.toArray()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("searchLibrary")
+    void searchLibraryWithSingleQuery(List<BibEntry> expected, String testFile, String query, boolean isFullText) throws URISyntaxException, IOException {
+        // Full-text searches use the index of the linked files, but no Postgres server
+        BibDatabaseContext databaseContext = initializeDatabaseFromPath(testFile);
+        EnumSet<SearchFlags> flags = isFullText ? EnumSet.of(SearchFlags.FULLTEXT) : EnumSet.noneOf(SearchFlags.class);
+        List<BibEntry> matches = DatabaseSearcher.forSingleQuery(new SearchQuery(query, flags), databaseContext, TASK_EXECUTOR, preferences).getMatches();
+        assertThat(expected, Matchers.containsInAnyOrder(matches.toArray()));
+    }
 }
@@ -0,0 +1,120 @@
+package org.jabref.logic.search;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class IndexManagerTest {
+
+    private final CliPreferences preferences = mock(CliPreferences.class);
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    // Holds the action the index manager runs as soon as the server is ready
+    private final AtomicReference<Runnable> onReady = new AtomicReference<>();
+
+    private final BibEntry first = new BibEntry().withCitationKey("first").withField(StandardField.TITLE, "alpha");
+    private final BibEntry second = new BibEntry().withCitationKey("second").withField(StandardField.TITLE, "delta");
+
+    private PostgreServer postgreServer;
+    // A server that is not ready until the test says so
+    private PostgreServer startingServer;
+    private BibDatabaseContext databaseContext;
+    private IndexManager indexManager;
+
+    @TempDir
+    private Path indexDir;
+
+    @BeforeEach
+    void setUp() {
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+
+        databaseContext = spy(new BibDatabaseContext());
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
+        databaseContext.getDatabase().insertEntries(List.of(first, second));
+
+        postgreServer = new PostgreServer();
+        startingServer = mock(PostgreServer.class);
+        doAnswer(invocation -> {
+            onReady.set(invocation.getArgument(0));
+            return null;
+        }).when(startingServer).onReady(any());
+        when(startingServer.getConnection()).thenAnswer(_ -> postgreServer.getConnection());
+
+        indexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences, startingServer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexManager.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void searchesInMemoryUntilServerIsReady() {
+        assertEquals(List.of(first.getId()), search("title = alpha"));
+        assertTrue(indexManager.isEntryMatched(second, new SearchQuery("title = delta")));
+    }
+
+    @Test
+    void changesBeforeServerIsReadyAreIndexed() {
+        first.setField(StandardField.TITLE, "beta");
+        indexManager.updateEntry(new FieldChangedEvent(first, StandardField.TITLE, "beta", "alpha"));
+        BibEntry third = new BibEntry().withCitationKey("third").withField(StandardField.TITLE, "gamma");
+        databaseContext.getDatabase().insertEntry(third);
+        indexManager.addToIndex(List.of(third));
+        databaseContext.getDatabase().removeEntry(second);
+        indexManager.removeFromIndex(List.of(second));
+
+        onReady.get().run();
+        // Changes the entry without updating the index, so that only the index finds the previous value
+        first.setField(StandardField.TITLE, "epsilon");
+
+        assertEquals(List.of(first.getId()), search("title = beta"));
+        assertEquals(List.of(), search("title = alpha"));
+        assertEquals(List.of(third.getId()), search("title = gamma"));
+        assertEquals(List.of(), search("title = delta"));
+    }
+
+    @Test
+    void changesAfterServerIsReadyAreIndexedDirectly() {
+        onReady.get().run();
+
+        first.setField(StandardField.TITLE, "beta");
+        indexManager.updateEntry(new FieldChangedEvent(first, StandardField.TITLE, "beta", "alpha"));
+        first.setField(StandardField.TITLE, "epsilon");
+
+        assertEquals(List.of(first.getId()), search("title = beta"));
+    }
+
+    private List<String> search(String query) {
+        return List.copyOf(indexManager.search(new SearchQuery(query)).getMatchedEntries());
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.logic.search.retrieval;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LinkedFilesSearcherTest {
+    private static final String SENTENCE_FILE = "minimal-sentence-case.pdf";
+    private static final String NOTE_FILE = "minimal-note-sentence-case.pdf";
+
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+
+    private LuceneIndexer indexer;
+    private LinkedFilesSearcher searcher;
+
+    @BeforeEach
+    void setUp(@TempDir Path indexDir) throws IOException {
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
+
+        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        when(context.getDatabasePath()).thenReturn(Optional.of(Path.of("src/test/resources/org/jabref/logic/search/")));
+        when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/org/jabref/logic/search")));
+        when(context.getFulltextIndexPath()).thenReturn(indexDir);
+
+        indexer = new DefaultLinkedFilesIndexer(context, filePreferences);
+        indexer.addToIndex(List.of(
+                new BibEntry(StandardEntryType.Misc).withFiles(List.of(new LinkedFile("", SENTENCE_FILE, StandardFileType.PDF.getName()))),
+                new BibEntry(StandardEntryType.Misc).withFiles(List.of(new LinkedFile("", NOTE_FILE, StandardFileType.PDF.getName())))
+        ), mock(BackgroundTask.class));
+        searcher = new LinkedFilesSearcher(context, indexer, filePreferences);
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void findMostRelevantFilesMatchesAnyWordOfText() {
+        assertEquals(List.of(NOTE_FILE), searcher.findMostRelevantFiles("Which paper says hello?", List.of(SENTENCE_FILE, NOTE_FILE), 10));
+    }
+
+    @Test
+    void findMostRelevantFilesIgnoresOtherFiles() {
+        assertEquals(List.of(SENTENCE_FILE), searcher.findMostRelevantFiles("comma hello", List.of(SENTENCE_FILE), 10));
+    }
+
+    @Test
+    void findMostRelevantFilesTreatsSearchSyntaxAsText() {
+        assertEquals(List.of(), searcher.findMostRelevantFiles("title:(\"missing AND", List.of(SENTENCE_FILE, NOTE_FILE), 10));
+    }
+
+    @Test
+    void findIndexedFilesSkipsFilesNotInIndex() {
+        assertEquals(Set.of(SENTENCE_FILE), searcher.findIndexedFiles(List.of(SENTENCE_FILE, "missing.pdf")));
+    }
+}
@@ -0,0 +1,112 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.texparser.LatexParserResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingLatexParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path indexFile;
+    private Path texFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        indexFile = tempDir.resolve("index").resolve("citations.mv");
+        texFile = Files.writeString(tempDir.resolve("paper.tex"), """
+                \\cite{Einstein1920}
+                % \\cite{Commented}
+                \\citep[p. 1]{Darwin1888, Newton1999}
+                """);
+    }
+
+    @Test
+    void resultIsEqualToDefaultParser() {
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            assertEquals(new DefaultLatexParser().parse(texFile), parser.parse(texFile));
+        }
+    }
+
+    @Test
+    void resultIsRestoredFromIndexInNextSession() throws IOException {
+        Optional<LatexParserResult> expected = new DefaultLatexParser().parse(texFile);
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            parser.parse(List.of(texFile));
+        }
+
+        // Changes keeping size and modification time are not noticed, thus the result has to come from the index
+        FileTime lastModified = Files.getLastModifiedTime(texFile);
+        Files.writeString(texFile, Files.readString(texFile).replace("Einstein1920", "Einstein1921"));
+        Files.setLastModifiedTime(texFile, lastModified);
+
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            assertEquals(expected, parser.parse(texFile));
+        }
+    }
+
+    @Test
+    void changedFileIsParsedAgain() throws IOException {
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            parser.parse(texFile);
+
+            Files.writeString(texFile, "\\cite{Einstein1920}\n");
+            Files.setLastModifiedTime(texFile, FileTime.fromMillis(Files.getLastModifiedTime(texFile).toMillis() + 1000));
+
+            assertEquals(new DefaultLatexParser().parse(texFile), parser.parse(texFile));
+        }
+    }
+
+    @Test
+    void referencedFilesCreatedLaterAreFound() throws IOException {
+        Path mainFile = Files.writeString(tempDir.resolve("main.tex"), """
+                \\input{chapter}
+                \\bibliography{references}
+                """);
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            parser.parse(List.of(mainFile));
+        }
+
+        Path chapterFile = Files.writeString(tempDir.resolve("chapter.tex"), "\\cite{Einstein1920}\n");
+        Path bibFile = Files.writeString(tempDir.resolve("references.bib"), "");
+
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            LatexParserResult result = parser.parse(mainFile).orElseThrow();
+            assertEquals(List.of(chapterFile), result.getNestedFiles());
+            assertEquals(List.of(bibFile), result.getBibFiles());
+        }
+    }
+
+    @Test
+    void missingFileIsDroppedFromIndex() throws IOException {
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            parser.parse(List.of(texFile));
+        }
+        String content = Files.readString(texFile);
+        FileTime lastModified = Files.getLastModifiedTime(texFile);
+        Files.delete(texFile);
+
+        // Closing the index drops the deleted file
+        new CachingLatexParser(indexFile).close();
+
+        // Recreates the file with the same size and modification time, so that only a dropped file is parsed again
+        Files.writeString(texFile, content.replace("Einstein1920", "Einstein1921"));
+        Files.setLastModifiedTime(texFile, lastModified);
+
+        try (CachingLatexParser parser = new CachingLatexParser(indexFile)) {
+            assertEquals(new DefaultLatexParser().parse(texFile), parser.parse(texFile));
+        }
+    }
+}
@@ -69,6 +69,17 @@ class CitationKeyBasedFileFinderTest {
         assertEquals(Arrays.asList(jpgFile, pdfFile), results);
     }
 
+    @Test
+    void findAssociatedFilesInSubDirectoriesUsingSnapshot() throws IOException {
+        List<String> extensions = Arrays.asList("jpg", "pdf");
+        List<Path> dirs = Arrays.asList(graphicsDir, pdfsDir);
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(false, DirectorySnapshot.of(dirs));
+
+        List<Path> results = fileFinder.findAssociatedFiles(entry, dirs, extensions);
+
+        assertEquals(Arrays.asList(jpgFile, pdfFile), results);
+    }
+
     @Test
     void findAssociatedFilesIgnoresFilesStartingWithKeyButContinueWithText() throws IOException {
         Files.createFile(pdfsDir.resolve("HipKro03a - Hello second paper.pdf"));
@@ -0,0 +1,72 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectorySnapshotTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path pdfFile;
+    private Path subPdfFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        rootDir = tempDir;
+        subDir = Files.createDirectories(rootDir.resolve("sub/subsub"));
+        pdfFile = Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        subPdfFile = Files.createFile(subDir.resolve("HipKro03 - Hippel.pdf"));
+    }
+
+    @Test
+    void getFilesReturnsDirectChildrenOnly() throws IOException {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+
+        assertEquals(List.of(pdfFile), snapshot.getFiles(rootDir));
+        assertEquals(List.of(subDir), snapshot.getAllSubdirectories(rootDir.resolve("sub")));
+    }
+
+    @Test
+    void getFilesStartingWithFindsFilesInAllDirectories() throws IOException {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+
+        assertEquals(Set.of(pdfFile, subPdfFile), snapshot.getFilesStartingWith("HipKro03").collect(Collectors.toSet()));
+    }
+
+    @Test
+    void getFilesStartingWithIgnoresCase() throws IOException {
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+
+        assertEquals(Set.of(pdfFile, subPdfFile), snapshot.getFilesStartingWith("hipkro03").collect(Collectors.toSet()));
+    }
+
+    @Test
+    void emptyDirectoryIsContained() throws IOException {
+        Path emptyDir = Files.createDirectory(rootDir.resolve("empty"));
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir));
+
+        assertTrue(snapshot.contains(emptyDir));
+        assertEquals(List.of(), snapshot.getFiles(emptyDir));
+    }
+
+    @Test
+    void missingDirectoryIsNotContained() throws IOException {
+        Path missing = rootDir.resolve("missing");
+        DirectorySnapshot snapshot = DirectorySnapshot.of(List.of(rootDir, missing));
+
+        assertTrue(snapshot.contains(subDir));
+        assertFalse(snapshot.contains(missing));
+    }
+}
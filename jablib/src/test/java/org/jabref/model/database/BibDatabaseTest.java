@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
@@ -16,6 +17,7 @@ import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -313,6 +315,88 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void changesInChangeBatchArePostedMergedWhenBatchEnds() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        database.insertEntries(entry1, entry2);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            entry1.setField(StandardField.TITLE, "first");
+            entry2.setField(StandardField.TITLE, "other");
+            try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+                entry1.setField(StandardField.TITLE, "second");
+            }
+            assertNull(tel.getChangedEntry());
+        }
+
+        assertEquals(List.of(entry1, entry2), tel.getChangedEntries());
+        assertEquals(2, tel.getFieldChanges().size());
+        assertNull(tel.getFieldChanges().getFirst().getOldValue());
+        assertEquals("second", tel.getFieldChanges().getFirst().getNewValue());
+        assertTrue(tel.getFieldChanges().getFirst().isPartOfChangeBatch());
+        assertEquals(entry2, tel.getChangedEntry());
+    }
+
+    @Test
+    void changeRevertedInChangeBatchIsNotPosted() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title");
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            entry.setField(StandardField.TITLE, "changed");
+            entry.setField(StandardField.TITLE, "title");
+        }
+
+        assertNull(tel.getChangedEntry());
+        assertNull(tel.getFieldChanges());
+    }
+
+    @Test
+    void changesOfOtherThreadArePostedDuringChangeBatch() throws InterruptedException {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        database.insertEntries(entry1, entry2);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            entry1.setField(StandardField.TITLE, "batched");
+            Thread otherThread = new Thread(() -> entry2.setField(StandardField.TITLE, "immediate"));
+            otherThread.start();
+            otherThread.join();
+
+            assertEquals(entry2, tel.getChangedEntry());
+            assertNull(tel.getChangedEntries());
+        }
+
+        assertEquals(List.of(entry1), tel.getChangedEntries());
+    }
+
+    @Test
+    void changesInChangeBatchArePostedWhileRemovedEntryIsInDatabase() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<Boolean> entryInDatabase = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(EntriesChangedEvent event) {
+                entryInDatabase.add(database.getEntries().contains(entry));
+            }
+        });
+
+        try (BibDatabase.ChangeBatch _ = database.startChangeBatch()) {
+            entry.setField(StandardField.TITLE, "title");
+            database.removeEntry(entry);
+        }
+
+        assertEquals(List.of(true), entryInDatabase);
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
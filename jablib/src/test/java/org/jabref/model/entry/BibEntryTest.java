@@ -10,6 +10,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javafx.beans.Observable;
+import javafx.collections.MapChangeListener;
+
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -846,4 +849,38 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void fieldsObservableCreatedAfterSettingFieldsContainsThemAndNotifiesChanges() {
+        entry.setField(StandardField.TITLE, "title");
+        List<Field> changedFields = new ArrayList<>();
+        entry.getFieldsObservable().addListener((MapChangeListener<Field, String>) change -> changedFields.add(change.getKey()));
+
+        entry.setField(StandardField.AUTHOR, "author");
+
+        assertEquals(Map.of(StandardField.TITLE, "title", StandardField.AUTHOR, "author"), entry.getFieldsObservable());
+        assertEquals(List.of(StandardField.AUTHOR), changedFields);
+    }
+
+    @Test
+    void typePropertyCreatedAfterSettingTypeFollowsType() {
+        entry.setType(StandardEntryType.Article);
+        assertEquals(StandardEntryType.Article, entry.typeProperty().get());
+
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, entry.typeProperty().get());
+        assertEquals(StandardEntryType.Book, entry.getType());
+    }
+
+    @Test
+    void changeObservableIsInvalidatedOnFieldAndTypeChanges() {
+        List<Observable> invalidations = new ArrayList<>();
+        entry.getChangeObservable().addListener(invalidations::add);
+
+        entry.setField(StandardField.TITLE, "title");
+        entry.setType(StandardEntryType.Article);
+        entry.clearField(StandardField.TITLE);
+
+        assertEquals(3, invalidations.size());
+    }
 }
@@ -0,0 +1,71 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldMapTest {
+
+    private final FieldMap fieldMap = new FieldMap();
+
+    @Test
+    void behavesLikeHashMapWhenGrowingAndShrinking() {
+        Map<Field, String> expected = new HashMap<>();
+        for (StandardField field : StandardField.values()) {
+            fieldMap.put(field, field.getName());
+            expected.put(field, field.getName());
+        }
+        for (int i = 0; i < 50; i++) {
+            fieldMap.put(new UnknownField("custom" + i), "value" + i);
+            expected.put(new UnknownField("custom" + i), "value" + i);
+        }
+        assertEquals(expected, fieldMap);
+
+        for (StandardField field : StandardField.values()) {
+            if (field.ordinal() % 2 == 0) {
+                assertEquals(field.getName(), fieldMap.remove(field));
+                expected.remove(field);
+            }
+        }
+        assertEquals(expected, fieldMap);
+        assertEquals(expected.size(), fieldMap.size());
+    }
+
+    @Test
+    void putReturnsPreviousValue() {
+        assertNull(fieldMap.put(StandardField.TITLE, "first"));
+        assertEquals("first", fieldMap.put(StandardField.TITLE, "second"));
+        assertEquals(Map.of(StandardField.TITLE, "second"), fieldMap);
+    }
+
+    @Test
+    void removeOfMissingFieldDoesNothing() {
+        fieldMap.put(StandardField.TITLE, "title");
+        assertNull(fieldMap.remove(StandardField.AUTHOR));
+        assertEquals(Map.of(StandardField.TITLE, "title"), fieldMap);
+    }
+
+    @Test
+    void iteratorIsNotAffectedByLaterChanges() {
+        fieldMap.putAll(Map.of(StandardField.TITLE, "title", StandardField.AUTHOR, "author"));
+        Iterator<Map.Entry<Field, String>> iterator = fieldMap.entrySet().iterator();
+
+        fieldMap.clear();
+
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        assertTrue(fieldMap.isEmpty());
+    }
+}
@@ -0,0 +1,41 @@
+package org.jabref.model.entry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParsedSerializationBufferTest {
+
+    private final ParsedSerializationBuffer buffer = new ParsedSerializationBuffer();
+
+    @Test
+    void getReturnsAppendedTextBeforeAndAfterSealing() {
+        String text = "@Article{key,\n  title = {Über Größen},\n}\n";
+        long position = buffer.append(text);
+
+        assertEquals(text, buffer.get(position, text.length()));
+
+        buffer.seal();
+
+        assertEquals(text, buffer.get(position, text.length()));
+    }
+
+    @Test
+    void getReturnsEachTextOfManyChunksInAnyOrder() {
+        List<String> texts = new ArrayList<>();
+        List<Long> positions = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String text = "@Misc{key" + i + ",\n  note = {Entry number " + i + "},\n}\n";
+            texts.add(text);
+            positions.add(buffer.append(text));
+        }
+        buffer.seal();
+
+        for (int i = texts.size() - 1; i >= 0; i -= 7) {
+            assertEquals(texts.get(i), buffer.get(positions.get(i), texts.get(i).length()));
+        }
+    }
+}
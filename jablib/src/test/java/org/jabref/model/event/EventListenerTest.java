@@ -3,9 +3,11 @@ package org.jabref.model.event;
 import java.util.List;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -15,6 +17,8 @@ public class EventListenerTest {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private List<BibEntry> changedEntries;
+    private List<FieldChangedEvent> fieldChanges;
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -32,6 +36,12 @@ public class EventListenerTest {
         this.changedEntry = event.getBibEntry();
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        this.changedEntries = event.getBibEntries();
+        this.fieldChanges = event.getFieldChanges();
+    }
+
     public List<BibEntry> getAddedEntries() {
         return addedEntries;
     }
@@ -47,4 +57,12 @@ public class EventListenerTest {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public List<BibEntry> getChangedEntries() {
+        return changedEntries;
+    }
+
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
 }
@@ -0,0 +1,21 @@
+package org.jabref.http.dto;
+
+import java.util.List;
+
+/**
+ * The data transfer object (DTO) for an entry matching a search
+ *
+ * @param entry the matching entry
+ * @param fulltextHits the matches in the linked files of the entry (empty if no full-text search was requested)
+ */
+public record SearchHitDTO(BibEntryDTO entry, List<FulltextHitDTO> fulltextHits) {
+
+    /**
+     * @param path the link of the file as stored in the entry
+     * @param pageNumber the page the match was found on
+     * @param content highlighted fragments of the page content
+     * @param annotations highlighted fragments of the page annotations
+     */
+    public record FulltextHitDTO(String path, int pageNumber, List<String> content, List<String> annotations) {
+    }
+}
@@ -0,0 +1,14 @@
+package org.jabref.http.dto;
+
+import java.util.List;
+
+/**
+ * The data transfer object (DTO) for one page of search results in a library
+ *
+ * @param query the search expression as sent by the client
+ * @param totalHits the number of matching entries in the whole library
+ * @param offset the index of the first hit of this page
+ * @param hits the matching entries of this page in the order they appear in the library
+ */
+public record SearchResultsDTO(String query, int totalHits, int offset, List<SearchHitDTO> hits) {
+}
@@ -2,29 +2,42 @@ package org.jabref.http.server;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.dto.SearchHitDTO;
+import org.jabref.http.dto.SearchResultsDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.IndexedLibraries;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
@@ -40,6 +53,9 @@ public class LibraryResource {
     @Inject
     FilesToServe filesToServe;
 
+    @Inject
+    IndexedLibraries indexedLibraries;
+
     @Inject
     Gson gson;
 
@@ -64,6 +80,73 @@ public class LibraryResource {
         return jabRefItemDataProvider.toJson();
     }
 
+    /**
+     * Searches the library using JabRef's search syntax.
+     *
+     * @param query    the search expression
+     * @param fulltext whether the linked files should be searched, too
+     * @param offset   the number of hits to skip (for paging)
+     * @param limit    the maximum number of hits to return
+     */
+    @GET
+    @Path("search")
+    @Produces(MediaType.APPLICATION_JSON)
+    public String search(@PathParam("id") String id,
+                         @QueryParam("q") String query,
+                         @QueryParam("fulltext") @DefaultValue("false") boolean fulltext,
+                         @QueryParam("offset") @DefaultValue("0") int offset,
+                         @QueryParam("limit") @DefaultValue("50") int limit) {
+        if (query == null || offset < 0 || limit < 0) {
+            throw new BadRequestException("Parameter q is required, offset and limit must not be negative");
+        }
+        EnumSet<SearchFlags> searchFlags = fulltext ? EnumSet.of(SearchFlags.FULLTEXT) : EnumSet.noneOf(SearchFlags.class);
+        SearchQuery searchQuery = new SearchQuery(query, searchFlags);
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search expression: " + query);
+        }
+
+        java.nio.file.Path library = getLibraryPath(id);
+        IndexedLibraries.IndexedLibrary indexedLibrary;
+        try {
+            indexedLibrary = indexedLibraries.getIndexedLibrary(library);
+        } catch (IOException e) {
+            LOGGER.warn("Could not index library {}", library, e);
+            throw new InternalServerErrorException("Could not index library", e);
+        }
+
+        SearchResults searchResults = indexedLibrary.search(searchQuery);
+        BibDatabaseContext databaseContext = indexedLibrary.databaseContext();
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+
+        // Only the entries of the requested page are converted; the other matches are counted only
+        int totalHits = 0;
+        List<SearchHitDTO> hits = new ArrayList<>();
+        for (BibEntry entry : databaseContext.getEntries()) {
+            if (!searchResults.isMatched(entry)) {
+                continue;
+            }
+            if (totalHits >= offset && hits.size() < limit) {
+                hits.add(new SearchHitDTO(
+                        new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager),
+                        getFulltextHits(searchResults, entry)));
+            }
+            totalHits++;
+        }
+        return gson.toJson(new SearchResultsDTO(query, totalHits, offset, hits));
+    }
+
+    private static List<SearchHitDTO.FulltextHitDTO> getFulltextHits(SearchResults searchResults, BibEntry entry) {
+        return searchResults.getFileSearchResultsForEntry(entry)
+                            .values().stream()
+                            .flatMap(List::stream)
+                            .map(result -> new SearchHitDTO.FulltextHitDTO(
+                                    result.getPath(),
+                                    result.getPageNumber(),
+                                    result.getContentResultStringsHtml(),
+                                    result.getAnnotationsResultStringsHtml()))
+                            .toList();
+    }
+
     private ParserResult getParserResult(String id) {
         java.nio.file.Path library = getLibraryPath(id);
         ParserResult parserResult;
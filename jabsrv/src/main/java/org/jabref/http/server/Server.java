@@ -14,6 +14,7 @@ import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.IndexedLibraries;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 
@@ -105,6 +106,8 @@ public class Server {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
+        IndexedLibraries indexedLibraries = new IndexedLibraries(JabRefCliPreferences.getInstance());
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, indexedLibraries);
 
         try {
             final HttpServer httpServer = startServer(serviceLocator);
@@ -114,6 +117,7 @@ public class Server {
                 try {
                     System.out.println("Shutting down jabsrv...");
                     httpServer.shutdownNow();
+                    indexedLibraries.close();
                     System.out.println("Done, exit.");
                 } catch (Exception e) {
                     LOGGER.error("Could not shut down server", e);
@@ -0,0 +1,97 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps every served library parsed and indexed, so that searches are answered from a warm index instead of re-parsing the library on each request.
+ * <p>
+ * A library is (re-)indexed on its first search and whenever the file on disk has been modified since it was last indexed.
+ */
+@Singleton
+public class IndexedLibraries {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedLibraries.class);
+
+    private final CliPreferences preferences;
+    private final Map<Path, IndexedLibrary> libraries = new ConcurrentHashMap<>();
+    private PostgreServer postgreServer;
+
+    public IndexedLibraries(CliPreferences preferences) {
+        this.preferences = preferences;
+    }
+
+    public IndexedLibrary getIndexedLibrary(Path library) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(library);
+        IndexedLibrary indexedLibrary = libraries.get(library);
+        if (indexedLibrary != null && indexedLibrary.lastModified().equals(lastModified)) {
+            return indexedLibrary;
+        }
+        synchronized (libraries) {
+            indexedLibrary = libraries.get(library);
+            if (indexedLibrary != null) {
+                if (indexedLibrary.lastModified().equals(lastModified)) {
+                    return indexedLibrary;
+                }
+                LOGGER.debug("Library {} changed on disk, re-indexing", library);
+                indexedLibrary.indexManager().closeAndWait();
+            }
+            indexedLibrary = index(library, lastModified);
+            libraries.put(library, indexedLibrary);
+            return indexedLibrary;
+        }
+    }
+
+    private IndexedLibrary index(Path library, FileTime lastModified) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ParserResult parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+        BibDatabaseContext databaseContext = parserResult.getDatabaseContext();
+        // The Postgres server starts in the background; until the library is indexed there, searches are answered by the in-memory searcher
+        IndexManager indexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences, getPostgreServer());
+        LOGGER.debug("Indexing library {} took {} ms", library, System.currentTimeMillis() - startTime);
+        return new IndexedLibrary(databaseContext, indexManager, lastModified);
+    }
+
+    // Called with the lock on libraries held only
+    private PostgreServer getPostgreServer() {
+        if (postgreServer == null) {
+            postgreServer = new PostgreServer();
+        }
+        return postgreServer;
+    }
+
+    public void close() {
+        synchronized (libraries) {
+            libraries.values().forEach(library -> library.indexManager().closeAndWait());
+            libraries.clear();
+            if (postgreServer != null) {
+                postgreServer.shutdown();
+                postgreServer = null;
+            }
+        }
+    }
+
+    public record IndexedLibrary(BibDatabaseContext databaseContext, IndexManager indexManager, FileTime lastModified) {
+        public SearchResults search(SearchQuery query) {
+            return indexManager.search(query);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package org.jabref.http.server;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
 import org.jabref.http.JabrefMediaType;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -14,6 +24,7 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addIndexedLibrariesToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
@@ -37,4 +48,74 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void searchWithInvalidQueryIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search")
+                .queryParam("q", "(title = demo")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void searchReturnsMatchingEntries() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.SEARCH_SERVER_TEST));
+
+        JsonObject result = search("title = chocolate", false, 0, 50);
+
+        assertEquals(2, result.get("totalHits").getAsInt());
+        assertEquals(List.of("Smith2020chocolate", "Jones2022chocolate"), getCitationKeys(result));
+    }
+
+    @Test
+    void searchReturnsRequestedPage() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.SEARCH_SERVER_TEST));
+
+        JsonObject result = search("title = chocolate", false, 1, 1);
+
+        assertEquals(2, result.get("totalHits").getAsInt());
+        assertEquals(1, result.get("offset").getAsInt());
+        assertEquals(List.of("Jones2022chocolate"), getCitationKeys(result));
+    }
+
+    @Test
+    void searchBeyondLastPageReturnsNoHits() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.SEARCH_SERVER_TEST));
+
+        JsonObject result = search("title = chocolate", false, 5, 10);
+
+        assertEquals(2, result.get("totalHits").getAsInt());
+        assertEquals(List.of(), getCitationKeys(result));
+    }
+
+    @Test
+    void fulltextSearchReturnsFieldMatches() {
+        setAvailableLibraries(EnumSet.of(TestBibFile.SEARCH_SERVER_TEST));
+
+        JsonObject result = search("coffee", true, 0, 50);
+
+        assertEquals(List.of("Miller2021coffee"), getCitationKeys(result));
+        // No linked files are indexed
+        assertTrue(result.getAsJsonArray("hits").get(0).getAsJsonObject().getAsJsonArray("fulltextHits").isEmpty());
+    }
+
+    private JsonObject search(String query, boolean fulltext, int offset, int limit) {
+        String response = target("/libraries/" + TestBibFile.SEARCH_SERVER_TEST.id + "/search")
+                .queryParam("q", query)
+                .queryParam("fulltext", fulltext)
+                .queryParam("offset", offset)
+                .queryParam("limit", limit)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class);
+        return JsonParser.parseString(response).getAsJsonObject();
+    }
+
+    private static List<String> getCitationKeys(JsonObject result) {
+        List<String> citationKeys = new ArrayList<>();
+        for (JsonElement hit : result.getAsJsonArray("hits")) {
+            citationKeys.add(hit.getAsJsonObject().getAsJsonObject("entry").get("citationKey").getAsString());
+        }
+        return citationKeys;
+    }
 }
@@ -3,9 +3,13 @@ package org.jabref.http.server;
 import java.util.EnumSet;
 import java.util.List;
 
+import javafx.beans.property.SimpleBooleanProperty;
+
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.IndexedLibraries;
+import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
@@ -15,6 +19,7 @@ import com.google.gson.Gson;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.slf4j.bridge.SLF4JBridgeHandler;
@@ -36,6 +41,8 @@ abstract class ServerTest extends JerseyTest {
 
     private static final FilesToServe FILES_TO_SERVE = new FilesToServe();
 
+    private IndexedLibraries indexedLibraries;
+
     @BeforeAll
     static void installLoggingBridge() {
         // Grizzly uses java.commons.logging, but we use TinyLog
@@ -51,6 +58,14 @@ abstract class ServerTest extends JerseyTest {
         FILES_TO_SERVE.setFilesToServe(List.of(TestBibFile.GENERAL_SERVER_TEST.path));
     }
 
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (indexedLibraries != null) {
+            indexedLibraries.close();
+        }
+        super.tearDown();
+    }
+
     protected void addFilesToServeToResourceConfig(ResourceConfig resourceConfig) {
         resourceConfig.register(new AbstractBinder() {
             @Override
@@ -60,6 +75,16 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addIndexedLibrariesToResourceConfig(ResourceConfig resourceConfig) {
+        indexedLibraries = new IndexedLibraries(preferences);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(indexedLibraries).to(IndexedLibraries.class);
+            }
+        });
+    }
+
     protected void addGsonToResourceConfig(ResourceConfig resourceConfig) {
         resourceConfig.register(new AbstractBinder() {
             @Override
@@ -91,6 +116,12 @@ abstract class ServerTest extends JerseyTest {
         BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
         when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+
+        // Used by the index of the searched libraries; linked files are not indexed
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
 
         FieldPreferences fieldWriterPreferences = mock(FieldPreferences.class);
         when(preferences.getFieldPreferences()).thenReturn(fieldWriterPreferences);